@@ -0,0 +1,232 @@
+package com.example.demo.archive;
+
+import com.example.demo.dto.request.LogSearchRequest;
+import com.example.demo.dto.response.LogResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Salt okunur bir log arşiv segmenti (bkz. {@link LogSegmentWriter}).
+ *
+ * İndeks dosyası belleğe eşlenir (memory-mapped) ve blok seçimi yalnızca bu eşlenmiş bellek
+ * üzerinden yapılır: zaman aralığı veya keyset sınırıyla kesişmeyen ve memberId bloom filtresinde
+ * bulunmayan bloklar diskten hiç okunmaz. Seçilen bloklar konumlu okuma ile alınıp açılır.
+ *
+ * İndeks düzeni (little-endian):
+ * - Başlık (40 bayt): magic, sürüm, blok sayısı, ayrılmış, kayıt sayısı, min ve max timestamp (mikrosaniye)
+ * - Blok kaydı (64 bayt): veri konumu, sıkıştırılmış uzunluk, kayıt sayısı, min ve max timestamp,
+ *   256 bitlik memberId bloom filtresi
+ */
+public class LogSegment implements Closeable {
+
+    static final int MAGIC = 0x4E4C4958; // "NLIX"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 40;
+    static final int ENTRY_BYTES = 64;
+    static final int BLOOM_WORDS = 4;
+
+    private final String name;
+    private final Path dataFile;
+    private final Path indexFile;
+    private final FileChannel data;
+    private final MappedByteBuffer index;
+    private final int blockCount;
+    private final long rowCount;
+    private final long minMicros;
+    private final long maxMicros;
+
+    public LogSegment(String name, Path dataFile, Path indexFile) throws IOException {
+        this.name = name;
+        this.dataFile = dataFile;
+        this.indexFile = indexFile;
+        try (FileChannel indexChannel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = indexChannel.map(FileChannel.MapMode.READ_ONLY, 0, indexChannel.size());
+            mapped.order(ByteOrder.LITTLE_ENDIAN);
+            this.index = mapped;
+        }
+        if (index.capacity() < HEADER_BYTES || index.getInt(0) != MAGIC || index.getInt(4) != VERSION) {
+            throw new IOException("Geçersiz arşiv indeksi: " + indexFile);
+        }
+        this.blockCount = index.getInt(8);
+        this.rowCount = index.getLong(16);
+        this.minMicros = index.getLong(24);
+        this.maxMicros = index.getLong(32);
+        if (index.capacity() < HEADER_BYTES + (long) blockCount * ENTRY_BYTES) {
+            throw new IOException("Arşiv indeksi eksik: " + indexFile);
+        }
+        this.data = FileChannel.open(dataFile, StandardOpenOption.READ);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Path getDataFile() {
+        return dataFile;
+    }
+
+    public Path getIndexFile() {
+        return indexFile;
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    public OffsetDateTime getMinTimestamp() {
+        return fromMicros(minMicros);
+    }
+
+    public OffsetDateTime getMaxTimestamp() {
+        return fromMicros(maxMicros);
+    }
+
+    /**
+     * Filtreye uyan kayıtları (timestamp, id) azalan sırada en fazla limit adet döner.
+     *
+     * @param beforeTimestamp Keyset sınırı; verilirse yalnızca (timestamp, id) &lt; (beforeTimestamp, beforeId) kayıtlar döner
+     */
+    public List<LogResponse> searchDescending(LogSearchRequest filter, OffsetDateTime beforeTimestamp, Long beforeId,
+                                              int limit, ObjectMapper objectMapper) throws IOException {
+        List<LogResponse> result = new ArrayList<>();
+        if (rowCount == 0 || limit <= 0) {
+            return result;
+        }
+        long lowerMicros = filter.getFrom() != null ? toMicros(filter.getFrom()) : Long.MIN_VALUE;
+        long upperMicros = Long.MAX_VALUE; // dahil
+        if (filter.getTo() != null) {
+            upperMicros = toMicros(filter.getTo()) - 1;
+        }
+        if (beforeTimestamp != null) {
+            upperMicros = Math.min(upperMicros, toMicros(beforeTimestamp));
+        }
+        if (maxMicros < lowerMicros || minMicros > upperMicros) {
+            return result;
+        }
+
+        for (int block = blockCount - 1; block >= 0 && result.size() < limit; block--) {
+            int entry = HEADER_BYTES + block * ENTRY_BYTES;
+            long blockMin = index.getLong(entry + 16);
+            long blockMax = index.getLong(entry + 24);
+            if (blockMin > upperMicros) {
+                continue;
+            }
+            if (blockMax < lowerMicros) {
+                break; // bloklar zamana göre artan sırada; daha eskiler de aralık dışında
+            }
+            if (filter.getMemberId() != null && !bloomContains(entry + 32, filter.getMemberId())) {
+                continue;
+            }
+            List<LogResponse> rows = readBlock(index.getLong(entry), index.getInt(entry + 8), index.getInt(entry + 12), objectMapper);
+            for (int i = rows.size() - 1; i >= 0 && result.size() < limit; i--) {
+                LogResponse row = rows.get(i);
+                if (matches(row, filter) && isBefore(row, beforeTimestamp, beforeId)) {
+                    result.add(row);
+                }
+            }
+        }
+        return result;
+    }
+
+    private List<LogResponse> readBlock(long offset, int length, int rows, ObjectMapper objectMapper) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (data.read(buffer, offset + buffer.position()) < 0) {
+                throw new IOException("Arşiv bloğu eksik: " + dataFile + " @" + offset);
+            }
+        }
+        List<LogResponse> result = new ArrayList<>(rows);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(new ByteArrayInputStream(buffer.array())), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    result.add(objectMapper.readValue(line, LogResponse.class));
+                }
+            }
+        }
+        return result;
+    }
+
+    private static boolean matches(LogResponse row, LogSearchRequest filter) {
+        if (filter.getSource() != null && !filter.getSource().equals(row.getSource())) {
+            return false;
+        }
+        if (filter.getLogLevel() != null && !filter.getLogLevel().equals(row.getLogLevel())) {
+            return false;
+        }
+        if (filter.getMemberId() != null && !filter.getMemberId().equals(row.getMemberId())) {
+            return false;
+        }
+        if (filter.getRequestPathPrefix() != null && !filter.getRequestPathPrefix().isEmpty()
+                && (row.getRequestPath() == null || !row.getRequestPath().startsWith(filter.getRequestPathPrefix()))) {
+            return false;
+        }
+        if (filter.getFrom() != null && row.getTimestamp().isBefore(filter.getFrom())) {
+            return false;
+        }
+        return filter.getTo() == null || row.getTimestamp().isBefore(filter.getTo());
+    }
+
+    private static boolean isBefore(LogResponse row, OffsetDateTime beforeTimestamp, Long beforeId) {
+        if (beforeTimestamp == null || beforeId == null) {
+            return true;
+        }
+        int cmp = row.getTimestamp().toInstant().compareTo(beforeTimestamp.toInstant());
+        return cmp < 0 || (cmp == 0 && row.getId() < beforeId);
+    }
+
+    private boolean bloomContains(int offset, int memberId) {
+        int hash = mix(memberId);
+        int first = hash & 0xFF;
+        int second = (hash >>> 8) & 0xFF;
+        return (index.getLong(offset + (first >>> 6) * 8) & (1L << first)) != 0
+                && (index.getLong(offset + (second >>> 6) * 8) & (1L << second)) != 0;
+    }
+
+    static void addToBloom(long[] bloom, int memberId) {
+        int hash = mix(memberId);
+        int first = hash & 0xFF;
+        int second = (hash >>> 8) & 0xFF;
+        bloom[first >>> 6] |= 1L << first;
+        bloom[second >>> 6] |= 1L << second;
+    }
+
+    private static int mix(int value) {
+        int h = value * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    static long toMicros(OffsetDateTime timestamp) {
+        Instant instant = timestamp.toInstant();
+        return instant.getEpochSecond() * 1_000_000L + instant.getNano() / 1_000;
+    }
+
+    private static OffsetDateTime fromMicros(long micros) {
+        return OffsetDateTime.ofInstant(Instant.EPOCH.plus(micros, ChronoUnit.MICROS), ZoneOffset.UTC);
+    }
+
+    @Override
+    public void close() throws IOException {
+        data.close();
+    }
+}
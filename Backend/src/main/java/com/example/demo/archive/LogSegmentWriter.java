@@ -0,0 +1,150 @@
+package com.example.demo.archive;
+
+import com.example.demo.dto.response.LogResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Zaman sırasına göre (timestamp, id artan) gelen log kayıtlarını bir arşiv segmentine yazar.
+ *
+ * Veri dosyası blockRows kayıtlık, gzip ile sıkıştırılmış NDJSON bloklarının art arda eklenmesinden
+ * oluşur. Her blok için indeks dosyasına sabit boyutlu bir kayıt yazılır (bkz. {@link LogSegment}):
+ * dosyadaki konumu, kayıt sayısı, min/max timestamp ve bloktaki memberId'lerin 256 bitlik bloom
+ * filtresi. İndeks dosyası en son yazılır; indeksi olmayan bir segment tamamlanmamış sayılır.
+ */
+public class LogSegmentWriter implements Closeable {
+
+    private final ObjectMapper objectMapper;
+    private final int blockRows;
+    private final FileChannel data;
+    private final Path indexFile;
+
+    private final ByteArrayOutputStream blockBuffer = new ByteArrayOutputStream(64 * 1024);
+    private final List<ByteBuffer> indexEntries = new ArrayList<>();
+    private final long[] blockBloom = new long[LogSegment.BLOOM_WORDS];
+    private int blockRowCount;
+    private long blockMinMicros;
+    private long blockMaxMicros;
+    private long dataOffset;
+
+    private long rowCount;
+    private long minMicros = Long.MAX_VALUE;
+    private long maxMicros = Long.MIN_VALUE;
+
+    public LogSegmentWriter(Path dataFile, Path indexFile, ObjectMapper objectMapper, int blockRows) throws IOException {
+        if (blockRows <= 0) {
+            throw new IllegalArgumentException("blockRows pozitif olmalıdır: " + blockRows);
+        }
+        this.objectMapper = objectMapper;
+        this.blockRows = blockRows;
+        this.indexFile = indexFile;
+        this.data = FileChannel.open(dataFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Kaydı yazar. Kayıtlar (timestamp, id) sırasıyla verilmelidir.
+     */
+    public void append(LogResponse log) throws IOException {
+        long micros = LogSegment.toMicros(log.getTimestamp());
+        if (blockRowCount == 0) {
+            blockMinMicros = micros;
+        }
+        blockMaxMicros = micros;
+        if (log.getMemberId() != null) {
+            LogSegment.addToBloom(blockBloom, log.getMemberId());
+        }
+        blockBuffer.write(objectMapper.writeValueAsBytes(log));
+        blockBuffer.write('\n');
+        blockRowCount++;
+
+        rowCount++;
+        minMicros = Math.min(minMicros, micros);
+        maxMicros = Math.max(maxMicros, micros);
+
+        if (blockRowCount >= blockRows) {
+            flushBlock();
+        }
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Son bloğu ve indeks dosyasını yazar, verileri diske senkronlar.
+     */
+    public void finish() throws IOException {
+        flushBlock();
+        data.force(true);
+
+        ByteBuffer header = ByteBuffer.allocate(LogSegment.HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(LogSegment.MAGIC)
+                .putInt(LogSegment.VERSION)
+                .putInt(indexEntries.size())
+                .putInt(0)
+                .putLong(rowCount)
+                .putLong(rowCount == 0 ? 0L : minMicros)
+                .putLong(rowCount == 0 ? 0L : maxMicros)
+                .flip();
+        try (FileChannel index = FileChannel.open(indexFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            writeFully(index, header);
+            for (ByteBuffer entry : indexEntries) {
+                writeFully(index, entry);
+            }
+            index.force(true);
+        }
+    }
+
+    private void flushBlock() throws IOException {
+        if (blockRowCount == 0) {
+            return;
+        }
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(blockBuffer.size() / 4 + 64);
+        try (OutputStream gzip = new GZIPOutputStream(compressed)) {
+            blockBuffer.writeTo(gzip);
+        }
+        ByteBuffer block = ByteBuffer.wrap(compressed.toByteArray());
+        int length = block.remaining();
+        writeFully(data, block);
+
+        ByteBuffer entry = ByteBuffer.allocate(LogSegment.ENTRY_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        entry.putLong(dataOffset)
+                .putInt(length)
+                .putInt(blockRowCount)
+                .putLong(blockMinMicros)
+                .putLong(blockMaxMicros);
+        for (long word : blockBloom) {
+            entry.putLong(word);
+        }
+        indexEntries.add(entry.flip());
+
+        dataOffset += length;
+        blockBuffer.reset();
+        Arrays.fill(blockBloom, 0L);
+        blockRowCount = 0;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        data.close();
+    }
+}
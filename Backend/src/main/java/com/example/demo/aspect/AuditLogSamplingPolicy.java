@@ -0,0 +1,217 @@
+package com.example.demo.aspect;
+
+import com.example.demo.dto.request.AuditLogSamplingRule;
+import com.example.demo.dto.response.AuditLogSamplingResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LoggingAspect'in başarılı controller isteklerinden hangilerini logs tablosuna yazacağını belirleyen politika.
+ *
+ * Kurallar (bkz. {@link AuditLogSamplingRule}) isteğe bağlı bir JSON dosyasından okunur ve dosya
+ * değiştikçe yeniden yüklenir; admin API'si üzerinden de çalışma anında değiştirilebilir. Kurallar
+ * değişmez bir anlık görüntü (Snapshot) olarak tutulur ve tek bir volatile referansla yayınlanır;
+ * metot başına çözümlenen kural bu görüntü içinde önbelleklenir, böylece istek yolunda string
+ * birleştirme veya kilit yoktur.
+ */
+@Component
+@Slf4j
+public class AuditLogSamplingPolicy {
+
+    static final String DEFAULT_ENDPOINT = "*";
+
+    private final ObjectMapper objectMapper;
+    private final Path rulesFile; // null ise kurallar yalnızca admin API'si ile değiştirilir
+    private final Rule defaultRule;
+
+    private final LongAdder kept = new LongAdder();
+    private final LongAdder sampledOut = new LongAdder();
+
+    private volatile Snapshot snapshot;
+    private long rulesFileModified = Long.MIN_VALUE;
+
+    public AuditLogSamplingPolicy(ObjectMapper objectMapper,
+                                  @Value("${nodora.audit-log.sampling.rules-file:}") String rulesFile,
+                                  @Value("${nodora.audit-log.sampling.default-info-rate:1.0}") double defaultInfoRate,
+                                  @Value("${nodora.audit-log.sampling.default-slow-threshold-ms:-1}") long defaultSlowThresholdMs) {
+        this.objectMapper = objectMapper;
+        this.rulesFile = rulesFile == null || rulesFile.isBlank() ? null : Paths.get(rulesFile);
+        this.defaultRule = compile(new AuditLogSamplingRule(DEFAULT_ENDPOINT, defaultInfoRate,
+                defaultSlowThresholdMs >= 0 ? defaultSlowThresholdMs : null));
+        this.snapshot = new Snapshot(List.of(), defaultRule);
+    }
+
+    @PostConstruct
+    public void init() {
+        reloadIfChanged();
+    }
+
+    /**
+     * Verilen controller metoduna uygulanacak kuralı döner.
+     */
+    public Rule ruleFor(Class<?> controllerClass, Method method) {
+        return snapshot.resolve(controllerClass, method);
+    }
+
+    /**
+     * Başarılı bir isteğin yazılıp yazılmayacağına karar verir ve sayaçları günceller.
+     */
+    public boolean keep(Rule rule, long executionTimeMs) {
+        boolean keep = rule.keep(executionTimeMs);
+        if (keep) {
+            kept.increment();
+        } else {
+            sampledOut.increment();
+        }
+        return keep;
+    }
+
+    /**
+     * Kuralları çalışma anında değiştirir. Kural dosyası tanımlıysa dosya bir sonraki değişikliğinde
+     * bu kuralların yerine geçer.
+     *
+     * @throws IllegalArgumentException kurallardan biri geçersizse (hiçbiri uygulanmaz)
+     */
+    public AuditLogSamplingResponse replaceRules(List<AuditLogSamplingRule> rules) {
+        apply(rules);
+        log.info("Audit log örnekleme kuralları API üzerinden güncellendi. Kural sayısı: {}", rules.size());
+        return describe();
+    }
+
+    public AuditLogSamplingResponse describe() {
+        Snapshot current = snapshot;
+        return new AuditLogSamplingResponse(current.rules, rulesFile != null ? rulesFile.toString() : null,
+                current.loadedAt, kept.sum(), sampledOut.sum());
+    }
+
+    /**
+     * Kural dosyası değiştiyse yeniden yükler. Dosya okunamaz veya geçersizse mevcut kurallar korunur.
+     */
+    @Scheduled(fixedDelayString = "${nodora.audit-log.sampling.reload-interval-ms:10000}")
+    public synchronized void reloadIfChanged() {
+        if (rulesFile == null || !Files.isRegularFile(rulesFile)) {
+            return;
+        }
+        try {
+            long modified = Files.getLastModifiedTime(rulesFile).toMillis();
+            if (modified == rulesFileModified) {
+                return;
+            }
+            List<AuditLogSamplingRule> rules = objectMapper.readValue(rulesFile.toFile(),
+                    new TypeReference<List<AuditLogSamplingRule>>() {});
+            apply(rules);
+            rulesFileModified = modified;
+            log.info("Audit log örnekleme kuralları yüklendi. Dosya: {}, kural sayısı: {}", rulesFile, rules.size());
+        } catch (IOException | IllegalArgumentException e) {
+            log.error("Audit log örnekleme kuralları yüklenemedi, mevcut kurallar korunuyor. Dosya: {}, hata: {}",
+                    rulesFile, e.getMessage());
+        }
+    }
+
+    private void apply(List<AuditLogSamplingRule> rules) {
+        if (rules == null) {
+            throw new IllegalArgumentException("Örnekleme kural listesi boş olamaz.");
+        }
+        List<AuditLogSamplingRule> copies = new ArrayList<>(rules.size());
+        for (AuditLogSamplingRule rule : rules) {
+            compile(rule); // doğrulama
+            copies.add(new AuditLogSamplingRule(rule.getEndpoint().trim(), rule.getInfoSampleRate(), rule.getSlowThresholdMs()));
+        }
+        snapshot = new Snapshot(List.copyOf(copies), defaultRule);
+    }
+
+    private static Rule compile(AuditLogSamplingRule rule) {
+        if (rule == null || rule.getEndpoint() == null || rule.getEndpoint().isBlank()) {
+            throw new IllegalArgumentException("Örnekleme kuralında endpoint zorunludur.");
+        }
+        double rate = rule.getInfoSampleRate();
+        if (Double.isNaN(rate) || rate < 0.0 || rate > 1.0) {
+            throw new IllegalArgumentException("infoSampleRate 0 ile 1 arasında olmalıdır: " + rule.getEndpoint());
+        }
+        Long threshold = rule.getSlowThresholdMs();
+        if (threshold != null && threshold < 0) {
+            throw new IllegalArgumentException("slowThresholdMs negatif olamaz: " + rule.getEndpoint());
+        }
+        return new Rule(rate, threshold != null ? threshold : -1L);
+    }
+
+    /**
+     * Derlenmiş kural. Eşiği aşan istekler her zaman, diğerleri infoSampleRate olasılığıyla tutulur.
+     */
+    public record Rule(double infoSampleRate, long slowThresholdMs) {
+
+        public boolean keep(long executionTimeMs) {
+            if (isSlow(executionTimeMs)) {
+                return true;
+            }
+            if (infoSampleRate >= 1.0) {
+                return true;
+            }
+            return infoSampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < infoSampleRate;
+        }
+
+        public boolean isSlow(long executionTimeMs) {
+            return slowThresholdMs >= 0 && executionTimeMs >= slowThresholdMs;
+        }
+
+        /**
+         * Kayıt örneklemeyle mi tutuldu (true) yoksa her koşulda mı yazılırdı (false).
+         */
+        public boolean isSampled(long executionTimeMs) {
+            return infoSampleRate < 1.0 && !isSlow(executionTimeMs);
+        }
+    }
+
+    /**
+     * Belirli bir anda geçerli kural kümesi. Öncelik: "Sınıf.metot" > "Sınıf.*" > "*" > özellik dosyası varsayılanı.
+     */
+    private static final class Snapshot {
+        private final List<AuditLogSamplingRule> rules;
+        private final OffsetDateTime loadedAt = OffsetDateTime.now(ZoneOffset.UTC);
+        private final Map<String, Rule> byEndpoint = new HashMap<>();
+        private final Rule fallback;
+        private final Map<Method, Rule> resolved = new ConcurrentHashMap<>();
+
+        private Snapshot(List<AuditLogSamplingRule> rules, Rule defaultRule) {
+            this.rules = rules;
+            for (AuditLogSamplingRule rule : rules) {
+                byEndpoint.put(rule.getEndpoint(), compile(rule));
+            }
+            this.fallback = byEndpoint.getOrDefault(DEFAULT_ENDPOINT, defaultRule);
+        }
+
+        private Rule resolve(Class<?> controllerClass, Method method) {
+            Rule rule = resolved.get(method);
+            if (rule != null) {
+                return rule;
+            }
+            String className = controllerClass.getSimpleName();
+            rule = byEndpoint.get(className + "." + method.getName());
+            if (rule == null) {
+                rule = byEndpoint.getOrDefault(className + ".*", fallback);
+            }
+            resolved.put(method, rule);
+            return rule;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.demo.aspect;
+
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.springframework.core.io.InputStreamSource;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.regex.Pattern;
+
+/**
+ * Metot argümanlarını log mesajına tembel (lazy) olarak yazan sarmalayıcı.
+ *
+ * SLF4J {@code {}} yer tutucusu toString'i yalnızca ilgili seviye açıksa çağırır; böylece kapalı
+ * seviyelerde argümanlar hiç string'e çevrilmez. Çevrildiğinde ise:
+ * - şifre, token, secret gibi alanların değerleri maskelenir (Lombok toString biçimi: alan=değer),
+ * - istek/yanıt nesneleri ve akışlar yalnızca tip adıyla yazılır,
+ * - her argüman MAX_ARG_LENGTH, toplam çıktı MAX_TOTAL_LENGTH karakterle sınırlanır.
+ */
+final class LogArguments {
+
+    private static final int MAX_ARG_LENGTH = 256;
+    private static final int MAX_TOTAL_LENGTH = 1024;
+    // Değer, bir sonraki ", alan=" ayırıcısına ya da toString'i kapatan son paranteze kadar maskelenir;
+    // değerin içindeki virgül veya parantez maskelemeyi erken bitirmez
+    private static final Pattern SENSITIVE = Pattern.compile(
+            "(?is)\\b([a-z]*(?:password|token|secret|credential)[a-z]*)=(.*?)(?=, [a-z_$][\\w$]*=|[)\\]}]?$)");
+
+    private final Object[] args;
+
+    private LogArguments(Object[] args) {
+        this.args = args;
+    }
+
+    static LogArguments of(Object[] args) {
+        return new LogArguments(args);
+    }
+
+    @Override
+    public String toString() {
+        if (args == null || args.length == 0) {
+            return "[]";
+        }
+        StringBuilder out = new StringBuilder("[");
+        for (int i = 0; i < args.length; i++) {
+            if (i > 0) {
+                out.append(", ");
+            }
+            if (out.length() >= MAX_TOTAL_LENGTH) {
+                out.append("...(").append(args.length - i).append(" more)");
+                break;
+            }
+            out.append(render(args[i]));
+        }
+        return out.append(']').toString();
+    }
+
+    private static String render(Object arg) {
+        if (arg == null) {
+            return "null";
+        }
+        if (arg instanceof ServletRequest || arg instanceof ServletResponse || arg instanceof InputStream
+                || arg instanceof OutputStream || arg instanceof Reader || arg instanceof Writer
+                || arg instanceof InputStreamSource || arg instanceof byte[]) {
+            return arg.getClass().getSimpleName();
+        }
+        String text = SENSITIVE.matcher(String.valueOf(arg)).replaceAll("$1=***");
+        return text.length() > MAX_ARG_LENGTH ? text.substring(0, MAX_ARG_LENGTH) + "..." : text;
+    }
+}
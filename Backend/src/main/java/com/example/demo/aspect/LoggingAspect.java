@@ -2,28 +2,34 @@ package com.example.demo.aspect;
 
 import com.example.demo.dto.request.LogRequest; // LogRequest DTO'sunu import edin
 import com.example.demo.dto.request.LoginRequest; // LoginRequest DTO'sunu import edin
+import com.example.demo.metrics.EndpointMetrics;
+import com.example.demo.metrics.ErrorGroupRecorder;
+import com.example.demo.metrics.RequestRollupRecorder;
 import com.example.demo.model.members.Member; // Member entity'sini import edin
-import com.example.demo.service.LogsService; // LogsService'i import edin
+import com.example.demo.service.AuditLogWriter;
 // import com.example.demo.model.logs.Logs; // Logs entity'si burada doğrudan kullan\u0131lm\u0131yor, yorum sat\u0131r\u0131na al\u0131nd\u0131
 import com.example.demo.repository.MemberRepository; // MemberRepository'yi import edin
+import com.example.demo.security.NodoraPrincipal;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerMapping;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
-import java.util.Arrays;
+import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
@@ -37,19 +43,30 @@ import java.util.concurrent.atomic.AtomicReference;
 @Slf4j // Lombok: Otomatik olarak bir Logger nesnesi olu\u015Fturur (log ad\u0131nda)
 public class    LoggingAspect {
 
-    private final LogsService logsService; // LogsService kullan\u0131ld\u0131
+    private final AuditLogWriter auditLogWriter; // loglar istek thread'i d\u0131\u015F\u0131nda, batch halinde yaz\u0131l\u0131r
     private final MemberRepository memberRepository;
+    private final AuditLogSamplingPolicy samplingPolicy; // ba\u015Far\u0131l\u0131 isteklerin hangilerinin yaz\u0131laca\u011f\u0131n\u0131 belirler
+    private final EndpointMetrics endpointMetrics; // u\u00e7 nokta bazl\u0131 gecikme histogramlar\u0131
+    private final RequestRollupRecorder requestRollupRecorder; // dakika bazl\u0131 trafik/hata toplamlar\u0131
+    private final ErrorGroupRecorder errorGroupRecorder; // hatalar\u0131 parmak izine g\u00f6re gruplar, tekrar eden stack trace'leri bast\u0131rmaz
 
     @Autowired
-    public LoggingAspect(LogsService logsService, MemberRepository memberRepository) {
-        this.logsService = logsService;
+    public LoggingAspect(AuditLogWriter auditLogWriter, MemberRepository memberRepository,
+                         AuditLogSamplingPolicy samplingPolicy, EndpointMetrics endpointMetrics,
+                         RequestRollupRecorder requestRollupRecorder, ErrorGroupRecorder errorGroupRecorder) {
+        this.auditLogWriter = auditLogWriter;
         this.memberRepository = memberRepository;
+        this.samplingPolicy = samplingPolicy;
+        this.endpointMetrics = endpointMetrics;
+        this.requestRollupRecorder = requestRollupRecorder;
+        this.errorGroupRecorder = errorGroupRecorder;
     }
 
     /**
      * Controller katman\u0131ndaki t\u00fcm metotlar\u0131 sarar ve loglama yapar.
      * Gelen iste\u011fi, y\u00fcr\u00fctme s\u00fcresini, ba\u015Far\u0131s\u0131z olursa hatay\u0131 loglar.
      * Ayr\u0131ca, e\u011fer varsa kullan\u0131c\u0131n\u0131n (member) ID'sini de log kayd\u0131na ekler.
+     * Ba\u015Far\u0131l\u0131 istekler uç nokta kural\u0131na g\u00f6re \u00f6rneklenir (bkz. AuditLogSamplingPolicy); hatalar her zaman yaz\u0131l\u0131r.
      *
      * @param joinPoint Metot y\u00fcr\u00fctme noktas\u0131
      * @return Metodun d\u00f6nd\u00fcrd\u00fc\u011f\u00fc de\u011fer
@@ -72,20 +89,11 @@ public class    LoggingAspect {
 
             if (authentication != null && authentication.isAuthenticated() && !("anonymousUser".equals(authentication.getPrincipal()))) {
                 Object principal = authentication.getPrincipal();
-                log.debug("DEBUG: LoggingAspect - Principal tipi: {}, De\u011feri: {}", principal.getClass().getName(), principal.toString());
-
-                if (principal instanceof Member) {
-                    memberIdRef.set(((Member) principal).getMemberId());
-                } else if (principal instanceof UserDetails) {
-                    String username = ((UserDetails) principal).getUsername();
-                    log.debug("DEBUG: LoggingAspect - UserDetails username: {}", username);
-                    Optional<Member> memberOptional = memberRepository.findByEmail(username);
-                    memberOptional.ifPresent(member -> memberIdRef.set(member.getMemberId()));
-                } else if (principal instanceof String) {
-                    String username = (String) principal;
-                    log.debug("DEBUG: LoggingAspect - String principal username: {}", username);
-                    Optional<Member> memberOptional = memberRepository.findByEmail(username);
-                    memberOptional.ifPresent(member -> memberIdRef.set(member.getMemberId()));
+                log.debug("DEBUG: LoggingAspect - Principal tipi: {}, De\u011feri: {}", principal.getClass().getName(), principal);
+
+                // memberId JWT filtresinde olu\u015Fturulan NodoraPrincipal'dan okunur; veritaban\u0131na gidilmez
+                if (principal instanceof NodoraPrincipal) {
+                    memberIdRef.set(((NodoraPrincipal) principal).getMemberId());
                 }
             } else {
                 log.debug("DEBUG: LoggingAspect - Kimlik do\u011frulama yok veya anonim kullan\u0131c\u0131.");
@@ -94,24 +102,35 @@ public class    LoggingAspect {
             log.warn("Request context not found for controller aspect. This may be expected for async operations.");
         }
 
-        // Konsol logu
-        log.info("🎯 [CONTROLLER] {}.{} called with args: {}",
-                className, methodName, Arrays.toString(args));
+        // Konsol logu; arg\u00fcmanlar yaln\u0131zca DEBUG a\u00e7\u0131ksa, maskelenip k\u0131salt\u0131larak yaz\u0131l\u0131r
+        log.debug("🎯 [CONTROLLER] {}.{} called with args: {}",
+                className, methodName, LogArguments.of(args));
 
-        long startTime = System.currentTimeMillis();
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        long startTime = System.nanoTime();
 
         try {
             Object result = joinPoint.proceed();
-            long executionTime = System.currentTimeMillis() - startTime;
+            long elapsedNanos = System.nanoTime() - startTime;
+            endpointMetrics.record(EndpointMetrics.Layer.CONTROLLER, joinPoint.getThis().getClass(), method, elapsedNanos);
+            long executionTime = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+            if (request != null) {
+                requestRollupRecorder.record(routePattern(request), className, elapsedNanos, false);
+            }
 
             // Konsol logu
             log.info("✅ [CONTROLLER] {}.{} completed successfully in {}ms",
                     className, methodName, executionTime);
 
-            if (request != null) {
+            AuditLogSamplingPolicy.Rule rule = samplingPolicy.ruleFor(joinPoint.getTarget().getClass(), method);
+            if (request != null && samplingPolicy.keep(rule, executionTime)) {
                 Map<String, Object> additionalData = new HashMap<>();
                 additionalData.put("executionTimeMs", executionTime);
                 additionalData.put("method", request.getMethod());
+                if (rule.isSampled(executionTime)) {
+                    // Toplamlar\u0131n yeniden hesaplanabilmesi i\u00e7in kayd\u0131n hangi oranla tutuldu\u011fu saklan\u0131r
+                    additionalData.put("sampleRate", rule.infoSampleRate());
+                }
 
                 // LogRequest DTO kullanarak loglama
                 LogRequest logRequest = new LogRequest();
@@ -123,15 +142,20 @@ public class    LoggingAspect {
                 logRequest.setMemberId(memberIdRef.get());
                 logRequest.setAdditionalData(additionalData);
 
-                logsService.createLog(logRequest); // logsService kullan\u0131ld\u0131
+                auditLogWriter.enqueue(logRequest);
             }
             return result;
 
         } catch (Exception ex) {
-            long executionTime = System.currentTimeMillis() - startTime;
+            long elapsedNanos = System.nanoTime() - startTime;
+            endpointMetrics.record(EndpointMetrics.Layer.CONTROLLER, joinPoint.getThis().getClass(), method, elapsedNanos);
+            long executionTime = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+            if (request != null) {
+                requestRollupRecorder.record(routePattern(request), className, elapsedNanos, true);
+            }
 
-            log.error("❌ [CONTROLLER] {}.{} failed after {}ms with error: {}",
-                    className, methodName, executionTime, ex.getMessage(), ex);
+            String fingerprint = errorGroupRecorder.record(ex);
+            logFailure("CONTROLLER", className, methodName, executionTime, ex, fingerprint);
 
             if (request != null) {
                 // Hatal\u0131 login denemesi i\u00e7in \u00f6zel durum
@@ -153,16 +177,40 @@ public class    LoggingAspect {
                 errorLogRequest.setIpAddress(request.getRemoteAddr());
                 errorLogRequest.setRequestPath(request.getRequestURI());
                 errorLogRequest.setMemberId(memberIdRef.get());
-                errorLogRequest.setException(ex.toString());
+                // Tam metin error_groups tablosunda bir kez tutulur; kay\u0131tta yaln\u0131zca tip ve parmak izi kal\u0131r
+                errorLogRequest.setException(ex.getClass().getName());
+                errorLogRequest.setErrorFingerprint(fingerprint);
                 errorLogRequest.setAdditionalData(Map.of("executionTimeMs", executionTime)); // Hata i\u00e7in ek veri
 
-                logsService.createLog(errorLogRequest); // logsService kullan\u0131ld\u0131
+                auditLogWriter.enqueue(errorLogRequest);
             }
 
             throw ex;
         }
     }
 
+    /**
+     * Hatay\u0131 konsola yazar. Ayn\u0131 parmak izine sahip hata katmanlar boyunca (repository, service, controller)
+     * ve tekrar eden isteklerde yeniden g\u00f6r\u00fcld\u00fc\u011f\u00fcnde stack trace yaln\u0131zca aral\u0131kta bir kez bas\u0131l\u0131r.
+     */
+    private void logFailure(String layer, String className, String methodName, long executionTime, Exception ex, String fingerprint) {
+        if (errorGroupRecorder.shouldLogStackTrace(fingerprint)) {
+            log.error("❌ [{}] {}.{} failed after {}ms: {} [error group {}]",
+                    layer, className, methodName, executionTime, ex.getMessage(), fingerprint, ex);
+        } else {
+            log.error("❌ [{}] {}.{} failed after {}ms: {}: {} [error group {}, stack trace suppressed]",
+                    layer, className, methodName, executionTime, ex.getClass().getName(), ex.getMessage(), fingerprint);
+        }
+    }
+
+    /**
+     * \u0130ste\u011fin e\u015Fle\u015Fti\u011fi route kal\u0131b\u0131n\u0131 (\u00f6r. /api/cards/{cardId}) d\u00f6ner; yoksa ham URI kullan\u0131l\u0131r.
+     */
+    private static String routePattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : request.getRequestURI();
+    }
+
     /**
      * Service katman\u0131ndaki t\u00fcm metotlar\u0131 sarar ve debug loglama yapar.
      *
@@ -177,21 +225,25 @@ public class    LoggingAspect {
 
         log.debug("🔧 [SERVICE] {}.{} started", className, methodName);
 
-        long startTime = System.currentTimeMillis();
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        long startTime = System.nanoTime();
 
         try {
             Object result = joinPoint.proceed();
-            long executionTime = System.currentTimeMillis() - startTime;
+            long elapsedNanos = System.nanoTime() - startTime;
+            endpointMetrics.record(EndpointMetrics.Layer.SERVICE, joinPoint.getThis().getClass(), method, elapsedNanos);
+            long executionTime = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
 
             log.debug("✅ [SERVICE] {}.{} completed in {}ms",
                     className, methodName, executionTime);
 
             return result;
         } catch (Exception ex) {
-            long executionTime = System.currentTimeMillis() - startTime;
+            long elapsedNanos = System.nanoTime() - startTime;
+            endpointMetrics.record(EndpointMetrics.Layer.SERVICE, joinPoint.getThis().getClass(), method, elapsedNanos);
+            long executionTime = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
 
-            log.error("❌ [SERVICE] {}.{} failed after {}ms: {}",
-                    className, methodName, executionTime, ex.getMessage(), ex);
+            logFailure("SERVICE", className, methodName, executionTime, ex, errorGroupRecorder.fingerprint(ex));
 
             throw ex;
         }
@@ -211,13 +263,19 @@ public class    LoggingAspect {
 
         log.trace("🗃 [REPOSITORY] {}.{} executing", className, methodName);
 
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        long startTime = System.nanoTime();
+
         try {
             Object result = joinPoint.proceed();
+            endpointMetrics.record(EndpointMetrics.Layer.REPOSITORY, joinPoint.getThis().getClass(), method, System.nanoTime() - startTime);
             log.trace("✅ [REPOSITORY] {}.{} completed", className, methodName);
             return result;
         } catch (Exception ex) {
-            log.error("❌ [REPOSITORY] {}.{} failed: {}",
-                    className, methodName, ex.getMessage(), ex);
+            long elapsedNanos = System.nanoTime() - startTime;
+            endpointMetrics.record(EndpointMetrics.Layer.REPOSITORY, joinPoint.getThis().getClass(), method, elapsedNanos);
+            logFailure("REPOSITORY", className, methodName, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), ex,
+                    errorGroupRecorder.fingerprint(ex));
             throw ex;
         }
     }
@@ -0,0 +1,138 @@
+package com.example.demo.cache;
+
+import com.example.demo.repository.BoardRepository;
+import com.example.demo.repository.CardRepository;
+import com.example.demo.repository.ChecklistRepository;
+import com.example.demo.repository.ListsRepository;
+import com.example.demo.security.BoardAncestryCache;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Board bazında artan sürüm numarasını yönetir. Sürüm boards.version kolonunda tutulur.
+ *
+ * Board altındaki her değişiklik (liste, kart, checklist, item, etiket, üye) board'un sürümünü
+ * ilerletir. Board kapsamlı GET uç noktaları bu sürümden güçlü bir ETag üretir; istemcinin
+ * If-None-Match başlığı güncel ETag ile eşleşirse okuma sorguları hiç çalıştırılmadan 304 döner.
+ *
+ * Sürüm, değişikliği yapan transaction içinde {@code UPDATE boards SET version = version + 1}
+ * ile ilerletilir; veri ile sürüm birlikte commit edilir. Sürüm veritabanında olduğu için birden
+ * fazla uygulama örneği aynı değeri görür ve yeniden başlatma sürümü sıfırlamaz. Okuma tarafında
+ * ETag, veriden önce board satırının birincil anahtarından okunur.
+ */
+@Component
+@Slf4j
+public class BoardVersionRegistry {
+
+    /**
+     * ETag'li yanıtlarda kullanılır: yanıt kullanıcıya özeldir ve her kullanımda yeniden doğrulanmalıdır.
+     */
+    public static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private final BoardRepository boardRepository;
+    private final ListsRepository listsRepository;
+    private final CardRepository cardRepository;
+    private final ChecklistRepository checklistRepository;
+    private final BoardAncestryCache boardAncestryCache;
+    private final JdbcTemplate jdbcTemplate;
+
+    public BoardVersionRegistry(BoardRepository boardRepository,
+                                ListsRepository listsRepository,
+                                CardRepository cardRepository,
+                                ChecklistRepository checklistRepository,
+                                BoardAncestryCache boardAncestryCache,
+                                JdbcTemplate jdbcTemplate) {
+        this.boardRepository = boardRepository;
+        this.listsRepository = listsRepository;
+        this.cardRepository = cardRepository;
+        this.checklistRepository = checklistRepository;
+        this.boardAncestryCache = boardAncestryCache;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Hibernate şemayı güncellemiyorsa (ddl-auto=validate/none) kolon burada eklenir
+    @PostConstruct
+    public void createVersionColumn() {
+        jdbcTemplate.execute("ALTER TABLE boards ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0");
+    }
+
+    /**
+     * Board'un commit edilmiş güncel sürümü; board yoksa 0.
+     */
+    public long currentVersion(Integer boardId) {
+        return boardRepository.findVersionByBoardId(boardId).orElse(0L);
+    }
+
+    /**
+     * Board sürümünden güçlü bir ETag üretir (ör. "cards-12-42").
+     *
+     * @param resource Yanıtın türü; aynı board'un farklı gösterimleri farklı ETag almalıdır
+     * @param resourceId Yanıtın kapsamı (board veya liste ID'si)
+     */
+    public String etag(String resource, Integer resourceId, Integer boardId) {
+        return "\"" + resource + "-" + resourceId + "-" + currentVersion(boardId) + "\"";
+    }
+
+    /**
+     * Sürümü çağıranın transaction'ı içinde ilerletir; transaction geri alınırsa sürüm de geri alınır.
+     * Satır kilidi commit'e kadar tutulduğu için aynı board'a eşzamanlı yazmalar sırayla commit edilir.
+     */
+    public void bump(Integer boardId) {
+        if (boardId == null) {
+            return;
+        }
+        int updated = boardRepository.incrementVersion(boardId);
+        log.debug("Board sürümü ilerletildi. boardId: {}, güncellenen satır: {}", boardId, updated);
+    }
+
+    // Silme işlemlerinde kayıt silinmeden önce çağrılmalıdır; aksi halde board bulunamaz
+    public void bumpForList(Integer listId) {
+        findBoardIdByListId(listId).ifPresent(this::bump);
+    }
+
+    public void bumpForCard(Integer cardId) {
+        findBoardIdByCardId(cardId).ifPresent(this::bump);
+    }
+
+    public void bumpForChecklist(Integer checklistId) {
+        findBoardIdByChecklistId(checklistId).ifPresent(this::bump);
+    }
+
+    /**
+     * Listenin board'unu önce ancestry önbelleğinden, bulunamazsa veritabanından çözer.
+     * Yetki kontrolü önbelleği doldurduğu için istek yolunda genellikle sorgu gerekmez.
+     */
+    public Optional<Integer> findBoardIdByListId(Integer listId) {
+        if (listId == null) {
+            return Optional.empty();
+        }
+        Optional<Integer> cached = boardAncestryCache.getBoardIdByListId(listId);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        Optional<Integer> boardId = listsRepository.findBoardIdByListId(listId);
+        boardId.ifPresent(id -> boardAncestryCache.rememberList(listId, id));
+        return boardId;
+    }
+
+    private Optional<Integer> findBoardIdByCardId(Integer cardId) {
+        if (cardId == null) {
+            return Optional.empty();
+        }
+        return boardAncestryCache.getBoardIdByCardId(cardId)
+                .or(() -> cardRepository.findBoardIdByCardId(cardId));
+    }
+
+    private Optional<Integer> findBoardIdByChecklistId(Integer checklistId) {
+        if (checklistId == null) {
+            return Optional.empty();
+        }
+        return boardAncestryCache.getBoardIdByChecklistId(checklistId)
+                .or(() -> checklistRepository.findBoardIdByChecklistId(checklistId));
+    }
+}
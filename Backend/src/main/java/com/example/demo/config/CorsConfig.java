@@ -23,7 +23,7 @@ public class CorsConfig {
                         )
                         .allowedMethods("*")
                         .allowedHeaders("*")
-                        .exposedHeaders("Authorization", "Set-Cookie")
+                        .exposedHeaders("Authorization", "Set-Cookie", "ETag")
                         .allowCredentials(true)
                         .maxAge(3600);
             }
@@ -3,6 +3,7 @@ package com.example.demo.config;
 import com.example.demo.model.members.Member;
 import com.example.demo.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.core.annotation.Order;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -14,6 +15,7 @@ import org.springframework.stereotype.Component;
  */
 @Component
 @RequiredArgsConstructor
+@Slf4j
 @Order(1)
 public class DataInitializer implements CommandLineRunner {
 
@@ -47,7 +49,7 @@ public class DataInitializer implements CommandLineRunner {
             adminUser.setMembersActive(true);
             
             memberRepository.save(adminUser);
-            System.out.println("✅ Admin kullanıcısı oluşturuldu: admin@example.com / admin123");
+            log.info("✅ Admin kullanıcısı oluşturuldu: admin@example.com");
         }
     }
     
@@ -66,7 +68,7 @@ public class DataInitializer implements CommandLineRunner {
             testUser.setMembersActive(true);
             
             memberRepository.save(testUser);
-            System.out.println("✅ Test kullanıcısı oluşturuldu: test@example.com / test123");
+            log.info("✅ Test kullanıcısı oluşturuldu: test@example.com");
         }
     }
     
@@ -78,7 +80,7 @@ public class DataInitializer implements CommandLineRunner {
         if (adminUser != null && adminUser.getPassword().equals("123456")) {
             adminUser.setPassword(passwordEncoder.encode("123456"));
             memberRepository.save(adminUser);
-            System.out.println("🔄 Admin kullanıcısının şifresi hashlenmiş!");
+            log.info("🔄 Admin kullanıcısının şifresi hashlenmiş!");
         }
     }
 } 
\ No newline at end of file
@@ -0,0 +1,74 @@
+package com.example.demo.config;
+
+import org.hibernate.boot.model.relational.Namespace;
+import org.hibernate.boot.model.relational.Sequence;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.mapping.Table;
+import org.hibernate.tool.schema.spi.SchemaFilter;
+import org.hibernate.tool.schema.spi.SchemaFilterProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * logs tablosunu Hibernate'in şema üretiminden (create/update/drop) çıkarır.
+ *
+ * Tablo gün bazında partition'lıdır ve şeması LogPartitionManager tarafından yönetilir. Hibernate
+ * tabloyu kendisi oluştursaydı partition'sız ve identity kolonlu bir tablo oluşur, LogPartitionManager
+ * her kurulumda bu tabloyu taşımak zorunda kalırdı. Doğrulama (validate) modunda tablo yine denetlenir.
+ */
+@Configuration
+public class LogsSchemaConfig {
+
+    static final String LOGS_TABLE = "logs";
+
+    @Bean
+    public HibernatePropertiesCustomizer logsSchemaFilterCustomizer() {
+        return properties -> properties.put(AvailableSettings.HBM2DDL_FILTER_PROVIDER, new LogsSchemaFilterProvider());
+    }
+
+    static class LogsSchemaFilterProvider implements SchemaFilterProvider {
+
+        private static final SchemaFilter EXCLUDE_LOGS = new SchemaFilter() {
+            @Override
+            public boolean includeNamespace(Namespace namespace) {
+                return true;
+            }
+
+            @Override
+            public boolean includeTable(Table table) {
+                return !LOGS_TABLE.equalsIgnoreCase(table.getName());
+            }
+
+            @Override
+            public boolean includeSequence(Sequence sequence) {
+                return true;
+            }
+        };
+
+        @Override
+        public SchemaFilter getCreateFilter() {
+            return EXCLUDE_LOGS;
+        }
+
+        @Override
+        public SchemaFilter getDropFilter() {
+            return EXCLUDE_LOGS;
+        }
+
+        @Override
+        public SchemaFilter getTruncatorFilter() {
+            return EXCLUDE_LOGS;
+        }
+
+        @Override
+        public SchemaFilter getMigrateFilter() {
+            return EXCLUDE_LOGS;
+        }
+
+        @Override
+        public SchemaFilter getValidateFilter() {
+            return SchemaFilter.ALL;
+        }
+    }
+}
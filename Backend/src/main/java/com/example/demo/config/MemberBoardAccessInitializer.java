@@ -0,0 +1,35 @@
+package com.example.demo.config;
+
+import com.example.demo.service.MemberBoardAccessService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Her açılışta member_board_access tablosunu board_members ile eşitler.
+ *
+ * Servisler tabloyu yalnızca yeni üyelik değişikliklerinde günceller; mevcut bir kurulum
+ * yükseltildiğinde tablo boş gelir ve bu eşitleme olmadan üyelerin pano erişimleri reddedilir.
+ * Eşitleme idempotent olduğu için (eksik satırlar eklenir, fazlalar silinir) her açılışta çalışır.
+ * Tablonun güncel olduğundan emin olunan kurulumlarda
+ * nodora.security.board-access.rebuild-on-startup=false ile kapatılabilir.
+ */
+@Component
+@RequiredArgsConstructor
+@Order(2)
+public class MemberBoardAccessInitializer implements CommandLineRunner {
+
+    private final MemberBoardAccessService memberBoardAccessService;
+
+    @Value("${nodora.security.board-access.rebuild-on-startup:true}")
+    private boolean rebuildOnStartup;
+
+    @Override
+    public void run(String... args) {
+        if (rebuildOnStartup) {
+            memberBoardAccessService.rebuild();
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.demo.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Zamanlanmış görevleri (@Scheduled) etkinleştirir; ör. log partition bakımı.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,14 +1,27 @@
 package com.example.demo.controller;
 
+import com.example.demo.dto.request.AuditLogSamplingRule;
 import com.example.demo.dto.response.AdminDashboardResponse;
+import com.example.demo.dto.response.AuditLogSamplingResponse;
+import com.example.demo.dto.response.AuditLogWriterStatsResponse;
+import com.example.demo.dto.response.EndpointLatencyResponse;
+import com.example.demo.dto.response.EndpointTrafficResponse;
+import com.example.demo.dto.response.ErrorGroupResponse;
+import com.example.demo.dto.response.TrafficPointResponse;
 import com.example.demo.dto.response.WorkspaceResponse;
+import com.example.demo.security.CacheStats;
+import com.example.demo.security.PermissionStats;
 import com.example.demo.service.AdminService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/admin")
@@ -53,4 +66,115 @@ public class AdminController {
         List<WorkspaceResponse> workspaces = adminService.getAllWorkspaces();
         return ResponseEntity.ok(workspaces);
     }
-} 
\ No newline at end of file
+
+    /**
+     * Yetkilendirme önbelleklerinin (rol ve board zinciri) istatistiklerini getir
+     */
+    @GetMapping("/permission-cache")
+    public ResponseEntity<Map<String, CacheStats>> getPermissionCacheStats() {
+        return ResponseEntity.ok(adminService.getPermissionCacheStats());
+    }
+
+    /**
+     * İzin bazında yetkilendirme ölçümlerini getir (toplam süreye göre azalan sırada)
+     */
+    @GetMapping("/permission-metrics")
+    public ResponseEntity<Map<String, PermissionStats>> getPermissionMetrics() {
+        return ResponseEntity.ok(adminService.getPermissionMetrics());
+    }
+
+    /**
+     * Audit log writer sayaçlarını getir
+     */
+    @GetMapping("/audit-log-writer")
+    public ResponseEntity<AuditLogWriterStatsResponse> getAuditLogWriterStats() {
+        return ResponseEntity.ok(adminService.getAuditLogWriterStats());
+    }
+
+    /**
+     * Etkin audit log örnekleme kurallarını ve yazılan/atlanan istek sayılarını getir
+     */
+    @GetMapping("/audit-log-sampling")
+    public ResponseEntity<AuditLogSamplingResponse> getAuditLogSampling() {
+        return ResponseEntity.ok(adminService.getAuditLogSampling());
+    }
+
+    /**
+     * Audit log örnekleme kurallarını değiştir (yeniden başlatma gerekmez)
+     */
+    @PutMapping("/audit-log-sampling")
+    public ResponseEntity<AuditLogSamplingResponse> updateAuditLogSampling(@RequestBody List<AuditLogSamplingRule> rules) {
+        try {
+            return ResponseEntity.ok(adminService.updateAuditLogSampling(rules));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Uç nokta bazında gecikme yüzdeliklerini (p50/p95/p99/max, nanosaniye) getir.
+     * reset=true ile histogramlar okunurken sıfırlanır ve yeni bir ölçüm aralığı başlar.
+     */
+    @GetMapping("/endpoint-latency")
+    public ResponseEntity<EndpointLatencyResponse> getEndpointLatency(@RequestParam(defaultValue = "false") boolean reset) {
+        return ResponseEntity.ok(adminService.getEndpointLatency(reset));
+    }
+
+    /**
+     * Trafik ve hata oranı grafiği (rollup tablosundan). from/to verilmezse son bir saat kullanılır.
+     */
+    @GetMapping("/traffic")
+    public ResponseEntity<List<TrafficPointResponse>> getTraffic(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to,
+            @RequestParam(defaultValue = "1") int stepMinutes,
+            @RequestParam(required = false) String source,
+            @RequestParam(required = false) String requestPath) {
+        OffsetDateTime end = to != null ? to : OffsetDateTime.now(ZoneOffset.UTC);
+        OffsetDateTime start = from != null ? from : end.minusHours(1);
+        try {
+            return ResponseEntity.ok(adminService.getTraffic(start, end, stepMinutes, source, requestPath));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Uç nokta bazında trafik ve hata toplamları (rollup tablosundan). from/to verilmezse son bir saat kullanılır.
+     */
+    @GetMapping("/traffic/endpoints")
+    public ResponseEntity<List<EndpointTrafficResponse>> getEndpointTraffic(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to,
+            @RequestParam(defaultValue = "errors") String orderBy,
+            @RequestParam(defaultValue = "20") int limit) {
+        OffsetDateTime end = to != null ? to : OffsetDateTime.now(ZoneOffset.UTC);
+        OffsetDateTime start = from != null ? from : end.minusHours(1);
+        try {
+            return ResponseEntity.ok(adminService.getEndpointTraffic(start, end, orderBy, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * En çok tekrarlanan hata grupları. since verilmezse son 24 saatte görülen gruplar listelenir.
+     */
+    @GetMapping("/error-groups")
+    public ResponseEntity<List<ErrorGroupResponse>> getTopErrorGroups(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime since,
+            @RequestParam(defaultValue = "20") int limit) {
+        OffsetDateTime start = since != null ? since : OffsetDateTime.now(ZoneOffset.UTC).minusHours(24);
+        return ResponseEntity.ok(adminService.getTopErrorGroups(start, limit));
+    }
+
+    /**
+     * Tek bir hata grubunu tam stack trace ile getir
+     */
+    @GetMapping("/error-groups/{fingerprint}")
+    public ResponseEntity<ErrorGroupResponse> getErrorGroup(@PathVariable String fingerprint) {
+        return adminService.getErrorGroup(fingerprint)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -148,7 +148,7 @@ public class AuthController {
 
         Map<String, String> response = new HashMap<>();
         try {
-            System.out.println("🧪 Gmail OAuth test email gönderimi başlatılıyor...");
+            log.info("🧪 Gmail OAuth test email gönderimi başlatılıyor...");
             gmailOAuthService.sendEmail(toEmail, subject, message, fromEmail);
             response.put("status", "success");
             response.put("message", "Test e-posta başarıyla gönderildi!");
@@ -156,7 +156,7 @@ public class AuthController {
             response.put("from", fromEmail);
             return ResponseEntity.ok(response);
         } catch (Exception e) {
-            System.err.println("❌ Test email gönderim hatası: " + e.getMessage());
+            log.error("❌ Test email gönderim hatası: {}", e.getMessage());
             response.put("status", "error");
             response.put("message", "E-posta gönderim hatası: " + e.getMessage());
             response.put("error", e.getClass().getSimpleName());
@@ -197,33 +197,26 @@ public class AuthController {
 
         if (gmailOAuthService.isAvailable()) {
             try {
-                System.out.println("🎯 Gmail OAuth API ile e-posta gönderimi deneniyor...");
+                log.debug("🎯 Gmail OAuth API ile e-posta gönderimi deneniyor...");
                 String fromEmail = "frontendproje@gmail.com";
                 gmailOAuthService.sendEmail(email, subject, body, fromEmail);
                 return "Yeni şifreniz e-posta adresinize gönderildi. [Gmail API]";
             } catch (Exception e) {
-                System.err.println("🚨 Gmail OAuth API HATA: " + e.getMessage());
-                if (e.getCause() != null) {
-                    System.err.println("   Cause: " + e.getCause().getMessage());
-                }
-                System.out.println("🔄 Gmail API başarısız, SMTP'ye geçiliyor...");
+                log.warn("🚨 Gmail OAuth API HATA: {} (Cause: {}). SMTP'ye geçiliyor...",
+                        e.getMessage(), e.getCause() != null ? e.getCause().getMessage() : null);
             }
         } else {
-            System.out.println("⚠️ Gmail OAuth servis mevcut değil, SMTP deneniyor...");
+            log.debug("⚠️ Gmail OAuth servis mevcut değil, SMTP deneniyor...");
         }
 
         if (emailService.isAvailable()) {
             try {
-                System.out.println("🎯 Outlook SMTP ile e-posta gönderimi deneniyor...");
+                log.debug("🎯 Outlook SMTP ile e-posta gönderimi deneniyor...");
                 emailService.sendEmail(email, subject, body);
                 return "Yeni şifreniz e-posta adresinize gönderildi. [Outlook SMTP - Fallback]";
             } catch (Exception e) {
-                System.err.println("🚨 Outlook SMTP DETAYLI HATA:");
-                System.err.println("   Hata türü: " + e.getClass().getSimpleName());
-                System.err.println("   Hata mesajı: " + e.getMessage());
-                if (e.getCause() != null) {
-                    System.err.println("   Cause: " + e.getCause().getMessage());
-                }
+                log.error("🚨 Outlook SMTP hatası. Hata türü: {}, Hata mesajı: {}, Cause: {}",
+                        e.getClass().getSimpleName(), e.getMessage(), e.getCause() != null ? e.getCause().getMessage() : null);
                 return "E-posta gönderim hatası: Hem Gmail API hem de SMTP başarısız oldu. Teknik ekip bilgilendirildi.";
             }
         } else {
@@ -1,12 +1,19 @@
 package com.example.demo.controller;
 
+import com.example.demo.cache.BoardVersionRegistry;
 import com.example.demo.dto.request.BoardRequest;
 import com.example.demo.dto.response.BoardResponse;
+import com.example.demo.dto.response.BoardSnapshotResponse;
 import com.example.demo.service.BoardService;
+import com.example.demo.service.BoardSnapshotService;
+import com.example.demo.security.PermissionAction;
+import com.example.demo.security.RequiresPermission;
+import com.example.demo.security.ResourceType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -16,11 +23,13 @@ import java.util.List;
 public class BoardController {
 
     private final BoardService boardService;
+    private final BoardSnapshotService boardSnapshotService;
+    private final BoardVersionRegistry boardVersionRegistry;
 
     // Yeni bir board oluşturma.
     // Sadece workspace sahibi (OWNER) ve lider (LEAD) board oluşturabilir.
     @PostMapping
-    @PreAuthorize("hasPermission(#request.getWorkspaceId(), 'create_board')")
+    @RequiresPermission(resource = ResourceType.BOARD, action = PermissionAction.CREATE, id = "request.workspaceId")
     public ResponseEntity<BoardResponse> createBoard(@RequestBody BoardRequest request) {
         BoardResponse createdBoard = boardService.createBoard(request);
         return ResponseEntity.ok(createdBoard);
@@ -29,7 +38,7 @@ public class BoardController {
     // Board'u güncelleme.
     // Board lideri (LEAD) veya sahibi (Workspace OWNER) güncelleyebilir.
     @PutMapping("/{boardId}")
-    @PreAuthorize("hasPermission(#boardId, 'update_board')")
+    @RequiresPermission(resource = ResourceType.BOARD, action = PermissionAction.UPDATE, id = "boardId")
     public ResponseEntity<BoardResponse> updateBoard(@PathVariable Integer boardId, @RequestBody BoardRequest request) {
         BoardResponse updatedBoard = boardService.updateBoard(boardId, request);
         return ResponseEntity.ok(updatedBoard);
@@ -38,7 +47,7 @@ public class BoardController {
     // Board'u silme.
     // Board lideri (LEAD) veya sahibi (Workspace OWNER) silebilir.
     @DeleteMapping("/{boardId}")
-    @PreAuthorize("hasPermission(#boardId, 'delete_board')")
+    @RequiresPermission(resource = ResourceType.BOARD, action = PermissionAction.DELETE, id = "boardId")
     public ResponseEntity<Void> deleteBoard(@PathVariable Integer boardId) {
         boardService.deleteBoard(boardId);
         return ResponseEntity.noContent().build();
@@ -47,7 +56,7 @@ public class BoardController {
     // Board'da bir üyeyi takım lideri (LEAD) olarak atama.
     // Sadece board lideri (LEAD) veya workspace sahibi (OWNER) bu işlemi yapabilir.
     @PostMapping("/{boardId}/promote-leader")
-    @PreAuthorize("hasPermission(#boardId, 'promote_leader')")
+    @RequiresPermission(resource = ResourceType.BOARD_MEMBER, action = PermissionAction.PROMOTE, id = "boardId")
     public ResponseEntity<Void> promoteLeader(@PathVariable Integer boardId, @RequestParam Integer memberId) {
         boardService.promoteLeader(boardId, memberId);
         return ResponseEntity.ok().build();
@@ -56,9 +65,23 @@ public class BoardController {
     // Bir workspace'e ait tüm board'ları listeleme.
     // Sadece workspace üyesi olanlar listeyi görebilir.
     @GetMapping("/workspace/{workspaceId}")
-    @PreAuthorize("hasPermission(#workspaceId, 'read_boards_in_workspace')")
+    @RequiresPermission(resource = ResourceType.BOARD, action = PermissionAction.LIST, id = "workspaceId")
     public ResponseEntity<List<BoardResponse>> getBoardsByWorkspaceId(@PathVariable Integer workspaceId) {
         List<BoardResponse> boards = boardService.getBoardsByWorkspaceId(workspaceId);
         return ResponseEntity.ok(boards);
     }
+
+    // Board'u listeleri, kartları, checklist'leri ve etiketleriyle birlikte tek istekte getirme.
+    // Board'a erişimi olan herkes görebilir. Board değişmediyse (If-None-Match güncel ETag ile
+    // eşleşiyorsa) hiçbir sorgu çalıştırılmadan 304 döner.
+    @GetMapping("/{boardId}/snapshot")
+    @RequiresPermission(resource = ResourceType.BOARD, action = PermissionAction.READ, id = "boardId")
+    public ResponseEntity<BoardSnapshotResponse> getBoardSnapshot(@PathVariable Integer boardId, WebRequest webRequest) {
+        String etag = boardVersionRegistry.etag("board", boardId, boardId);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(BoardVersionRegistry.REVALIDATE).build();
+        }
+        BoardSnapshotResponse snapshot = boardSnapshotService.getSnapshot(boardId);
+        return ResponseEntity.ok().eTag(etag).cacheControl(BoardVersionRegistry.REVALIDATE).body(snapshot);
+    }
 }
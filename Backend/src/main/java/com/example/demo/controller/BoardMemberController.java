@@ -2,9 +2,11 @@ package com.example.demo.controller;
 
 import com.example.demo.model.board_members.BoardMember;
 import com.example.demo.service.BoardMemberService;
+import com.example.demo.security.PermissionAction;
+import com.example.demo.security.RequiresPermission;
+import com.example.demo.security.ResourceType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import java.util.List;
 
@@ -19,7 +21,7 @@ public class BoardMemberController {
     // Yetkilendirme kontrolü için boardId kullanılır.
     // Varsayılan rol (MEMBER) otomatik olarak atanır.
     @PostMapping("/add")
-    @PreAuthorize("hasPermission(#boardId, 'add_member_to_board')")
+    @RequiresPermission(resource = ResourceType.BOARD_MEMBER, action = PermissionAction.CREATE, id = "boardId")
     public ResponseEntity<?> addMemberToBoard(@RequestParam Integer boardId, @RequestParam Integer memberId) {
         boardMemberService.addMemberToBoard(boardId, memberId);
         return ResponseEntity.ok("Üye board'a başarıyla eklendi.");
@@ -27,7 +29,7 @@ public class BoardMemberController {
 
     // Board'dan üye çıkarma
     @DeleteMapping("/remove")
-    @PreAuthorize("hasPermission(#boardId, 'remove_member_from_board')")
+    @RequiresPermission(resource = ResourceType.BOARD_MEMBER, action = PermissionAction.DELETE, id = "boardId")
     public ResponseEntity<?> removeMemberFromBoard(@RequestParam Integer boardId, @RequestParam Integer memberId) {
         boardMemberService.removeMemberFromBoard(boardId, memberId);
         return ResponseEntity.ok("Üye board'dan çıkarıldı.");
@@ -35,7 +37,7 @@ public class BoardMemberController {
 
     // Board üyelerini listeleme
     @GetMapping("/list")
-    @PreAuthorize("hasPermission(#boardId, 'read_board_members')")
+    @RequiresPermission(resource = ResourceType.BOARD_MEMBER, action = PermissionAction.READ, id = "boardId")
     public ResponseEntity<List<BoardMember>> getBoardMembers(@RequestParam Integer boardId) {
         return ResponseEntity.ok(boardMemberService.getBoardMembers(boardId));
     }
@@ -1,14 +1,21 @@
 package com.example.demo.controller;
 
+import com.example.demo.cache.BoardVersionRegistry;
 import com.example.demo.dto.request.CardRequest;
 import com.example.demo.dto.response.CardResponse;
 import com.example.demo.service.CardService;
+import com.example.demo.security.PermissionAction;
+import com.example.demo.security.RequiresPermission;
+import com.example.demo.security.ResourceType;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/cards")
@@ -16,10 +23,14 @@ import java.util.List;
 public class CardController {
 
     private final CardService cardService;
+    private final BoardVersionRegistry boardVersionRegistry;
+
+    // Tek istekte getirilebilecek en fazla kart sayısı
+    private static final int MAX_BATCH_IDS = 200;
 
     // Yeni bir kart oluşturur
     @PostMapping
-    @PreAuthorize("hasPermission(#request.getListId(), 'create_card')")
+    @RequiresPermission(resource = ResourceType.CARD, action = PermissionAction.CREATE, id = "request.listId")
     public ResponseEntity<CardResponse> createCard(@RequestBody CardRequest request) {
         CardResponse createdCard = cardService.createCard(request);
         return ResponseEntity.ok(createdCard);
@@ -27,7 +38,7 @@ public class CardController {
 
     // ID'ye göre kart getirir
     @GetMapping("/{id}")
-    @PreAuthorize("hasPermission(#id, 'read_card')")
+    @RequiresPermission(resource = ResourceType.CARD, action = PermissionAction.READ, id = "id")
     public ResponseEntity<CardResponse> getCardById(@PathVariable Integer id) {
         CardResponse cardResponse = cardService.getCardResponseById(id);
         if (cardResponse != null) {
@@ -37,17 +48,37 @@ public class CardController {
         }
     }
 
+    // Birden fazla kartı ID'leriyle tek istekte getirir (ör. /api/cards?ids=1,2,3).
+    // Yetki kontrolü tüm ID'ler için tek geçişte yapılır; herhangi birine erişim yoksa istek reddedilir.
+    // @Size, Spring MVC'nin metot doğrulamasıyla yetki kontrolünden önce uygulanır; sınırı aşan istek sorgu çalışmadan 400 alır.
+    @GetMapping(params = "ids")
+    @RequiresPermission(resource = ResourceType.CARD, action = PermissionAction.READ, id = "ids")
+    public ResponseEntity<List<CardResponse>> getCardsByIds(
+            @RequestParam @Size(max = MAX_BATCH_IDS, message = "En fazla " + MAX_BATCH_IDS + " kart ID'si gönderilebilir") List<Integer> ids) {
+        return ResponseEntity.ok(cardService.getCardsByIds(ids));
+    }
+
     // Bir listeye ait tüm kartları getirir.
+    // Listenin board'u değişmediyse (If-None-Match güncel ETag ile eşleşiyorsa) kartlar okunmadan 304 döner.
     @GetMapping("/list/{listId}")
-    @PreAuthorize("hasPermission(#listId, 'read_list')")
-    public ResponseEntity<List<CardResponse>> getCardsByListId(@PathVariable Integer listId) {
+    @RequiresPermission(resource = ResourceType.LIST, action = PermissionAction.READ, id = "listId")
+    public ResponseEntity<List<CardResponse>> getCardsByListId(@PathVariable Integer listId, WebRequest webRequest) {
+        Optional<Integer> boardId = boardVersionRegistry.findBoardIdByListId(listId);
+        if (boardId.isEmpty()) {
+            // Liste yok; servis uygun hatayı fırlatır
+            return ResponseEntity.ok(cardService.getCardsByListId(listId));
+        }
+        String etag = boardVersionRegistry.etag("cards", listId, boardId.get());
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(BoardVersionRegistry.REVALIDATE).build();
+        }
         List<CardResponse> responses = cardService.getCardsByListId(listId);
-        return ResponseEntity.ok(responses);
+        return ResponseEntity.ok().eTag(etag).cacheControl(BoardVersionRegistry.REVALIDATE).body(responses);
     }
 
     // Kartı günceller
     @PutMapping("/{id}")
-    @PreAuthorize("hasPermission(#id, 'update_card')")
+    @RequiresPermission(resource = ResourceType.CARD, action = PermissionAction.UPDATE, id = "id")
     public ResponseEntity<CardResponse> updateCard(@PathVariable Integer id, @RequestBody CardRequest request) {
         CardResponse updatedCard = cardService.updateCard(id, request);
         if (updatedCard != null) {
@@ -60,7 +91,7 @@ public class CardController {
     // Kartı siler
     // Service katmanı zaten hata fırlattığı için, Controller'da ek kontrol yapmaya gerek yoktur.
     @DeleteMapping("/{id}")
-    @PreAuthorize("hasPermission(#id, 'delete_card')")
+    @RequiresPermission(resource = ResourceType.CARD, action = PermissionAction.DELETE, id = "id")
     public ResponseEntity<Void> deleteCard(@PathVariable Integer id) {
         cardService.deleteCard(id); // ❗ Metot artık boolean döndürmediği için doğrudan çağrıldı.
         return ResponseEntity.noContent().build();
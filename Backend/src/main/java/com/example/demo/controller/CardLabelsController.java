@@ -5,6 +5,9 @@ import com.example.demo.dto.response.CardLabelsResponse;
 import com.example.demo.service.CardLabelsService;
 import com.example.demo.validation.CardLabelsValidation;
 import com.example.demo.exception.CardLabelNotFoundException;
+import com.example.demo.security.PermissionAction;
+import com.example.demo.security.RequiresPermission;
+import com.example.demo.security.ResourceType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize; // ❗ Yeni import
@@ -45,7 +48,7 @@ public class CardLabelsController {
     // Eklemek için card'a 'create_card_label' yetkisi olması gerekir.
     // Yetki kontrolü için dto'dan cardId'yi alıyoruz.
     @PostMapping
-    @PreAuthorize("hasPermission(#dto.getCardId(), 'create_card_label')")
+    @RequiresPermission(resource = ResourceType.CARD_LABEL, action = PermissionAction.CREATE, id = "dto.cardId")
     public ResponseEntity<CardLabelsResponse> create(@RequestBody CardLabelsRequest dto) {
         cardLabelsValidation.validate(dto);
         return ResponseEntity.ok(cardLabelsService.createCardLabel(dto));
@@ -55,7 +58,7 @@ public class CardLabelsController {
     // Güncellemek için card'a 'update_card_label' yetkisi olması gerekir.
     // Yetki kontrolü için id'yi kullanıyoruz.
     @PutMapping("/{id}")
-    @PreAuthorize("hasPermission(#id, 'update_card_label')")
+    @RequiresPermission(resource = ResourceType.CARD_LABEL, action = PermissionAction.UPDATE, id = "id")
     public ResponseEntity<CardLabelsResponse> update(@PathVariable Integer id, @RequestBody CardLabelsRequest dto) {
         cardLabelsValidation.validate(dto);
         var updated = cardLabelsService.updateCardLabel(id, dto);
@@ -66,7 +69,7 @@ public class CardLabelsController {
     // CardLabel sil
     // Silmek için card'a 'delete_card_label' yetkisi olması gerekir.
     @DeleteMapping("/{id}")
-    @PreAuthorize("hasPermission(#id, 'delete_card_label')")
+    @RequiresPermission(resource = ResourceType.CARD_LABEL, action = PermissionAction.DELETE, id = "id")
     public ResponseEntity<Void> delete(@PathVariable Integer id) {
         boolean deleted = cardLabelsService.deleteCardLabel(id);
         if (!deleted) throw new CardLabelNotFoundException(id);
@@ -8,6 +8,9 @@ import com.example.demo.dto.response.ChecklistItemResponseDTO;
 import com.example.demo.dto.response.ChecklistProgressDTO;
 import com.example.demo.service.ChecklistService;
 import com.example.demo.service.ChecklistItemService;
+import com.example.demo.security.PermissionAction;
+import com.example.demo.security.RequiresPermission;
+import com.example.demo.security.ResourceType;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -16,6 +19,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -41,6 +45,9 @@ public class ChecklistController {
     private final ChecklistService checklistService;
     private final ChecklistItemService checklistItemService;
 
+    // Tek istekte getirilebilecek en fazla checklist sayısı
+    private static final int MAX_BATCH_IDS = 200;
+
     /**
      * Constructor injection ile service dependency'lerini alır
      *
@@ -63,7 +70,7 @@ public class ChecklistController {
      * Yetkilendirme kontrolü için requestDTO içindeki cardId kullanılır.
      */
     @PostMapping
-    @PreAuthorize("hasPermission(#requestDTO.getCardId(), 'create_checklist')")
+    @RequiresPermission(resource = ResourceType.CHECKLIST, action = PermissionAction.CREATE, id = "requestDTO.cardId")
     @Operation(summary = "Yeni checklist oluştur",
             description = "Belirtilen kart için yeni bir checklist oluşturur")
     @ApiResponses(value = {
@@ -83,7 +90,7 @@ public class ChecklistController {
      * Yetkilendirme kontrolü için checklistId kullanılır.
      */
     @GetMapping("/{checklistId}")
-    @PreAuthorize("hasPermission(#checklistId, 'read_checklist')")
+    @RequiresPermission(resource = ResourceType.CHECKLIST, action = PermissionAction.READ, id = "checklistId")
     @Operation(summary = "Checklist getir",
             description = "ID'si verilen checklist'i getirir")
     @ApiResponses(value = {
@@ -98,12 +105,32 @@ public class ChecklistController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Birden fazla checklist'i ID'leriyle tek istekte getirir (ör. /api/checklists?ids=1,2,3)
+     * Yetkilendirme tüm ID'ler için tek geçişte yapılır; herhangi birine erişim yoksa istek reddedilir.
+     * ID sayısı sınırı (@Size) Spring MVC'nin metot doğrulamasıyla yetkilendirmeden önce denetlenir.
+     */
+    @GetMapping(params = "ids")
+    @RequiresPermission(resource = ResourceType.CHECKLIST, action = PermissionAction.READ, id = "ids")
+    @Operation(summary = "Birden fazla checklist getir",
+            description = "ID'leri verilen checklist'leri istenen sırayla getirir")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Checklist'ler başarıyla getirildi"),
+            @ApiResponse(responseCode = "400", description = "Çok fazla ID gönderildi")
+    })
+    public ResponseEntity<List<ChecklistResponseDTO>> getChecklistsByIds(
+            @Parameter(description = "Checklist ID listesi", required = true)
+            @RequestParam @Size(max = MAX_BATCH_IDS, message = "En fazla " + MAX_BATCH_IDS + " checklist ID'si gönderilebilir") List<Integer> ids) {
+
+        return ResponseEntity.ok(checklistService.getChecklistsByIds(ids));
+    }
+
     /**
      * Checklist'i item'larıyla birlikte detaylı olarak getirir
      * Yetkilendirme kontrolü için checklistId kullanılır.
      */
     @GetMapping("/{checklistId}/details")
-    @PreAuthorize("hasPermission(#checklistId, 'read_checklist')")
+    @RequiresPermission(resource = ResourceType.CHECKLIST, action = PermissionAction.READ, id = "checklistId")
     @Operation(summary = "Checklist detaylarını getir",
             description = "Checklist'i tüm item'larıyla birlikte getirir")
     @ApiResponses(value = {
@@ -123,7 +150,7 @@ public class ChecklistController {
      * Yetkilendirme kontrolü için cardId kullanılır.
      */
     @GetMapping("/card/{cardId}")
-    @PreAuthorize("hasPermission(#cardId, 'read_card')")
+    @RequiresPermission(resource = ResourceType.CARD, action = PermissionAction.READ, id = "cardId")
     @Operation(summary = "Karta ait checklist'leri getir",
             description = "Belirtilen karta ait tüm checklist'leri getirir")
     @ApiResponses(value = {
@@ -187,7 +214,7 @@ public class ChecklistController {
      * Yetkilendirme kontrolü için checklistId kullanılır.
      */
     @GetMapping("/{checklistId}/progress")
-    @PreAuthorize("hasPermission(#checklistId, 'read_checklist')")
+    @RequiresPermission(resource = ResourceType.CHECKLIST, action = PermissionAction.READ, id = "checklistId")
     @Operation(summary = "Checklist ilerlemesi getir",
             description = "Checklist'in tamamlanma oranını ve istatistiklerini getirir")
     @ApiResponses(value = {
@@ -251,7 +278,7 @@ public class ChecklistController {
      * Yetkilendirme kontrolü için checklistId kullanılır.
      */
     @PostMapping("/{checklistId}/items")
-    @PreAuthorize("hasPermission(#checklistId, 'create_checklist_item')")
+    @RequiresPermission(resource = ResourceType.CHECKLIST_ITEM, action = PermissionAction.CREATE, id = "checklistId")
     @Operation(summary = "Checklist item oluştur",
             description = "Belirtilen checklist'e yeni bir item ekler")
     @ApiResponses(value = {
@@ -296,7 +323,7 @@ public class ChecklistController {
      * Yetkilendirme kontrolü için checklistId kullanılır.
      */
     @GetMapping("/{checklistId}/items")
-    @PreAuthorize("hasPermission(#checklistId, 'read_checklist')")
+    @RequiresPermission(resource = ResourceType.CHECKLIST, action = PermissionAction.READ, id = "checklistId")
     @Operation(summary = "Checklist item'larını getir",
             description = "Belirtilen checklist'e ait tüm item'ları getirir")
     @ApiResponses(value = {
@@ -316,7 +343,7 @@ public class ChecklistController {
      * Yetkilendirme kontrolü için itemId kullanılır.
      */
     @PutMapping("/items/{itemId}")
-    @PreAuthorize("hasPermission(#itemId, 'update_checklist_item')")
+    @RequiresPermission(resource = ResourceType.CHECKLIST_ITEM, action = PermissionAction.UPDATE, id = "itemId")
     @Operation(summary = "Checklist item güncelle",
             description = "Mevcut checklist item'ını günceller")
     @ApiResponses(value = {
@@ -358,7 +385,7 @@ public class ChecklistController {
      * Yetkilendirme kontrolü için itemId kullanılır.
      */
     @PatchMapping("/items/{itemId}/text")
-    @PreAuthorize("hasPermission(#itemId, 'update_checklist_item')")
+    @RequiresPermission(resource = ResourceType.CHECKLIST_ITEM, action = PermissionAction.UPDATE, id = "itemId")
     @Operation(summary = "Item text güncelle",
             description = "Item'ın sadece text içeriğini günceller")
     @ApiResponses(value = {
@@ -381,7 +408,7 @@ public class ChecklistController {
      * Yetkilendirme kontrolü için itemId kullanılır.
      */
     @PatchMapping("/items/{itemId}/position")
-    @PreAuthorize("hasPermission(#itemId, 'update_checklist_item')")
+    @RequiresPermission(resource = ResourceType.CHECKLIST_ITEM, action = PermissionAction.UPDATE, id = "itemId")
     @Operation(summary = "Item pozisyon güncelle",
             description = "Item'ın checklist içindeki pozisyonunu günceller")
     @ApiResponses(value = {
@@ -403,7 +430,7 @@ public class ChecklistController {
      * Yetkilendirme kontrolü için itemId kullanılır.
      */
     @DeleteMapping("/items/{itemId}")
-    @PreAuthorize("hasPermission(#itemId, 'delete_checklist_item')")
+    @RequiresPermission(resource = ResourceType.CHECKLIST_ITEM, action = PermissionAction.DELETE, id = "itemId")
     @Operation(summary = "Checklist item sil",
             description = "Checklist item'ını kalıcı olarak siler")
     @ApiResponses(value = {
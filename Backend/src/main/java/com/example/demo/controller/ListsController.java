@@ -1,12 +1,18 @@
 package com.example.demo.controller;
 
+import com.example.demo.cache.BoardVersionRegistry;
 import com.example.demo.dto.request.ListsRequest;
 import com.example.demo.dto.response.ListsResponse;
 import com.example.demo.service.ListsService;
+import com.example.demo.security.PermissionAction;
+import com.example.demo.security.RequiresPermission;
+import com.example.demo.security.ResourceType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -16,27 +22,33 @@ import java.util.List;
 public class ListsController {
 
     private final ListsService listsService;
+    private final BoardVersionRegistry boardVersionRegistry;
 
     // Yeni bir liste oluşturma.
     // Kullanıcının, listeyi oluşturacağı board'da üye veya lider olması gerekir.
     @PostMapping
-    @PreAuthorize("hasPermission(#request.getBoardId(), 'create_list')")
+    @RequiresPermission(resource = ResourceType.LIST, action = PermissionAction.CREATE, id = "request.boardId")
     public ResponseEntity<ListsResponse> createList(@RequestBody ListsRequest request) {
         ListsResponse response = listsService.createList(request);
         return ResponseEntity.ok(response);
     }
 
     // Board'a ait tüm listeleri getirme.
+    // Board değişmediyse (If-None-Match güncel ETag ile eşleşiyorsa) listeler okunmadan 304 döner.
     @GetMapping("/board/{boardId}")
-    @PreAuthorize("hasPermission(#boardId, 'read_board')")
-    public ResponseEntity<List<ListsResponse>> getListsByBoardId(@PathVariable Integer boardId) {
+    @RequiresPermission(resource = ResourceType.BOARD, action = PermissionAction.READ, id = "boardId")
+    public ResponseEntity<List<ListsResponse>> getListsByBoardId(@PathVariable Integer boardId, WebRequest webRequest) {
+        String etag = boardVersionRegistry.etag("lists", boardId, boardId);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(BoardVersionRegistry.REVALIDATE).build();
+        }
         List<ListsResponse> responses = listsService.getListsByBoardId(boardId);
-        return ResponseEntity.ok(responses);
+        return ResponseEntity.ok().eTag(etag).cacheControl(BoardVersionRegistry.REVALIDATE).body(responses);
     }
 
     // ID'ye göre liste getir
     @GetMapping("/{id}")
-    @PreAuthorize("hasPermission(#id, 'read_list')")
+    @RequiresPermission(resource = ResourceType.LIST, action = PermissionAction.READ, id = "id")
     public ResponseEntity<ListsResponse> getListById(@PathVariable Integer id) {
         ListsResponse response = listsService.getListById(id);
         if (response != null) {
@@ -58,7 +70,7 @@ public class ListsController {
 
     // Liste silme
     @DeleteMapping("/{id}")
-    @PreAuthorize("hasPermission(#id, 'delete_list')")
+    @RequiresPermission(resource = ResourceType.LIST, action = PermissionAction.DELETE, id = "id")
     public ResponseEntity<Void> deleteList(@PathVariable Integer id) {
         boolean deleted = listsService.deleteList(id);
         if (deleted) {
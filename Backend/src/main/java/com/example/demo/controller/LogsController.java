@@ -1,15 +1,30 @@
 package com.example.demo.controller;
 
 import com.example.demo.dto.request.LogRequest;
+import com.example.demo.dto.request.LogSearchRequest;
 import com.example.demo.dto.response.LogResponse;
+import com.example.demo.dto.response.LogSearchResponse;
+import com.example.demo.dto.response.LogTextSearchResponse;
+import com.example.demo.security.NodoraPrincipal;
+import com.example.demo.service.LogBatchIngestService;
+import com.example.demo.service.LogExportService;
 import com.example.demo.service.LogsService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize; // PreAuthorize i\u00e7in import
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 /**
  * Merkezi loglama sistemi i\u00e7in REST API endpoint'lerini y\u00f6neten Controller s\u0131n\u0131f\u0131.
@@ -19,11 +34,18 @@ import java.util.List;
 @RequestMapping("/api/v1/logs")
 public class LogsController {
 
+    private static final int DEFAULT_PAGE_SIZE = 100;
+
     private final LogsService logsService;
+    private final LogExportService logExportService;
+    private final LogBatchIngestService logBatchIngestService;
 
     @Autowired
-    public LogsController(LogsService logsService) {
+    public LogsController(LogsService logsService, LogExportService logExportService,
+                          LogBatchIngestService logBatchIngestService) {
         this.logsService = logsService;
+        this.logExportService = logExportService;
+        this.logBatchIngestService = logBatchIngestService;
     }
 
     /**
@@ -44,12 +66,38 @@ public class LogsController {
     }
 
     /**
-     * T\u00fcm log kay\u0131tlar\u0131n\u0131 getirir veya belirli kriterlere g\u00f6re filtreler.
+     * Tek istekte birden fazla log kayd\u0131 olu\u015Fturur.
+     * G\u00f6vde bir JSON dizisi veya sat\u0131r ba\u015F\u0131na bir kay\u0131t (NDJSON) olabilir; kay\u0131tlar ak\u0131\u015F halinde okunur,
+     * JDBC batch ile tek transaction i\u00e7inde yaz\u0131l\u0131r. Do\u011frulanamayan kay\u0131tlar reddedilir, di\u011ferleri kaydedilir.
+     * Kay\u0131tlardaki memberId ve errorFingerprint dikkate al\u0131nmaz; memberId iste\u011fi yapan \u00fcyeden al\u0131n\u0131r.
+     *
+     * @return Her kayd\u0131n sonucu (index, kabul/red, hata); g\u00f6vde bozuksa veya kay\u0131t s\u0131n\u0131r\u0131 a\u015F\u0131l\u0131rsa
+     *         hata mesaj\u0131yla 400 ve hi\u00e7bir kay\u0131t yaz\u0131lmaz
+     */
+    @PostMapping(value = "/batch", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<?> createLogs(HttpServletRequest request) throws IOException {
+        Integer memberId = NodoraPrincipal.current().map(NodoraPrincipal::getMemberId).orElse(null);
+        try {
+            return ResponseEntity.ok(logBatchIngestService.ingest(request.getInputStream(), memberId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "error", "Ge\u00e7ersiz \u0130stek",
+                    "message", e.getMessage()));
+        }
+    }
+
+    /**
+     * Log kay\u0131tlar\u0131n\u0131 verilen filtrelerin t\u00fcm\u00fcn\u00fc birlikte uygulayarak getirir.
+     * Yaln\u0131zca ilk sayfa d\u00f6ner (en yeni kay\u0131tlar); sonraki sayfalar i\u00e7in /search kullan\u0131lmal\u0131d\u0131r.
      * Sadece ADMIN rol\u00fcne sahip kullan\u0131c\u0131lar eri\u015Febilir.
      *
      * @param source (Opsiyonel) Log kayna\u011f\u0131na g\u00f6re filtreleme
      * @param logLevel (Opsiyonel) Log seviyesine g\u00f6re filtreleme
      * @param memberId (Opsiyonel) \u00dcye ID'sine g\u00f6re filtreleme
+     * @param requestPathPrefix (Opsiyonel) \u0130stek yolunun ba\u015Flang\u0131c\u0131na g\u00f6re filtreleme
+     * @param from (Opsiyonel) Ba\u015Flang\u0131\u00e7 zaman\u0131 (ISO-8601, dahil)
+     * @param to (Opsiyonel) Biti\u015F zaman\u0131 (ISO-8601, hari\u00e7)
+     * @param limit (Opsiyonel) D\u00f6necek en fazla kay\u0131t say\u0131s\u0131
      * @return Filtrelenmi\u015F log kay\u0131tlar\u0131n\u0131n listesi
      */
     @GetMapping
@@ -57,31 +105,14 @@ public class LogsController {
     public ResponseEntity<List<LogResponse>> getAllLogs(
             @RequestParam(required = false) String source,
             @RequestParam(required = false) String logLevel,
-            @RequestParam(required = false) Integer memberId) {
-
-        List<LogResponse> logs;
-
-        // Daha kapsamlı filtreleme mantığı
-        // Bu k\u0131s\u0131mda birden fazla parametreyi dikkate alarak sorgu yapmal\u0131y\u0131z.
-        // Spring Data JPA'da dynamic query i\u00e7in Specification API veya QueryDSL daha uygun olur,
-        // ancak mevcut findBy metotlar\u0131n\u0131 kullanarak bir kombinasyon olu\u015Fturaca\u011f\u0131z.
-        if (source != null) {
-            logs = logsService.getLogsBySource(source);
-        } else if (logLevel != null) {
-            logs = logsService.getLogsByLogLevel(logLevel);
-        } else if (memberId != null) {
-            logs = logsService.getLogsByMemberId(memberId);
-        } else {
-            // Hi\u00e7bir filtreleme yoksa t\u00fcm loglar\u0131 getir (dikkatli kullan\u0131n)
-            // Performans i\u00e7in burada sayfalama (pagination) kullan\u0131lmas\u0131 \u00f6nerilir.
-            logs = logsService.getAllLogs(); // Yeni eklenecek metot
-        }
+            @RequestParam(required = false) Integer memberId,
+            @RequestParam(required = false) String requestPathPrefix,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit) {
 
-        // Birden fazla filtreleme durumunu ele al
-        // \u015Fimdilik, sadece tekli filtreleri uygulayan veya hi\u00e7 uygulamayan basit bir if-else yap\u0131s\u0131
-        // E\u011fer daha karma\u015F\u0131k kombinasyonlar isteniyorsa:
-        // - Service katman\u0131nda tek bir 'searchLogs' metodu olu\u015Fturulup t\u00fcm parametreleri al\u0131nabilir.
-        // - Veya birden \u00e7ok findBy kombinasyonu (findBySourceAndLogLevel gibi) Repository'ye eklenebilir.
+        LogSearchRequest filter = new LogSearchRequest(source, logLevel, memberId, requestPathPrefix, from, to);
+        List<LogResponse> logs = logsService.searchLogs(filter, null, limit).getItems();
 
         if (logs.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NO_CONTENT); // 204 No Content
@@ -89,6 +120,105 @@ public class LogsController {
         return new ResponseEntity<>(logs, HttpStatus.OK);
     }
 
+    /**
+     * Log kay\u0131tlar\u0131n\u0131 t\u00fcm filtreleri birlikte uygulayarak sayfa sayfa arar.
+     * Sayfalama (timestamp, id) \u00fczerinden keyset ile yap\u0131l\u0131r; bir sonraki sayfa i\u00e7in
+     * yan\u0131ttaki nextCursor de\u011feri cursor parametresiyle geri g\u00f6nderilir.
+     * Sadece ADMIN rol\u00fcne sahip kullan\u0131c\u0131lar eri\u015Febilir.
+     *
+     * @param cursor (Opsiyonel) \u00d6nceki sayfan\u0131n nextCursor de\u011feri
+     * @param limit (Opsiyonel) Sayfa boyutu (en fazla {@link LogsService#MAX_PAGE_SIZE})
+     * @return Sayfadaki loglar ve varsa sonraki sayfan\u0131n cursor'\u0131; cursor ge\u00e7ersizse 400
+     */
+    @GetMapping("/search")
+    @PreAuthorize("hasRole('ADMIN')") // Sadece ADMIN rol\u00fcne sahip kullan\u0131c\u0131lar eri\u015Febilir
+    public ResponseEntity<LogSearchResponse> searchLogs(
+            @RequestParam(required = false) String source,
+            @RequestParam(required = false) String logLevel,
+            @RequestParam(required = false) Integer memberId,
+            @RequestParam(required = false) String requestPathPrefix,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit) {
+
+        LogSearchRequest filter = new LogSearchRequest(source, logLevel, memberId, requestPathPrefix, from, to);
+        try {
+            return ResponseEntity.ok(logsService.searchLogs(filter, cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Log mesaj\u0131 ve exception metninde tam metin aramas\u0131 yapar; sonu\u00e7lar ilgiye g\u00f6re s\u0131ralan\u0131r.
+     * \u00d6rnek: q="NullPointerException updateCard" veya q="\"access denied\" -login"
+     * Sadece ADMIN rol\u00fcne sahip kullan\u0131c\u0131lar eri\u015Febilir.
+     *
+     * @param q Arama ifadesi
+     * @param from (Opsiyonel) Ba\u015Flang\u0131\u00e7 zaman\u0131 (ISO-8601, dahil)
+     * @param to (Opsiyonel) Biti\u015F zaman\u0131 (ISO-8601, hari\u00e7)
+     * @return \u0130lgi puan\u0131yla birlikte e\u015Fle\u015Fen loglar; q bo\u015Fsa 400
+     */
+    @GetMapping("/text-search")
+    @PreAuthorize("hasRole('ADMIN')") // Sadece ADMIN rol\u00fcne sahip kullan\u0131c\u0131lar eri\u015Febilir
+    public ResponseEntity<LogTextSearchResponse> searchLogText(
+            @RequestParam String q,
+            @RequestParam(required = false) String source,
+            @RequestParam(required = false) String logLevel,
+            @RequestParam(required = false) Integer memberId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+
+        LogSearchRequest filter = new LogSearchRequest(source, logLevel, memberId, null, from, to);
+        try {
+            return ResponseEntity.ok(logsService.searchText(q, filter, page, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Filtreye uyan loglar\u0131 NDJSON veya CSV olarak ak\u0131\u015F halinde d\u0131\u015Fa aktar\u0131r.
+     * Sat\u0131rlar veritaban\u0131 cursor'\u0131ndan okundukça yaz\u0131l\u0131r; yan\u0131t bellekte biriktirilmez.
+     * Sadece ADMIN rol\u00fcne sahip kullan\u0131c\u0131lar eri\u015Febilir.
+     *
+     * @param format (Opsiyonel) ndjson (varsay\u0131lan) veya csv
+     * @param gzip (Opsiyonel) true ise dosya gzip ile s\u0131k\u0131\u015Ft\u0131r\u0131l\u0131r
+     */
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')") // Sadece ADMIN rol\u00fcne sahip kullan\u0131c\u0131lar eri\u015Febilir
+    public void exportLogs(
+            @RequestParam(required = false) String source,
+            @RequestParam(required = false) String logLevel,
+            @RequestParam(required = false) Integer memberId,
+            @RequestParam(required = false) String requestPathPrefix,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response) throws IOException {
+
+        LogExportService.Format exportFormat;
+        try {
+            exportFormat = LogExportService.Format.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpStatus.BAD_REQUEST.value(), "Desteklenmeyen format: " + format);
+            return;
+        }
+
+        String fileName = "logs." + exportFormat.name().toLowerCase(Locale.ROOT) + (gzip ? ".gz" : "");
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(gzip ? "application/gzip"
+                : exportFormat == LogExportService.Format.CSV ? "text/csv; charset=UTF-8" : "application/x-ndjson; charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"");
+
+        LogSearchRequest filter = new LogSearchRequest(source, logLevel, memberId, requestPathPrefix, from, to);
+        logExportService.export(filter, exportFormat, gzip, response.getOutputStream());
+    }
+
     /**
      * Belirli bir kayna\u011fa (source) ait log kay\u0131tlar\u0131n\u0131 listeler.
      * Sadece ADMIN rol\u00fcne sahip kullan\u0131c\u0131lar eri\u015Febilir.
@@ -3,6 +3,9 @@ package com.example.demo.controller;
 import com.example.demo.dto.request.WorkspaceRequest;
 import com.example.demo.dto.response.WorkspaceResponse;
 import com.example.demo.service.WorkspaceService;
+import com.example.demo.security.PermissionAction;
+import com.example.demo.security.RequiresPermission;
+import com.example.demo.security.ResourceType;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -21,7 +24,7 @@ public class WorkspaceController {
     // Yeni bir workspace oluşturma
     // Bu işlem için kullanıcının global scope'ta 'MEMBER' rolüne sahip olması gerekir.
     @PostMapping
-    @PreAuthorize("hasPermission(null, 'create_workspace')")
+    @RequiresPermission(resource = ResourceType.WORKSPACE, action = PermissionAction.CREATE)
     public ResponseEntity<WorkspaceResponse> createWorkspace(@Valid @RequestBody WorkspaceRequest request) {
         WorkspaceResponse createdWorkspace = workspaceService.createWorkspace(request);
         return ResponseEntity.ok(createdWorkspace);
@@ -39,13 +42,13 @@ public class WorkspaceController {
     // Belirli bir memberId'ye ait workspaceleri getirir.
     // Yetkilendirme: Sadece kendi workspace'lerini listelemesine izin verilir.
     @GetMapping("/member/{memberId}")
-    @PreAuthorize("hasPermission(#memberId, 'read_workspaces_by_member')")
+    @RequiresPermission(resource = ResourceType.WORKSPACE, action = PermissionAction.LIST, id = "memberId")
     public ResponseEntity<List<WorkspaceResponse>> getWorkspacesByMemberId(@PathVariable Integer memberId) {
         List<WorkspaceResponse> workspaces = workspaceService.getWorkspacesByMemberId(memberId);
         return ResponseEntity.ok(workspaces);
     }
     @DeleteMapping("/{workspaceId}")
-    @PreAuthorize("hasPermission(#workspaceId, 'delete_workspace')")
+    @RequiresPermission(resource = ResourceType.WORKSPACE, action = PermissionAction.DELETE, id = "workspaceId")
     public ResponseEntity<Void> deleteWorkspace(@PathVariable Integer workspaceId) {
         workspaceService.deleteWorkspace(workspaceId);
         return ResponseEntity.noContent().build();
@@ -3,6 +3,9 @@ package com.example.demo.controller;
 import com.example.demo.dto.request.WorkspaceMemberRequest;
 import com.example.demo.dto.response.WorkspaceMemberResponse;
 import com.example.demo.service.WorkspaceMemberService;
+import com.example.demo.security.PermissionAction;
+import com.example.demo.security.RequiresPermission;
+import com.example.demo.security.ResourceType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -18,13 +21,13 @@ public class WorkspaceMemberController {
     private final WorkspaceMemberService workspaceMemberService;
 
     @PostMapping("/invite")
-    @PreAuthorize("hasPermission(#request.getWorkspaceId(), 'invite_member')")
+    @RequiresPermission(resource = ResourceType.WORKSPACE_MEMBER, action = PermissionAction.CREATE, id = "request.workspaceId")
     public ResponseEntity<WorkspaceMemberResponse> inviteMember(@RequestBody WorkspaceMemberRequest request) {
         return ResponseEntity.ok(workspaceMemberService.addMember(request));
     }
 
     @GetMapping("/workspace/{workspaceId}")
-    @PreAuthorize("hasPermission(#workspaceId, 'read_workspace_members')")
+    @RequiresPermission(resource = ResourceType.WORKSPACE_MEMBER, action = PermissionAction.READ, id = "workspaceId")
     public ResponseEntity<List<WorkspaceMemberResponse>> getMembers(@PathVariable Integer workspaceId) {
         return ResponseEntity.ok(workspaceMemberService.getMembersByWorkspaceId(workspaceId));
     }
@@ -43,7 +46,7 @@ public class WorkspaceMemberController {
     }
 
     @GetMapping("/member/{memberId}")
-    @PreAuthorize("hasPermission(#memberId, 'read_workspaces_by_member')")
+    @RequiresPermission(resource = ResourceType.WORKSPACE, action = PermissionAction.LIST, id = "memberId")
     public ResponseEntity<List<WorkspaceMemberResponse>> getWorkspaces(@PathVariable Integer memberId) {
         return ResponseEntity.ok(workspaceMemberService.getWorkspacesByMemberId(memberId));
     }
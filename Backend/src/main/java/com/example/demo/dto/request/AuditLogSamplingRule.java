@@ -0,0 +1,22 @@
+package com.example.demo.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Controller audit logları için uç nokta bazında örnekleme kuralı.
+ *
+ * endpoint "CardController.getCardsByListId" (tek metot), "CardController.*" (sınıfın tüm metotları)
+ * veya "*" (varsayılan) biçimindedir. Başarılı (INFO) kayıtların yalnızca infoSampleRate oranı yazılır;
+ * slowThresholdMs verilmişse bu süreyi aşan istekler her zaman yazılır. ERROR kayıtları örneklenmez.
+ * Yalnızca yavaş isteklerin tutulması için infoSampleRate 0 ve slowThresholdMs birlikte verilir.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditLogSamplingRule {
+    private String endpoint;
+    private double infoSampleRate = 1.0;
+    private Long slowThresholdMs;
+}
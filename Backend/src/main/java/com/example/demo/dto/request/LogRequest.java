@@ -22,4 +22,5 @@ public class LogRequest {
     private Integer memberId; // Integer olarak kalmal\u0131
     private String exception;
     private Map<String, Object> additionalData; // String yerine Map<String, Object>
+    private String errorFingerprint; // hata grubunun parmak izi (bkz. ErrorGroupRecorder)
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.example.demo.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Log araması için filtreler. Verilen tüm filtreler birlikte (AND) uygulanır; null alanlar yok sayılır.
+ * Zaman aralığı [from, to) biçimindedir.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LogSearchRequest {
+    private String source;
+    private String logLevel;
+    private Integer memberId;
+    private String requestPathPrefix;
+    private OffsetDateTime from;
+    private OffsetDateTime to;
+}
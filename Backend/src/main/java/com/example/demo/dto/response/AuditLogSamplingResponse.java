@@ -0,0 +1,24 @@
+package com.example.demo.dto.response;
+
+import com.example.demo.dto.request.AuditLogSamplingRule;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Etkin audit log örnekleme kuralları, kuralların kaynağı ve son yüklemeden bu yana
+ * yazılan / örneklemeyle atlanan başarılı istek sayıları.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditLogSamplingResponse {
+    private List<AuditLogSamplingRule> rules;
+    private String rulesFile;
+    private OffsetDateTime loadedAt;
+    private long kept;
+    private long sampledOut;
+}
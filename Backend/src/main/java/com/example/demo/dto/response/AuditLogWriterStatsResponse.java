@@ -0,0 +1,24 @@
+package com.example.demo.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Audit log writer'ın sayaçları: tampona eklenen, veritabanına yazılan, atılan, diske taşan ve
+ * yazılamayan kayıt sayıları ile tamponun anlık doluluğu.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditLogWriterStatsResponse {
+    private long enqueued;
+    private long flushed;
+    private long dropped;
+    private long spilled;
+    private long failed;
+    private long batches;
+    private int queued;
+    private int capacity;
+    private String overflowPolicy;
+}
@@ -0,0 +1,23 @@
+package com.example.demo.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Bir board'un açılması için gereken tüm veriler tek yanıtta.
+ * Kartlar listelerin altına gömülmez; istemci listId ile gruplar. Kartlar liste ve position
+ * sırasıyla, her kart kendi checklist'leri ve item'larıyla birlikte döner.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardSnapshotResponse {
+    private BoardResponse board;
+    private List<ListsResponse> lists;
+    private List<CardResponse> cards;
+    private List<LabelsResponse> labels;
+    private List<CardLabelsResponse> cardLabels;
+}
@@ -0,0 +1,23 @@
+package com.example.demo.dto.response;
+
+import com.example.demo.metrics.EndpointMetrics;
+import com.example.demo.metrics.LatencySnapshot;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+
+/**
+ * Katman ve uç nokta bazında gecikme yüzdelikleri (nanosaniye). intervalStart, ölçümlerin
+ * toplanmaya başladığı (son sıfırlama) anı gösterir.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EndpointLatencyResponse {
+    private OffsetDateTime intervalStart;
+    private OffsetDateTime intervalEnd;
+    private Map<EndpointMetrics.Layer, Map<String, LatencySnapshot>> endpoints;
+}
@@ -0,0 +1,21 @@
+package com.example.demo.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Bir uç noktanın (route kalıbı + controller) verilen zaman aralığındaki trafik ve hata toplamları.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EndpointTrafficResponse {
+    private String requestPath;
+    private String source;
+    private long requestCount;
+    private long errorCount;
+    private double errorRate;
+    private double avgLatencyMs;
+    private double maxLatencyMs;
+}
@@ -0,0 +1,23 @@
+package com.example.demo.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Aynı parmak izine sahip hataların grubu. stackTrace yalnızca tek grup sorgulandığında doldurulur.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ErrorGroupResponse {
+    private String fingerprint;
+    private String exceptionType;
+    private String message;
+    private OffsetDateTime firstSeen;
+    private OffsetDateTime lastSeen;
+    private long occurrenceCount;
+    private String stackTrace;
+}
@@ -0,0 +1,17 @@
+package com.example.demo.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Toplu log alımında tek bir kaydın sonucu. index, kaydın gövdedeki sırasıdır (0'dan başlar).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LogBatchItemResult {
+    private int index;
+    private boolean accepted;
+    private String error;
+}
@@ -0,0 +1,20 @@
+package com.example.demo.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Toplu log alımı yanıtı: alınan, kaydedilen ve reddedilen kayıt sayıları ile kayıt bazında sonuçlar.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LogBatchResponse {
+    private int received;
+    private int accepted;
+    private int rejected;
+    private List<LogBatchItemResult> results;
+}
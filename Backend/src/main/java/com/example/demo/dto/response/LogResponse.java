@@ -24,6 +24,7 @@ public class LogResponse {
     private Integer memberId; // Integer olarak kalmal\u0131
     private String ipAddress;
     private String requestPath;
+    private String errorFingerprint; // hata grubunun parmak izi; tam stack trace /api/admin/error-groups/{fingerprint}
 
     // T\u00fcm alanlar\u0131 alan constructor
     public LogResponse(Long id, Map<String, Object> additionalData, String exception, String ipAddress,
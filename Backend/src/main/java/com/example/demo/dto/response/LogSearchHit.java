@@ -0,0 +1,16 @@
+package com.example.demo.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Tam metin araması sonucu: log kaydı ve sorguyla ilgisi (ts_rank_cd; büyük olan daha ilgili).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LogSearchHit {
+    private LogResponse log;
+    private double rank;
+}
@@ -0,0 +1,19 @@
+package com.example.demo.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Sayfalı log araması yanıtı. Sonraki sayfa için nextCursor değeri aynı filtrelerle birlikte
+ * {@code cursor} parametresi olarak gönderilir; son sayfada null'dır.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LogSearchResponse {
+    private List<LogResponse> items;
+    private String nextCursor;
+}
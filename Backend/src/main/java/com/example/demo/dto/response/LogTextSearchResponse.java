@@ -0,0 +1,21 @@
+package com.example.demo.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Tam metin araması yanıtı. Sonuçlar ilgiye göre sıralandığından sayfalama page/size ile yapılır;
+ * hasMore sonraki sayfanın olup olmadığını gösterir.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LogTextSearchResponse {
+    private List<LogSearchHit> items;
+    private int page;
+    private int size;
+    private boolean hasMore;
+}
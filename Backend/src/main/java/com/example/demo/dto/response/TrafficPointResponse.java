@@ -0,0 +1,22 @@
+package com.example.demo.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Trafik grafiğinde tek bir zaman aralığı (bucket, bucket + step) için toplamlar.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrafficPointResponse {
+    private OffsetDateTime bucket;
+    private long requestCount;
+    private long errorCount;
+    private double errorRate;
+    private double avgLatencyMs;
+    private double maxLatencyMs;
+}
@@ -1,6 +1,7 @@
 package com.example.demo.exception;
 
 import com.example.demo.dto.request.LogRequest;
+import com.example.demo.metrics.ErrorGroupRecorder;
 import com.example.demo.service.LogsService;
 import jakarta.servlet.http.HttpServletRequest; // HttpServletRequest import edildi
 import lombok.RequiredArgsConstructor;
@@ -11,12 +12,14 @@ import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 import org.springframework.web.context.request.RequestContextHolder; // RequestContextHolder import edildi
 import org.springframework.web.context.request.ServletRequestAttributes; // ServletRequestAttributes import edildi
 
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects; // Objects import edildi
+import java.util.stream.Collectors;
 
 @ControllerAdvice
 @RequiredArgsConstructor // LogsService'i otomatik enjekte etmek i\u00e7in
@@ -24,6 +27,7 @@ import java.util.Objects; // Objects import edildi
 public class GlobalExceptionHandler {
 
     private final LogsService logsService; // LogsService enjekte edildi
+    private final ErrorGroupRecorder errorGroupRecorder; // hata gruplar\u0131 ve tekrar eden stack trace'lerin bast\u0131r\u0131lmas\u0131
 
     /**
      * Kullan\u0131c\u0131 bulunamad\u0131 hatalar\u0131n\u0131 yakalar ve loglar.
@@ -70,7 +74,7 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(BadCredentialsException.class)
     public ResponseEntity<Map<String, String>> handleBadCredentialsException(BadCredentialsException ex, HttpServletRequest request) {
-        log.error("Kimlik do\u011frulama hatas\u0131: {}", ex.getMessage(), ex);
+        String fingerprint = recordError("Kimlik do\u011frulama hatas\u0131", ex);
 
         Map<String, String> errorResponse = new HashMap<>();
         errorResponse.put("error", "Kimlik Do\u011frulama Hatas\u0131");
@@ -81,7 +85,8 @@ public class GlobalExceptionHandler {
         logRequest.setLogLevel("ERROR");
         logRequest.setMessage("Kimlik do\u011frulama ba\u015Far\u0131s\u0131z: " + ex.getMessage());
         logRequest.setSource("AuthService"); // Hatan\u0131n kayna\u011f\u0131
-        logRequest.setException(ex.toString()); // Exception detay\u0131
+        logRequest.setException(ex.getClass().getName()); // Tam metin error_groups tablosunda
+        logRequest.setErrorFingerprint(fingerprint);
 
         // IP adresi ve istek yolunu almaya \u00e7al\u0131\u015F
         try {
@@ -99,6 +104,27 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.UNAUTHORIZED); // 401 Unauthorized
     }
 
+    /**
+     * Controller parametrelerindeki k\u0131s\u0131t ihlallerini (\u00f6r. @Size) 400 olarak d\u00f6ner.
+     * Bu do\u011frulama yetki kontrol\u00fcnden \u00f6nce \u00e7al\u0131\u015f\u0131r; istemci hatas\u0131 oldu\u011fu i\u00e7in log tablosuna yaz\u0131lmaz.
+     *
+     * @param ex Yakalanan HandlerMethodValidationException
+     * @return Hata mesaj\u0131n\u0131 i\u00e7eren ResponseEntity
+     */
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<Map<String, String>> handleHandlerMethodValidationException(HandlerMethodValidationException ex) {
+        String message = ex.getAllErrors().stream()
+                .map(error -> error.getDefaultMessage())
+                .filter(Objects::nonNull)
+                .collect(Collectors.joining("; "));
+        log.warn("Ge\u00e7ersiz istek parametresi: {}", message);
+
+        Map<String, String> errorResponse = new HashMap<>();
+        errorResponse.put("error", "Ge\u00e7ersiz \u0130stek");
+        errorResponse.put("message", message);
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST); // 400 Bad Request
+    }
+
     /**
      * Di\u011fer t\u00fcm genel Exception'lar\u0131 yakalar ve loglar.
      *
@@ -108,7 +134,7 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, String>> handleGenericException(Exception ex, HttpServletRequest request) {
-        log.error("Genel hata olu\u015Ftu: {}", ex.getMessage(), ex);
+        String fingerprint = recordError("Genel hata olu\u015Ftu", ex);
 
         Map<String, String> errorResponse = new HashMap<>();
         errorResponse.put("error", "Sunucu Hatas\u0131");
@@ -119,7 +145,8 @@ public class GlobalExceptionHandler {
         logRequest.setLogLevel("ERROR");
         logRequest.setMessage("Genel hata: " + ex.getMessage());
         logRequest.setSource(request.getRequestURI()); // Kaynak olarak istek URI'si
-        logRequest.setException(ex.toString()); // Exception detay\u0131
+        logRequest.setException(ex.getClass().getName()); // Tam metin error_groups tablosunda
+        logRequest.setErrorFingerprint(fingerprint);
 
         // IP adresi ve istek yolunu almaya \u00e7al\u0131\u015F
         try {
@@ -134,4 +161,20 @@ public class GlobalExceptionHandler {
 
         return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR); // 500 Internal Server Error
     }
-}
\ No newline at end of file
+
+    /**
+     * Hatay\u0131 grubuna ekler ve konsola yazar; ayn\u0131 gruptaki tekrarlarda stack trace bas\u0131lmaz
+     * (LoggingAspect ayn\u0131 exception'\u0131 zaten kaydettiyse tekrar say\u0131lmaz).
+     *
+     * @return Hata grubunun parmak izi
+     */
+    private String recordError(String summary, Exception ex) {
+        String fingerprint = errorGroupRecorder.record(ex);
+        if (errorGroupRecorder.shouldLogStackTrace(fingerprint)) {
+            log.error("{}: {} [hata grubu {}]", summary, ex.getMessage(), fingerprint, ex);
+        } else {
+            log.error("{}: {} [hata grubu {}, stack trace tekrar bas\u0131lmad\u0131]", summary, ex.getMessage(), fingerprint);
+        }
+        return fingerprint;
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.demo.metrics;
+
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * LoggingAspect'in controller, service ve repository çağrıları için ölçtüğü süreleri uç nokta
+ * (sınıf + metot) bazında {@link LatencyHistogram}'larda toplayan bileşen.
+ *
+ * Histogramlar sınıf ve {@link Method} nesnesiyle iki seviyeli map'lerde tutulur; ilk çağrıdan
+ * sonra kayıt yolu yalnızca iki map okuması ve histogramın atomik artırmalarından oluşur.
+ * Uç nokta adı histogram oluşturulurken bir kez hesaplanır.
+ */
+@Component
+public class EndpointMetrics {
+
+    public enum Layer { CONTROLLER, SERVICE, REPOSITORY }
+
+    private final Map<Layer, ConcurrentMap<Class<?>, ConcurrentMap<Method, Endpoint>>> endpoints = new EnumMap<>(Layer.class);
+    private volatile OffsetDateTime intervalStart = OffsetDateTime.now(ZoneOffset.UTC);
+
+    public EndpointMetrics() {
+        for (Layer layer : Layer.values()) {
+            endpoints.put(layer, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * @param type   Çağrılan bean'in sınıfı (proxy sınıfı da olabilir)
+     * @param method Çağrılan metot
+     * @param nanos  System.nanoTime() ile ölçülen süre
+     */
+    public void record(Layer layer, Class<?> type, Method method, long nanos) {
+        endpoints.get(layer)
+                .computeIfAbsent(type, t -> new ConcurrentHashMap<>())
+                .computeIfAbsent(method, m -> new Endpoint(endpointName(type, m)))
+                .latency.record(nanos);
+    }
+
+    public OffsetDateTime getIntervalStart() {
+        return intervalStart;
+    }
+
+    /**
+     * Katman bazında, toplam süreye göre azalan sırada uç nokta ölçümlerini döner.
+     *
+     * @param reset true ise histogramlar okunurken sıfırlanır ve yeni bir ölçüm aralığı başlar
+     */
+    public Map<Layer, Map<String, LatencySnapshot>> snapshot(boolean reset) {
+        Map<Layer, Map<String, LatencySnapshot>> result = new EnumMap<>(Layer.class);
+        for (Layer layer : Layer.values()) {
+            Map<String, LatencySnapshot> snapshots = new LinkedHashMap<>();
+            endpoints.get(layer).values().forEach(byMethod -> byMethod.values().forEach(endpoint -> {
+                LatencySnapshot snapshot = reset ? endpoint.latency.snapshotAndReset() : endpoint.latency.snapshot();
+                if (snapshot.getCount() > 0) {
+                    // Aynı ada düşen (ör. overload edilmiş) metotlar birleştirilmez; sonuncusu tutulur
+                    snapshots.put(endpoint.name, snapshot);
+                }
+            }));
+            Map<String, LatencySnapshot> sorted = new LinkedHashMap<>();
+            snapshots.entrySet().stream()
+                    .sorted(Comparator.comparingLong((Map.Entry<String, LatencySnapshot> e) -> e.getValue().getTotalNanos()).reversed())
+                    .forEach(e -> sorted.put(e.getKey(), e.getValue()));
+            result.put(layer, sorted);
+        }
+        if (reset) {
+            intervalStart = OffsetDateTime.now(ZoneOffset.UTC);
+        }
+        return result;
+    }
+
+    /**
+     * Spring Data repository'leri JDK proxy'si, diğer bean'ler CGLIB alt sınıfı olarak gelir;
+     * her ikisi için de uygulamadaki asıl tip adı kullanılır.
+     */
+    static String endpointName(Class<?> type, Method method) {
+        Class<?> userClass = ClassUtils.getUserClass(type);
+        String typeName = userClass.getSimpleName();
+        if (Proxy.isProxyClass(userClass)) {
+            for (Class<?> candidate : userClass.getInterfaces()) {
+                if (candidate.getName().startsWith("com.example.demo.")) {
+                    typeName = candidate.getSimpleName();
+                    break;
+                }
+            }
+        }
+        return typeName + "." + method.getName();
+    }
+
+    private static final class Endpoint {
+        private final String name;
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        private Endpoint(String name) {
+            this.name = name;
+        }
+    }
+}
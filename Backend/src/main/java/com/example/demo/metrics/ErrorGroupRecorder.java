@@ -0,0 +1,283 @@
+package com.example.demo.metrics;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hataları kararlı bir parmak izine (fingerprint) göre gruplayan ve error_groups tablosuna yazan bileşen.
+ *
+ * Parmak izi, exception tipi ile uygulamaya ait (com.example.demo) en üstteki birkaç stack frame'in
+ * sınıf ve metot adlarından üretilir; satır numaraları kullanılmaz, böylece küçük kod değişiklikleri
+ * grupları bölmez. Tam stack trace grup başına bir kez saklanır; log kayıtları yalnızca parmak izini
+ * (error_fingerprint) tutar. Sayaçlar bellekte birikir ve flush-interval-ms aralıklarla
+ * INSERT ... ON CONFLICT DO UPDATE ile tabloya eklenir (bkz. RequestRollupRecorder).
+ *
+ * Aynı hata olay sırasında binlerce kez tekrarlandığında konsolu doldurmaması için stack trace
+ * her parmak izi için en fazla stack-trace-interval-ms'de bir basılır; aradaki kayıtlar tek satırdır.
+ *
+ * Log kayıtlarındaki tek stack trace kopyası grup satırında olduğu için gruplar, parmak izini taşıyan
+ * log kayıtlarından önce silinmemelidir: retention-days log tablosu (nodora.logs.retention-days) ve
+ * arşiv (nodora.logs.archive.retention-days, arşiv açıksa) sürelerinden kısa verilirse bu sürelerin
+ * en uzununa yükseltilir.
+ */
+@Component
+@Slf4j
+public class ErrorGroupRecorder {
+
+    private static final String APP_PACKAGE = "com.example.demo.";
+    private static final String ASPECT_PACKAGE = "com.example.demo.aspect.";
+    private static final int FINGERPRINT_FRAMES = 5;
+    private static final int MAX_MESSAGE_LENGTH = 1000;
+    private static final int MAX_STACK_TRACE_LENGTH = 64 * 1024;
+    private static final long IDLE_EVICT_MILLIS = 10 * 60_000L;
+
+    private static final String CREATE_TABLE_SQL =
+            "CREATE TABLE IF NOT EXISTS error_groups (" +
+            "fingerprint VARCHAR(16) PRIMARY KEY, " +
+            "exception_type VARCHAR(255) NOT NULL, " +
+            "message TEXT, " +
+            "stack_trace TEXT, " +
+            "first_seen TIMESTAMP WITH TIME ZONE NOT NULL, " +
+            "last_seen TIMESTAMP WITH TIME ZONE NOT NULL, " +
+            "occurrence_count BIGINT NOT NULL DEFAULT 0)";
+
+    // Tam metin yalnızca ilk INSERT'te yazılır; çakışmada sadece sayaç ve zamanlar güncellenir
+    private static final String UPSERT_SQL =
+            "INSERT INTO error_groups (fingerprint, exception_type, message, stack_trace, first_seen, last_seen, occurrence_count) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (fingerprint) DO UPDATE SET " +
+            "first_seen = LEAST(error_groups.first_seen, EXCLUDED.first_seen), " +
+            "last_seen = GREATEST(error_groups.last_seen, EXCLUDED.last_seen), " +
+            "occurrence_count = error_groups.occurrence_count + EXCLUDED.occurrence_count";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long stackTraceIntervalMillis;
+    private final int retentionDays;
+    private final ConcurrentMap<String, Group> groups = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, AtomicLong> lastStackTraceMillis = new ConcurrentHashMap<>();
+
+    // Aynı exception katmanlar boyunca (aspect, exception handler) birden fazla kez görülür;
+    // thread başına son görülen örnek hatırlanarak parmak izi bir kez hesaplanır ve bir kez sayılır
+    private final ThreadLocal<Seen> lastSeen = new ThreadLocal<>();
+
+    public ErrorGroupRecorder(JdbcTemplate jdbcTemplate,
+                              @Value("${nodora.error-groups.stack-trace-interval-ms:60000}") long stackTraceIntervalMillis,
+                              @Value("${nodora.error-groups.retention-days:365}") int retentionDays,
+                              @Value("${nodora.logs.retention-days:30}") int logsRetentionDays,
+                              @Value("${nodora.logs.archive.enabled:false}") boolean archiveEnabled,
+                              @Value("${nodora.logs.archive.retention-days:365}") int archiveRetentionDays) {
+        if (stackTraceIntervalMillis < 0 || retentionDays <= 0) {
+            throw new IllegalArgumentException("Hata grubu ayarları geçersiz: stack-trace-interval-ms negatif olamaz, retention-days pozitif olmalıdır.");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.stackTraceIntervalMillis = stackTraceIntervalMillis;
+        int logRetentionDays = Math.max(logsRetentionDays, archiveEnabled ? archiveRetentionDays : 0);
+        if (retentionDays < logRetentionDays) {
+            log.warn("nodora.error-groups.retention-days ({}) log saklama süresinden ({}) kısa; hata grupları {} gün saklanacak.",
+                    retentionDays, logRetentionDays, logRetentionDays);
+            retentionDays = logRetentionDays;
+        }
+        this.retentionDays = retentionDays;
+    }
+
+    @PostConstruct
+    public void createTable() {
+        jdbcTemplate.execute(CREATE_TABLE_SQL);
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_error_groups_last_seen ON error_groups (last_seen)");
+    }
+
+    /**
+     * Exception'ın parmak izini döner; sayaçları değiştirmez.
+     */
+    public String fingerprint(Throwable ex) {
+        return seen(ex).fingerprint;
+    }
+
+    /**
+     * Exception'ı grubuna ekler ve parmak izini döner. Aynı örnek tekrar verilirse yeniden sayılmaz.
+     */
+    public String record(Throwable ex) {
+        Seen seen = seen(ex);
+        if (!seen.recorded) {
+            seen.recorded = true;
+            long now = System.currentTimeMillis();
+            Group group = groups.computeIfAbsent(seen.fingerprint, k -> new Group(ex, now));
+            group.pending.incrementAndGet();
+            group.lastSeen.accumulateAndGet(now, Math::max);
+        }
+        return seen.fingerprint;
+    }
+
+    /**
+     * Bu parmak izi için konsola tam stack trace basılıp basılmayacağını döner. İlk görülmede ve
+     * sonrasında en fazla stack-trace-interval-ms'de bir true döner.
+     */
+    public boolean shouldLogStackTrace(String fingerprint) {
+        long now = System.currentTimeMillis();
+        AtomicLong last = lastStackTraceMillis.computeIfAbsent(fingerprint, k -> new AtomicLong());
+        long previous = last.get();
+        if (now - previous < stackTraceIntervalMillis) {
+            return false;
+        }
+        return last.compareAndSet(previous, now);
+    }
+
+    private Seen seen(Throwable ex) {
+        Seen seen = lastSeen.get();
+        if (seen != null && seen.exception.get() == ex) {
+            return seen;
+        }
+        seen = new Seen(ex, computeFingerprint(ex));
+        lastSeen.set(seen);
+        return seen;
+    }
+
+    /**
+     * Exception tipi ve uygulamaya ait en üstteki FINGERPRINT_FRAMES frame'den (sınıf#metot) 16 haneli
+     * hex parmak izi üretir. Uygulama frame'i yoksa (ör. framework içinde oluşan hata) en üstteki frame'ler kullanılır.
+     */
+    static String computeFingerprint(Throwable ex) {
+        StringBuilder key = new StringBuilder(ex.getClass().getName());
+        StackTraceElement[] stack = ex.getStackTrace();
+        int frames = 0;
+        for (StackTraceElement frame : stack) {
+            String className = frame.getClassName();
+            // Proxy/lambda sınıfları ve aspect frame'leri her hatada aynıdır, ayırt edici değildir
+            if (className.startsWith(APP_PACKAGE) && !className.startsWith(ASPECT_PACKAGE) && !className.contains("$$")) {
+                key.append('|').append(className).append('#').append(frame.getMethodName());
+                if (++frames == FINGERPRINT_FRAMES) {
+                    break;
+                }
+            }
+        }
+        for (int i = 0; frames == 0 && i < Math.min(FINGERPRINT_FRAMES, stack.length); i++) {
+            key.append('|').append(stack[i].getClassName()).append('#').append(stack[i].getMethodName());
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 desteklenmiyor", e);
+        }
+    }
+
+    /**
+     * Son flush'tan bu yana biriken sayaçları tabloya ekler. Yazma başarısız olursa sayaçlar geri eklenir.
+     */
+    @Scheduled(fixedDelayString = "${nodora.error-groups.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        long now = System.currentTimeMillis();
+        List<Delta> deltas = new ArrayList<>();
+        for (Map.Entry<String, Group> entry : groups.entrySet()) {
+            Group group = entry.getValue();
+            long count = group.pending.getAndSet(0L);
+            if (count > 0) {
+                deltas.add(new Delta(entry.getKey(), group, count, group.lastSeen.get()));
+            } else if (now - group.lastSeen.get() > IDLE_EVICT_MILLIS) {
+                groups.remove(entry.getKey(), group);
+            }
+        }
+        lastStackTraceMillis.entrySet().removeIf(e -> now - e.getValue().get() > Math.max(stackTraceIntervalMillis, IDLE_EVICT_MILLIS));
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, deltas, deltas.size(), (ps, delta) -> {
+                ps.setString(1, delta.fingerprint());
+                ps.setString(2, delta.group().exceptionType);
+                ps.setString(3, delta.group().message);
+                ps.setString(4, delta.group().stackTrace);
+                ps.setObject(5, toTimestamp(delta.group().firstSeen));
+                ps.setObject(6, toTimestamp(delta.lastSeen()));
+                ps.setLong(7, delta.count());
+            });
+        } catch (RuntimeException e) {
+            log.error("Hata grupları yazılamadı ({} grup), bir sonraki denemede tekrar yazılacak: {}", deltas.size(), e.getMessage());
+            for (Delta delta : deltas) {
+                groups.computeIfAbsent(delta.fingerprint(), k -> delta.group()).pending.addAndGet(delta.count());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        flush();
+    }
+
+    /**
+     * retention-days gündür görülmeyen grupları siler.
+     */
+    @Scheduled(cron = "${nodora.error-groups.cleanup-cron:0 20 0 * * *}", zone = "UTC")
+    public void deleteExpired() {
+        OffsetDateTime cutoff = OffsetDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.DAYS).minusDays(retentionDays);
+        int deleted = jdbcTemplate.update("DELETE FROM error_groups WHERE last_seen < ?", cutoff);
+        log.info("{} gündür görülmeyen {} hata grubu silindi.", retentionDays, deleted);
+    }
+
+    private static OffsetDateTime toTimestamp(long epochMillis) {
+        return OffsetDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC);
+    }
+
+    private static String truncate(String value, int maxLength) {
+        if (value == null) {
+            return null;
+        }
+        return value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+
+    private record Delta(String fingerprint, Group group, long count, long lastSeen) {
+    }
+
+    private static final class Seen {
+        private final WeakReference<Throwable> exception;
+        private final String fingerprint;
+        private boolean recorded;
+
+        private Seen(Throwable exception, String fingerprint) {
+            this.exception = new WeakReference<>(exception);
+            this.fingerprint = fingerprint;
+        }
+    }
+
+    private static final class Group {
+        private final String exceptionType;
+        private final String message;
+        private final String stackTrace;
+        private final long firstSeen;
+        private final AtomicLong pending = new AtomicLong();
+        private final AtomicLong lastSeen;
+
+        private Group(Throwable ex, long now) {
+            this.exceptionType = truncate(ex.getClass().getName(), 255);
+            this.message = truncate(ex.getMessage(), MAX_MESSAGE_LENGTH);
+            StringWriter stackTrace = new StringWriter();
+            ex.printStackTrace(new PrintWriter(stackTrace));
+            this.stackTrace = truncate(stackTrace.toString(), MAX_STACK_TRACE_LENGTH);
+            this.firstSeen = now;
+            this.lastSeen = new AtomicLong(now);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.demo.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Nanosaniye cinsinden süreleri kaydeden, kilitsiz (lock-free) gecikme histogramı.
+ *
+ * Değerler log-lineer kovalara yazılır: her ikinin kuvveti aralığı 8 eşit alt kovaya bölünür.
+ * Böylece yüzdelik değerler en fazla ~%12.5 hata ile hesaplanır ve histogram sabit bellek kullanır.
+ * {@link #record(long)} yalnızca atomik artırmalar yaptığı için sıcak yollarda güvenle çağrılabilir.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    public void record(long nanos) {
+        long value = Math.max(0L, nanos);
+        buckets.incrementAndGet(bucketIndex(value));
+        sum.add(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    public LatencySnapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        return toSnapshot(counts, total, max.get(), sum.sum());
+    }
+
+    /**
+     * Anlık görüntüyü alır ve histogramı sıfırlar (aralık bazlı ölçüm için).
+     * Her kova atomik olarak okunup sıfırlandığından hiçbir kayıt kaybolmaz ya da iki kez sayılmaz;
+     * sıfırlama sırasında gelen bir kayıt bu aralığa veya bir sonrakine düşer. Toplam süre ve max
+     * kovalardan ayrı tutulduğu için bu sınırdaki kayıtlarda ortalama çok küçük sapma gösterebilir.
+     */
+    public LatencySnapshot snapshotAndReset() {
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            if (buckets.get(i) != 0) {
+                counts[i] = buckets.getAndSet(i, 0L);
+                total += counts[i];
+            }
+        }
+        return toSnapshot(counts, total, max.getAndSet(0L), sum.sumThenReset());
+    }
+
+    private static LatencySnapshot toSnapshot(long[] counts, long total, long maxValue, long totalNanos) {
+        return new LatencySnapshot(
+                total,
+                total == 0 ? 0L : totalNanos / total,
+                percentile(counts, total, 0.50, maxValue),
+                percentile(counts, total, 0.95, maxValue),
+                percentile(counts, total, 0.99, maxValue),
+                maxValue,
+                totalNanos);
+    }
+
+    private static long percentile(long[] counts, long total, double quantile, long maxValue) {
+        if (total == 0) {
+            return 0L;
+        }
+        long rank = (long) Math.ceil(quantile * total);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(bucketUpperBound(i), maxValue);
+            }
+        }
+        return maxValue;
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value); // >= SUB_BUCKET_BITS
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long subBucket = index % SUB_BUCKETS;
+        return ((SUB_BUCKETS + subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.demo.metrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Bir {@link LatencyHistogram}'ın anlık görüntüsü. Tüm süreler nanosaniye cinsindendir.
+ */
+@Getter
+@AllArgsConstructor
+public class LatencySnapshot {
+
+    private final long count;
+    private final long meanNanos;
+    private final long p50Nanos;
+    private final long p95Nanos;
+    private final long p99Nanos;
+    private final long maxNanos;
+    private final long totalNanos;
+}
@@ -0,0 +1,172 @@
+package com.example.demo.metrics;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Controller isteklerini (uç nokta, kaynak, dakika) kovalarında sayan ve request_rollup tablosuna
+ * artımlı olarak yazan bileşen.
+ *
+ * LoggingAspect her istek için {@link #record} çağırır; sayaçlar bellekte birikir ve flush-interval-ms
+ * aralıklarla yalnızca son flush'tan bu yana oluşan farklar INSERT ... ON CONFLICT DO UPDATE ile
+ * tabloya eklenir. Böylece trafik ve hata oranı grafikleri logs tablosu taranmadan çizilebilir.
+ * Sayım audit log örneklemesinden önce yapıldığı için rollup her zaman tüm istekleri içerir.
+ *
+ * Uç nokta olarak ham URI yerine eşleşen route kalıbı (ör. /api/cards/{cardId}) kullanılır; aksi halde
+ * her id ayrı bir satır üretirdi.
+ */
+@Component
+@Slf4j
+public class RequestRollupRecorder {
+
+    private static final String CREATE_TABLE_SQL =
+            "CREATE TABLE IF NOT EXISTS request_rollup (" +
+            "bucket TIMESTAMP WITH TIME ZONE NOT NULL, " +
+            "request_path VARCHAR(255) NOT NULL, " +
+            "source VARCHAR(255) NOT NULL, " +
+            "request_count BIGINT NOT NULL DEFAULT 0, " +
+            "error_count BIGINT NOT NULL DEFAULT 0, " +
+            "latency_sum_micros BIGINT NOT NULL DEFAULT 0, " +
+            "latency_max_micros BIGINT NOT NULL DEFAULT 0, " +
+            "PRIMARY KEY (bucket, request_path, source))";
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO request_rollup (bucket, request_path, source, request_count, error_count, latency_sum_micros, latency_max_micros) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (bucket, request_path, source) DO UPDATE SET " +
+            "request_count = request_rollup.request_count + EXCLUDED.request_count, " +
+            "error_count = request_rollup.error_count + EXCLUDED.error_count, " +
+            "latency_sum_micros = request_rollup.latency_sum_micros + EXCLUDED.latency_sum_micros, " +
+            "latency_max_micros = GREATEST(request_rollup.latency_max_micros, EXCLUDED.latency_max_micros)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int retentionDays;
+    private final ConcurrentMap<Key, Cell> cells = new ConcurrentHashMap<>();
+
+    public RequestRollupRecorder(JdbcTemplate jdbcTemplate,
+                                 @Value("${nodora.request-rollup.retention-days:90}") int retentionDays) {
+        if (retentionDays <= 0) {
+            throw new IllegalArgumentException("Request rollup retention-days pozitif olmalıdır: " + retentionDays);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.retentionDays = retentionDays;
+    }
+
+    @PostConstruct
+    public void createTable() {
+        jdbcTemplate.execute(CREATE_TABLE_SQL);
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_request_rollup_path_bucket ON request_rollup (request_path, bucket)");
+    }
+
+    /**
+     * Tamamlanan bir isteği o anki dakika kovasına ekler.
+     */
+    public void record(String requestPath, String source, long elapsedNanos, boolean error) {
+        long bucket = System.currentTimeMillis() / 60_000L;
+        Cell cell = cells.computeIfAbsent(new Key(bucket, truncate(requestPath), truncate(source)), k -> new Cell());
+        cell.requests.incrementAndGet();
+        if (error) {
+            cell.errors.incrementAndGet();
+        }
+        long micros = TimeUnit.NANOSECONDS.toMicros(Math.max(0L, elapsedNanos));
+        cell.latencySum.addAndGet(micros);
+        cell.latencyMax.accumulateAndGet(micros, Math::max);
+    }
+
+    /**
+     * Son flush'tan bu yana biriken farkları tabloya ekler. Yazma başarısız olursa farklar
+     * sayaçlara geri eklenir ve bir sonraki flush'ta tekrar denenir.
+     */
+    @Scheduled(fixedDelayString = "${nodora.request-rollup.flush-interval-ms:10000}")
+    public synchronized void flush() {
+        long currentBucket = System.currentTimeMillis() / 60_000L;
+        List<Delta> deltas = new ArrayList<>();
+        for (Map.Entry<Key, Cell> entry : cells.entrySet()) {
+            Cell cell = entry.getValue();
+            long requests = cell.requests.getAndSet(0L);
+            if (requests > 0) {
+                deltas.add(new Delta(entry.getKey(), requests, cell.errors.getAndSet(0L),
+                        cell.latencySum.getAndSet(0L), cell.latencyMax.getAndSet(0L)));
+            }
+            // Kapanmış kovalar bir sonraki dakikadan sonra bellekten atılır; geç gelen kayıt penceresi bir dakikadır
+            if (entry.getKey().bucket() < currentBucket - 1 && cell.requests.get() == 0L) {
+                cells.remove(entry.getKey(), cell);
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, deltas, deltas.size(), (ps, delta) -> {
+                ps.setObject(1, OffsetDateTime.ofInstant(Instant.ofEpochSecond(delta.key().bucket() * 60L), ZoneOffset.UTC));
+                ps.setString(2, delta.key().requestPath());
+                ps.setString(3, delta.key().source());
+                ps.setLong(4, delta.requests());
+                ps.setLong(5, delta.errors());
+                ps.setLong(6, delta.latencySum());
+                ps.setLong(7, delta.latencyMax());
+            });
+        } catch (RuntimeException e) {
+            log.error("Request rollup yazılamadı ({} kova), bir sonraki denemede tekrar yazılacak: {}", deltas.size(), e.getMessage());
+            for (Delta delta : deltas) {
+                Cell cell = cells.computeIfAbsent(delta.key(), k -> new Cell());
+                cell.requests.addAndGet(delta.requests());
+                cell.errors.addAndGet(delta.errors());
+                cell.latencySum.addAndGet(delta.latencySum());
+                cell.latencyMax.accumulateAndGet(delta.latencyMax(), Math::max);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        flush();
+    }
+
+    /**
+     * retention-days günden eski kovaları siler.
+     */
+    @Scheduled(cron = "${nodora.request-rollup.cleanup-cron:0 15 0 * * *}", zone = "UTC")
+    public void deleteExpired() {
+        OffsetDateTime cutoff = OffsetDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.DAYS).minusDays(retentionDays);
+        int deleted = jdbcTemplate.update("DELETE FROM request_rollup WHERE bucket < ?", cutoff);
+        log.info("Süresi dolan {} request rollup kovası silindi. Sınır: {}", deleted, cutoff);
+    }
+
+    private static String truncate(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.length() > 255 ? value.substring(0, 255) : value;
+    }
+
+    private record Key(long bucket, String requestPath, String source) {
+    }
+
+    private record Delta(Key key, long requests, long errors, long latencySum, long latencyMax) {
+    }
+
+    private static final class Cell {
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong errors = new AtomicLong();
+        private final AtomicLong latencySum = new AtomicLong();
+        private final AtomicLong latencyMax = new AtomicLong();
+    }
+}
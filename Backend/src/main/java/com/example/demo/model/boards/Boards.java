@@ -26,6 +26,11 @@ public class Boards {
     @Column(name = "member_id", nullable = false)
     private Integer memberId;
 
+    // ETag sürümü; yalnızca BoardRepository.incrementVersion ile artırılır, entity kaydedilirken yazılmaz
+    @Column(name = "version", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private Long version;
+
     @OneToMany(mappedBy = "board", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<BoardMember> boardMembers;
 
@@ -73,6 +78,10 @@ public class Boards {
         this.memberId = memberId;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     public List<BoardMember> getBoardMembers() {
         return boardMembers;
     }
@@ -24,10 +24,21 @@ import java.util.Map; // JSONB i\u00e7in
  * - message: TEXT
  * - request_path: VARCHAR(255)
  * - source: VARCHAR(255) NOT NULL
- * - timestamp: TIMESTAMP WITH TIME ZONE DEFAULT NOW()
+ * - timestamp: TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW()
+ * - error_fingerprint: VARCHAR(16), hata kay\u0131tlar\u0131nda error_groups tablosundaki grubun parmak izi
+ * - search_vector: TSVECTOR, message ve exception'dan t\u00fcretilen kolon (GIN indeksli, entity'de e\u015Flenmez)
+ *
+ * Tablo timestamp kolonuna g\u00f6re g\u00fcn bazında RANGE partition'l\u0131d\u0131r (bkz. LogPartitionManager);
+ * veritaban\u0131ndaki birincil anahtar (id, timestamp) \u00e7iftidir.
  */
 @Entity
-@Table(name = "logs")
+@Table(name = "logs", indexes = {
+        // Keyset sayfalama (timestamp, id) ve filtre kombinasyonlar\u0131 i\u00e7in bile\u015Fik indeksler (bkz. LogPartitionManager)
+        @Index(name = "idx_logs_timestamp_id", columnList = "timestamp DESC, id DESC"),
+        @Index(name = "idx_logs_source_timestamp_id", columnList = "source, timestamp DESC, id DESC"),
+        @Index(name = "idx_logs_level_timestamp_id", columnList = "log_level, timestamp DESC, id DESC"),
+        @Index(name = "idx_logs_member_timestamp_id", columnList = "member_id, timestamp DESC, id DESC")
+})
 @Data // Lombok: Getter, Setter, equals, hashCode, toString metodlar\u0131n\u0131 otomatik olu\u015Fturur
 @NoArgsConstructor // Lombok: Arg\u00fcmans\u0131z constructor'u otomatik olu\u015Fturur
 public class Logs { // S\u0131n\u0131f ad\u0131n\u0131 Logs olarak g\u00fcncelledim
@@ -44,7 +55,7 @@ public class Logs { // S\u0131n\u0131f ad\u0131n\u0131 Logs olarak g\u00fcncelle
     @Column(name = "message", columnDefinition = "TEXT") // TEXT
     private String message;
 
-    @Column(name = "timestamp") // TIMESTAMP WITH TIME ZONE
+    @Column(name = "timestamp", nullable = false) // TIMESTAMP WITH TIME ZONE, partition anahtar\u0131
     private OffsetDateTime timestamp;
 
     @Column(name = "source", length = 255, nullable = false) // VARCHAR(255) NOT NULL
@@ -66,6 +77,9 @@ public class Logs { // S\u0131n\u0131f ad\u0131n\u0131 Logs olarak g\u00fcncelle
     @Column(name = "request_path", length = 255) // VARCHAR(255)
     private String requestPath;
 
+    @Column(name = "error_fingerprint", length = 16) // VARCHAR(16), tam stack trace error_groups tablosunda
+    private String errorFingerprint;
+
     /**
      * Entity veritaban\u0131na kaydedilmeden \u00f6nce otomatik olarak \u00e7al\u0131\u015Fan metot.
      * timestamp alan\u0131 null ise, o anki UTC zaman\u0131n\u0131 atar.
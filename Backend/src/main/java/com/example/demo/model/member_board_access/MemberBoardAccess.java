@@ -0,0 +1,48 @@
+package com.example.demo.model.member_board_access;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Üyelerin board erişimlerini tutan denormalize tablo.
+ *
+ * board_members + roles + boards join'inin sonucunu (üye, board, workspace, etkin rol) tek satırda
+ * saklar; yetkilendirme ve "erişebildiğim board'lar" sorguları join yerine birincil anahtar
+ * üzerinden okunur. Satırlar BoardMember/WorkspaceMember değişiklikleriyle aynı transaction içinde
+ * {@link com.example.demo.service.MemberBoardAccessService} tarafından güncellenir.
+ *
+ * - member_id, board_id: PRIMARY KEY
+ * - workspace_id: board'un ait olduğu workspace
+ * - role_name, role_scope: üyenin board üzerindeki rolü (ör. LEAD / BOARD)
+ */
+@Entity
+@Table(name = "member_board_access", indexes = {
+        @Index(name = "idx_member_board_access_member_workspace", columnList = "member_id, workspace_id"),
+        @Index(name = "idx_member_board_access_board", columnList = "board_id"),
+        @Index(name = "idx_member_board_access_workspace", columnList = "workspace_id")
+})
+@IdClass(MemberBoardAccessId.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberBoardAccess {
+
+    @Id
+    @Column(name = "member_id", nullable = false)
+    private Integer memberId;
+
+    @Id
+    @Column(name = "board_id", nullable = false)
+    private Integer boardId;
+
+    @Column(name = "workspace_id", nullable = false)
+    private Integer workspaceId;
+
+    @Column(name = "role_name", length = 10, nullable = false)
+    private String roleName;
+
+    @Column(name = "role_scope", length = 10, nullable = false)
+    private String roleScope;
+}
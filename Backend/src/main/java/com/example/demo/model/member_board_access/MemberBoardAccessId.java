@@ -0,0 +1,19 @@
+package com.example.demo.model.member_board_access;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * member_board_access tablosunun birleşik birincil anahtarı: (member_id, board_id).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberBoardAccessId implements Serializable {
+
+    private Integer memberId;
+    private Integer boardId;
+}
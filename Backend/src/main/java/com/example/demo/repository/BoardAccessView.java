@@ -0,0 +1,20 @@
+package com.example.demo.repository;
+
+/**
+ * Yetkilendirme sorgularının döndürdüğü projeksiyon.
+ *
+ * Hedef kaydın board zinciri (liste, kart, board) ile çağıran kullanıcının o board'daki
+ * rolü tek satırda gelir. Kullanıcı board üyesi değilse roleName ve scope null olur.
+ */
+public interface BoardAccessView {
+
+    Integer getBoardId();
+
+    Integer getListId();
+
+    Integer getCardId();
+
+    String getRoleName();
+
+    String getScope();
+}
@@ -48,6 +48,11 @@ public interface BoardMemberRepository extends JpaRepository<BoardMember, Intege
                           @Param("boardId") Integer boardId,
                           @Param("roleIds") List<Integer> roleIds);
 
+    // Üye workspace'ten çıkarıldığında o üyeliğe bağlı tüm board üyelikleri silinir
+    @Modifying
+    @Query("DELETE FROM BoardMember bm WHERE bm.workspaceMember.id = :workspaceMemberId")
+    int deleteByWorkspaceMemberId(@Param("workspaceMemberId") Integer workspaceMemberId);
+
     // Ek yardımcı metodlar
     @Query("SELECT bm FROM BoardMember bm WHERE bm.member.memberId = :memberId")
     List<BoardMember> findAllByMemberId(@Param("memberId") Integer memberId);
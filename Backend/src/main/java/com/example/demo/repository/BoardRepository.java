@@ -2,9 +2,11 @@ package com.example.demo.repository;
 
 import com.example.demo.model.boards.Boards;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,9 +16,22 @@ public interface BoardRepository extends JpaRepository<Boards, Integer> {
 
     List<Boards> findByWorkspaceId(Integer workspaceId);
 
+    @Query("SELECT b.boardId FROM Boards b WHERE b.workspaceId = :workspaceId")
+    List<Integer> findBoardIdsByWorkspaceId(@Param("workspaceId") Integer workspaceId);
+
     List<Boards> findByTitleContainingIgnoreCase(String title);
 
-    @Query("SELECT DISTINCT b FROM Boards b JOIN BoardMember bm ON b.boardId = bm.board.boardId WHERE bm.member.memberId = :memberId")
+    // Board sürümü (ETag): okuma birincil anahtar üzerinden, artırma çağıranın transaction'ında
+    @Query("SELECT b.version FROM Boards b WHERE b.boardId = :boardId")
+    Optional<Long> findVersionByBoardId(@Param("boardId") Integer boardId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Boards b SET b.version = b.version + 1 WHERE b.boardId = :boardId")
+    int incrementVersion(@Param("boardId") Integer boardId);
+
+    // Erişim tablosunun (member_id, board_id) birincil anahtarı üzerinden; DISTINCT gerekmez
+    @Query("SELECT b FROM MemberBoardAccess a JOIN Boards b ON b.boardId = a.boardId WHERE a.memberId = :memberId")
     List<Boards> findAccessibleBoards(@Param("memberId") Integer memberId);
 
     @Query("SELECT COUNT(bm) > 0 FROM BoardMember bm WHERE bm.board.boardId = :boardId AND bm.member.memberId = :memberId AND bm.roleId = 3")
@@ -2,8 +2,17 @@ package com.example.demo.repository;
 
 import com.example.demo.model.card_labels.Card_Labels;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface CardLabelsRepository extends JpaRepository<Card_Labels,Integer>{
-}
\ No newline at end of file
+
+    // Bir board'daki tüm kartların etiket atamalarını tek sorguda getirir.
+    @Query("SELECT cl FROM Card_Labels cl JOIN Card c ON c.cardId = cl.cardId JOIN Lists l ON l.listId = c.listId " +
+           "WHERE l.boardId = :boardId")
+    List<Card_Labels> findByBoardId(@Param("boardId") Integer boardId);
+}
@@ -2,9 +2,12 @@ package com.example.demo.repository;
 
 import com.example.demo.model.cards.Card;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface CardRepository extends JpaRepository<Card, Integer> {
@@ -23,4 +26,16 @@ public interface CardRepository extends JpaRepository<Card, Integer> {
      * @return Belirtilen list'e ait kartların pozisyona göre sıralı listesi
      */
     List<Card> findByListIdOrderByPosition(Integer listId);
-}
\ No newline at end of file
+
+    /**
+     * Bir board'daki tüm listelerin kartlarını tek sorguda, liste ve position sırasıyla getirir.
+     */
+    @Query("SELECT c FROM Card c JOIN Lists l ON l.listId = c.listId WHERE l.boardId = :boardId ORDER BY c.listId, c.position")
+    List<Card> findByBoardId(@Param("boardId") Integer boardId);
+
+    /**
+     * Kartın bulunduğu board'un kimlik numarasını getirir (kart yoksa empty).
+     */
+    @Query("SELECT l.boardId FROM Card c JOIN Lists l ON l.listId = c.listId WHERE c.cardId = :cardId")
+    Optional<Integer> findBoardIdByCardId(@Param("cardId") Integer cardId);
+}
@@ -0,0 +1,10 @@
+package com.example.demo.repository;
+
+/**
+ * Toplu checklist yetkilendirme sorgusunun projeksiyonu; satırın hangi checklist'e ait
+ * olduğunu da taşır.
+ */
+public interface ChecklistAccessView extends BoardAccessView {
+
+    Integer getChecklistId();
+}
@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import jakarta.transaction.Transactional; // 🔥 Önemli: Modifying için gerekli
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +17,9 @@ public interface ChecklistItemRepository extends JpaRepository<ChecklistItems, I
 
     List<ChecklistItems> findByChecklistIdOrderByPositionAsc(Integer checklistId);
 
+    // Verilen checklist'lerin tüm item'larını tek bir IN sorgusuyla getirir
+    List<ChecklistItems> findByChecklistIdInOrderByChecklistIdAscPositionAsc(Collection<Integer> checklistIds);
+
     boolean existsByChecklistId(Integer checklistId);
 
     int countByChecklistId(Integer checklistId);
@@ -25,6 +29,12 @@ public interface ChecklistItemRepository extends JpaRepository<ChecklistItems, I
     @Query("SELECT MAX(ci.position) FROM ChecklistItems ci WHERE ci.checklistId = :checklistId")
     Optional<Integer> findMaxPositionByChecklistId(@Param("checklistId") Integer checklistId);
 
+    // Bir board'daki tüm checklist item'larını tek sorguda getirir (board snapshot'ı için)
+    @Query("SELECT ci FROM ChecklistItems ci JOIN Checklist ch ON ch.checklistId = ci.checklistId " +
+           "JOIN Card c ON c.cardId = ch.cardId JOIN Lists l ON l.listId = c.listId " +
+           "WHERE l.boardId = :boardId ORDER BY ci.checklistId, ci.position")
+    List<ChecklistItems> findByBoardId(@Param("boardId") Integer boardId);
+
     @Modifying
     @Transactional
     @Query("UPDATE ChecklistItems ci SET ci.isCompleted = NOT ci.isCompleted WHERE ci.checklistItemsId = :itemId")
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,6 +34,16 @@ public interface ChecklistRepository extends JpaRepository<Checklist, Integer> {
      */
     List<Checklist> findByCardIdOrderByPositionAsc(Integer cardId);
 
+    /**
+     * Verilen kartların tüm checklist'lerini tek bir IN sorgusuyla getirir
+     *
+     * @param cardIds Checklist'leri getirilecek kartların kimlik numaraları
+     * @return List<Checklist> Kart ve position'a göre sıralı checklist'ler
+     *
+     * @apiNote Kart listeleri için kullanılır; kart başına ayrı sorgu yapılmaz
+     */
+    List<Checklist> findByCardIdInOrderByCardIdAscPositionAsc(Collection<Integer> cardIds);
+
     /**
      * Belirli bir karta ait checklist'lerin varlığını kontrol eder
      *
@@ -63,4 +74,26 @@ public interface ChecklistRepository extends JpaRepository<Checklist, Integer> {
      */
     @Query("SELECT MAX(c.position) FROM Checklist c WHERE c.cardId = :cardId")
     Optional<Integer> findMaxPositionByCardId(@Param("cardId") Integer cardId);
+
+    /**
+     * Bir board'daki tüm kartların checklist'lerini tek sorguda getirir
+     *
+     * @param boardId Board'un kimlik numarası
+     * @return List<Checklist> Kart ve position'a göre sıralı checklist'ler
+     *
+     * @apiNote Board snapshot'ı için kullanılır; kart başına ayrı sorgu yapılmaz
+     */
+    @Query("SELECT ch FROM Checklist ch JOIN Card c ON c.cardId = ch.cardId JOIN Lists l ON l.listId = c.listId " +
+           "WHERE l.boardId = :boardId ORDER BY ch.cardId, ch.position")
+    List<Checklist> findByBoardId(@Param("boardId") Integer boardId);
+
+    /**
+     * Checklist'in bulunduğu board'un kimlik numarasını getirir
+     *
+     * @param checklistId Checklist'in kimlik numarası
+     * @return Optional<Integer> Board ID'si (checklist yoksa empty)
+     */
+    @Query("SELECT l.boardId FROM Checklist ch JOIN Card c ON c.cardId = ch.cardId JOIN Lists l ON l.listId = c.listId " +
+           "WHERE ch.checklistId = :checklistId")
+    Optional<Integer> findBoardIdByChecklistId(@Param("checklistId") Integer checklistId);
 }
@@ -4,6 +4,11 @@ import com.example.demo.model.labels.Labels;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface LabelsRepository extends JpaRepository<Labels,Integer>{
-        }
\ No newline at end of file
+
+    // Belirli bir board'a ait tüm etiketleri getirir.
+    List<Labels> findByBoardId(Integer boardId);
+}
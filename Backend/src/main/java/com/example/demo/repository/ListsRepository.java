@@ -2,9 +2,12 @@ package com.example.demo.repository;
 
 import com.example.demo.model.lists.Lists;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 // Lists tablosu için temel CRUD işlemlerini sağlayan repository arayüzü
 @Repository
@@ -17,4 +20,13 @@ public interface ListsRepository extends JpaRepository<Lists, Integer> {
      * @return Belirtilen board'a ait listelerin listesi
      */
     List<Lists> findByBoardIdOrderByPosition(Integer boardId);
-}
\ No newline at end of file
+
+    /**
+     * Listenin bağlı olduğu board'un kimlik numarasını getirir.
+     *
+     * @param listId Sorgulanacak list'in kimlik numarası
+     * @return Board ID'si (liste yoksa empty)
+     */
+    @Query("SELECT l.boardId FROM Lists l WHERE l.listId = :listId")
+    Optional<Integer> findBoardIdByListId(@Param("listId") Integer listId);
+}
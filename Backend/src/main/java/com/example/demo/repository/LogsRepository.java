@@ -7,7 +7,7 @@ import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
-public interface LogsRepository extends JpaRepository<Logs, Long> {
+public interface LogsRepository extends JpaRepository<Logs, Long>, LogsRepositoryCustom {
 
     /**
      * Kaynağa (source) göre log kayıtlarını listeler.
@@ -43,5 +43,4 @@ public interface LogsRepository extends JpaRepository<Logs, Long> {
      * @return Üye ID ve log seviyesine göre filtrelenmiş log kayıtlarının listesi
      */
     List<Logs> findByMemberIdAndLogLevel(Integer memberId, String logLevel);
-
-}
\ No newline at end of file
+}
@@ -0,0 +1,41 @@
+package com.example.demo.repository;
+
+import com.example.demo.dto.request.LogSearchRequest;
+import com.example.demo.model.logs.Logs;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Spring Data metot adlarıyla ifade edilemeyen dinamik log sorguları.
+ */
+public interface LogsRepositoryCustom {
+
+    /**
+     * Filtrelere uyan logları (timestamp, id) sırasına göre yeniden eskiye döner.
+     * beforeTimestamp/beforeId verilirse yalnızca bu anahtardan sonra gelen (daha eski) kayıtlar
+     * döner (keyset sayfalama); OFFSET kullanılmaz.
+     *
+     * @param filter          Birlikte uygulanacak filtreler
+     * @param beforeTimestamp Önceki sayfanın son kaydının zamanı (ilk sayfa için null)
+     * @param beforeId        Önceki sayfanın son kaydının ID'si (ilk sayfa için null)
+     * @param limit           En fazla dönecek kayıt sayısı
+     */
+    List<Logs> search(LogSearchRequest filter, OffsetDateTime beforeTimestamp, Long beforeId, int limit);
+
+    /**
+     * message ve exception üzerinde tam metin araması yapar; sonuçlar ilgiye (ts_rank_cd), eşitlikte
+     * yeniden eskiye sıralanır. Sorgu websearch sözdizimini kabul eder ("tam ifade", or, -hariç).
+     * Zaman aralığı verilirse yalnızca ilgili partition'lar taranır.
+     *
+     * @param query  Arama ifadesi
+     * @param filter Ek filtreler (source, logLevel, memberId, zaman aralığı)
+     */
+    List<RankedLog> fullTextSearch(String query, LogSearchRequest filter, int offset, int limit);
+
+    /**
+     * Tam metin araması sonucu: log kaydı ve ilgi puanı.
+     */
+    record RankedLog(Logs log, double rank) {
+    }
+}
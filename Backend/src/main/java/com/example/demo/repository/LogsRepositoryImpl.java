@@ -0,0 +1,129 @@
+package com.example.demo.repository;
+
+import com.example.demo.dto.request.LogSearchRequest;
+import com.example.demo.model.logs.Logs;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link LogsRepositoryCustom} uygulaması. Sorgu yalnızca verilen filtrelerle oluşturulur; böylece
+ * PostgreSQL her kombinasyon için uygun bileşik indeksi (ör. source, timestamp, id) seçebilir ve
+ * zaman aralığı verildiğinde yalnızca ilgili partition'ları tarar.
+ */
+public class LogsRepositoryImpl implements LogsRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Logs> search(LogSearchRequest filter, OffsetDateTime beforeTimestamp, Long beforeId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Logs> query = cb.createQuery(Logs.class);
+        Root<Logs> log = query.from(Logs.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter.getSource() != null) {
+            predicates.add(cb.equal(log.get("source"), filter.getSource()));
+        }
+        if (filter.getLogLevel() != null) {
+            predicates.add(cb.equal(log.get("logLevel"), filter.getLogLevel()));
+        }
+        if (filter.getMemberId() != null) {
+            predicates.add(cb.equal(log.get("memberId"), filter.getMemberId()));
+        }
+        if (filter.getRequestPathPrefix() != null && !filter.getRequestPathPrefix().isEmpty()) {
+            predicates.add(cb.like(log.get("requestPath"), escapeLike(filter.getRequestPathPrefix()) + "%", '\\'));
+        }
+        if (filter.getFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(log.get("timestamp"), filter.getFrom()));
+        }
+        if (filter.getTo() != null) {
+            predicates.add(cb.lessThan(log.get("timestamp"), filter.getTo()));
+        }
+        if (beforeTimestamp != null && beforeId != null) {
+            // (timestamp, id) < (:beforeTimestamp, :beforeId)
+            predicates.add(cb.or(
+                    cb.lessThan(log.get("timestamp"), beforeTimestamp),
+                    cb.and(cb.equal(log.get("timestamp"), beforeTimestamp), cb.lessThan(log.get("id"), beforeId))));
+        }
+
+        query.select(log)
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.desc(log.get("timestamp")), cb.desc(log.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<RankedLog> fullTextSearch(String query, LogSearchRequest filter, int offset, int limit) {
+        StringBuilder sql = new StringBuilder(
+                "SELECT {l.*}, ts_rank_cd(l.search_vector, q) AS rank " +
+                "FROM logs l, websearch_to_tsquery('simple', :query) q " +
+                "WHERE l.search_vector @@ q");
+        Map<String, Object> params = new HashMap<>();
+        params.put("query", normalizeQuery(query));
+        if (filter.getSource() != null) {
+            sql.append(" AND l.source = :source");
+            params.put("source", filter.getSource());
+        }
+        if (filter.getLogLevel() != null) {
+            sql.append(" AND l.log_level = :logLevel");
+            params.put("logLevel", filter.getLogLevel());
+        }
+        if (filter.getMemberId() != null) {
+            sql.append(" AND l.member_id = :memberId");
+            params.put("memberId", filter.getMemberId());
+        }
+        if (filter.getFrom() != null) {
+            sql.append(" AND l.timestamp >= :from");
+            params.put("from", filter.getFrom());
+        }
+        if (filter.getTo() != null) {
+            sql.append(" AND l.timestamp < :to");
+            params.put("to", filter.getTo());
+        }
+        sql.append(" ORDER BY rank DESC, l.timestamp DESC, l.id DESC");
+
+        NativeQuery<Object[]> nativeQuery = entityManager.createNativeQuery(sql.toString())
+                .unwrap(NativeQuery.class)
+                .addEntity("l", Logs.class)
+                .addScalar("rank", StandardBasicTypes.DOUBLE);
+        params.forEach(nativeQuery::setParameter);
+        nativeQuery.setFirstResult(offset);
+        nativeQuery.setMaxResults(limit);
+
+        List<RankedLog> result = new ArrayList<>();
+        for (Object[] row : nativeQuery.getResultList()) {
+            result.add(new RankedLog((Logs) row[0], row[1] != null ? (Double) row[1] : 0.0));
+        }
+        return result;
+    }
+
+    /**
+     * search_vector, message/exception içindeki noktalama işaretleri boşluğa çevrilerek oluşturulur
+     * (ör. java.lang.NullPointerException -> java lang nullpointerexception). Sorgu da aynı şekilde
+     * ayrıştırılır; websearch sözdizimindeki tırnak ve '-' korunur.
+     */
+    private static String normalizeQuery(String query) {
+        return query.replaceAll("[.:/\\\\$#@()\\[\\]{}=,;<>|!?*&+]+", " ").trim();
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
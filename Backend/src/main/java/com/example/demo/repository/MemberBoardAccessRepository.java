@@ -0,0 +1,107 @@
+package com.example.demo.repository;
+
+import com.example.demo.model.member_board_access.MemberBoardAccess;
+import com.example.demo.model.member_board_access.MemberBoardAccessId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface MemberBoardAccessRepository extends JpaRepository<MemberBoardAccess, MemberBoardAccessId> {
+
+    // Temel sorgular (birincil anahtar / (member_id, workspace_id) indeksi)
+    List<MemberBoardAccess> findByMemberId(Integer memberId);
+
+    List<MemberBoardAccess> findByMemberIdAndWorkspaceId(Integer memberId, Integer workspaceId);
+
+    // Bakım: BoardMember/WorkspaceMember değişiklikleriyle aynı transaction içinde çağrılır
+    @Modifying
+    @Query("DELETE FROM MemberBoardAccess a WHERE a.memberId = :memberId AND a.boardId = :boardId")
+    int deleteByMemberIdAndBoardId(@Param("memberId") Integer memberId, @Param("boardId") Integer boardId);
+
+    @Modifying
+    @Query("DELETE FROM MemberBoardAccess a WHERE a.boardId = :boardId")
+    int deleteByBoardId(@Param("boardId") Integer boardId);
+
+    @Modifying
+    @Query("DELETE FROM MemberBoardAccess a WHERE a.workspaceId = :workspaceId")
+    int deleteByWorkspaceId(@Param("workspaceId") Integer workspaceId);
+
+    @Modifying
+    @Query("DELETE FROM MemberBoardAccess a WHERE a.memberId = :memberId AND a.workspaceId = :workspaceId")
+    int deleteByMemberIdAndWorkspaceId(@Param("memberId") Integer memberId, @Param("workspaceId") Integer workspaceId);
+
+    // Backfill: board_members'ta karşılığı (veya board'un workspace'inde üyeliği) olmayan satırları siler
+    @Modifying
+    @Query("DELETE FROM MemberBoardAccess a WHERE NOT EXISTS (" +
+            "SELECT 1 FROM BoardMember bm JOIN bm.board b JOIN bm.workspaceMember wm " +
+            "WHERE bm.member.memberId = a.memberId AND b.boardId = a.boardId " +
+            "AND wm.workspace.workspaceId = b.workspaceId)")
+    int deleteWithoutBoardMembership();
+
+    // Backfill: eksik satırları board_members üzerinden ekler; yalnızca board'un workspace'inde üye olanlar alınır
+    @Modifying
+    @Query("INSERT INTO MemberBoardAccess (memberId, boardId, workspaceId, roleName, roleScope) " +
+            "SELECT bm.member.memberId, b.boardId, b.workspaceId, r.roleName, r.scope " +
+            "FROM BoardMember bm JOIN bm.board b JOIN bm.workspaceMember wm JOIN Roles r ON r.roleId = bm.roleId " +
+            "WHERE wm.workspace.workspaceId = b.workspaceId " +
+            "AND NOT EXISTS (SELECT 1 FROM MemberBoardAccess a WHERE a.memberId = bm.member.memberId AND a.boardId = b.boardId)")
+    int insertMissingFromBoardMembers();
+
+    // Yetkilendirme: hedefin board zinciri ve kullanıcının board rolü tek sorguda.
+    // Rol, board_members + roles join'i yerine (member_id, board_id) birincil anahtarından okunur.
+    @Query("SELECT l.boardId AS boardId, l.listId AS listId, CAST(NULL AS Integer) AS cardId, " +
+            "a.roleName AS roleName, a.roleScope AS scope " +
+            "FROM Lists l " +
+            "LEFT JOIN MemberBoardAccess a ON a.memberId = :memberId AND a.boardId = l.boardId " +
+            "WHERE l.listId = :listId")
+    Optional<BoardAccessView> findAccessByListId(@Param("listId") Integer listId,
+                                                 @Param("memberId") Integer memberId);
+
+    @Query("SELECT l.boardId AS boardId, l.listId AS listId, c.cardId AS cardId, " +
+            "a.roleName AS roleName, a.roleScope AS scope " +
+            "FROM Card c JOIN Lists l ON l.listId = c.listId " +
+            "LEFT JOIN MemberBoardAccess a ON a.memberId = :memberId AND a.boardId = l.boardId " +
+            "WHERE c.cardId = :cardId")
+    Optional<BoardAccessView> findAccessByCardId(@Param("cardId") Integer cardId,
+                                                 @Param("memberId") Integer memberId);
+
+    @Query("SELECT l.boardId AS boardId, l.listId AS listId, c.cardId AS cardId, " +
+            "a.roleName AS roleName, a.roleScope AS scope " +
+            "FROM Checklist ch JOIN Card c ON c.cardId = ch.cardId JOIN Lists l ON l.listId = c.listId " +
+            "LEFT JOIN MemberBoardAccess a ON a.memberId = :memberId AND a.boardId = l.boardId " +
+            "WHERE ch.checklistId = :checklistId")
+    Optional<BoardAccessView> findAccessByChecklistId(@Param("checklistId") Integer checklistId,
+                                                      @Param("memberId") Integer memberId);
+
+    @Query("SELECT l.boardId AS boardId, l.listId AS listId, c.cardId AS cardId, " +
+            "a.roleName AS roleName, a.roleScope AS scope " +
+            "FROM Card_Labels cl JOIN Card c ON c.cardId = cl.cardId JOIN Lists l ON l.listId = c.listId " +
+            "LEFT JOIN MemberBoardAccess a ON a.memberId = :memberId AND a.boardId = l.boardId " +
+            "WHERE cl.cardLabelId = :cardLabelId")
+    Optional<BoardAccessView> findAccessByCardLabelId(@Param("cardLabelId") Integer cardLabelId,
+                                                      @Param("memberId") Integer memberId);
+
+    // Toplu yetkilendirme: her hedef için bir satır döner, bulunamayan ID'ler için satır yoktur
+    @Query("SELECT l.boardId AS boardId, l.listId AS listId, c.cardId AS cardId, " +
+            "a.roleName AS roleName, a.roleScope AS scope " +
+            "FROM Card c JOIN Lists l ON l.listId = c.listId " +
+            "LEFT JOIN MemberBoardAccess a ON a.memberId = :memberId AND a.boardId = l.boardId " +
+            "WHERE c.cardId IN :cardIds")
+    List<BoardAccessView> findAccessByCardIds(@Param("cardIds") Collection<Integer> cardIds,
+                                              @Param("memberId") Integer memberId);
+
+    @Query("SELECT ch.checklistId AS checklistId, l.boardId AS boardId, l.listId AS listId, c.cardId AS cardId, " +
+            "a.roleName AS roleName, a.roleScope AS scope " +
+            "FROM Checklist ch JOIN Card c ON c.cardId = ch.cardId JOIN Lists l ON l.listId = c.listId " +
+            "LEFT JOIN MemberBoardAccess a ON a.memberId = :memberId AND a.boardId = l.boardId " +
+            "WHERE ch.checklistId IN :checklistIds")
+    List<ChecklistAccessView> findAccessByChecklistIds(@Param("checklistIds") Collection<Integer> checklistIds,
+                                                       @Param("memberId") Integer memberId);
+}
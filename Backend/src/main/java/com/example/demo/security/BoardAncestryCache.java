@@ -0,0 +1,137 @@
+package com.example.demo.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Checklist → kart → liste → board zincirini önbelleğe alan bileşen.
+ *
+ * Her seviye için yalnızca bir üst seviyenin ID'si tutulur (checklist → cardId, kart → listId,
+ * liste → boardId, kart etiketi → cardId). Böylece bir kart başka bir listeye taşındığında
+ * sadece o kartın kaydını silmek yeterlidir; altındaki checklist ve etiket kayıtları geçerli kalır.
+ *
+ * Önbellek veritabanına kendisi gitmez; kayıtlar yetkilendirme sorgusunun döndürdüğü zincirle
+ * (bkz. MemberBoardAccessRepository.findAccessBy*) doldurulur. Kayıtları taşıyan veya silen servisler
+ * ilgili evict metodunu çağırmalıdır.
+ */
+@Component
+@Slf4j
+public class BoardAncestryCache {
+
+    private final BoundedCache<Integer, Integer> listToBoard;
+    private final BoundedCache<Integer, Integer> cardToList;
+    private final BoundedCache<Integer, Integer> checklistToCard;
+    private final BoundedCache<Integer, Integer> cardLabelToCard;
+
+    public BoardAncestryCache(@Value("${nodora.security.ancestry-cache.max-size:10000}") int maxSize) {
+        this.listToBoard = new BoundedCache<>(maxSize);
+        this.cardToList = new BoundedCache<>(maxSize);
+        this.checklistToCard = new BoundedCache<>(maxSize);
+        this.cardLabelToCard = new BoundedCache<>(maxSize);
+    }
+
+    // ================================
+    // LOOKUP (yalnızca önbellek)
+    // ================================
+
+    public Optional<Integer> getBoardIdByListId(Integer listId) {
+        if (listId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(listToBoard.get(listId));
+    }
+
+    public Optional<Integer> getBoardIdByCardId(Integer cardId) {
+        if (cardId == null) {
+            return Optional.empty();
+        }
+        return getBoardIdByListId(cardToList.get(cardId));
+    }
+
+    public Optional<Integer> getBoardIdByChecklistId(Integer checklistId) {
+        if (checklistId == null) {
+            return Optional.empty();
+        }
+        return getBoardIdByCardId(checklistToCard.get(checklistId));
+    }
+
+    public Optional<Integer> getBoardIdByCardLabelId(Integer cardLabelId) {
+        if (cardLabelId == null) {
+            return Optional.empty();
+        }
+        return getBoardIdByCardId(cardLabelToCard.get(cardLabelId));
+    }
+
+    // ================================
+    // POPULATE
+    // ================================
+
+    public void rememberList(Integer listId, Integer boardId) {
+        if (listId != null && boardId != null) {
+            listToBoard.put(listId, boardId);
+        }
+    }
+
+    public void rememberCard(Integer cardId, Integer listId, Integer boardId) {
+        if (cardId != null && listId != null) {
+            cardToList.put(cardId, listId);
+        }
+        rememberList(listId, boardId);
+    }
+
+    public void rememberChecklist(Integer checklistId, Integer cardId, Integer listId, Integer boardId) {
+        if (checklistId != null && cardId != null) {
+            checklistToCard.put(checklistId, cardId);
+        }
+        rememberCard(cardId, listId, boardId);
+    }
+
+    public void rememberCardLabel(Integer cardLabelId, Integer cardId, Integer listId, Integer boardId) {
+        if (cardLabelId != null && cardId != null) {
+            cardLabelToCard.put(cardLabelId, cardId);
+        }
+        rememberCard(cardId, listId, boardId);
+    }
+
+    // ================================
+    // INVALIDATION
+    // ================================
+
+    public void evictList(Integer listId) {
+        evict(listToBoard, listId);
+    }
+
+    public void evictCard(Integer cardId) {
+        evict(cardToList, cardId);
+    }
+
+    public void evictChecklist(Integer checklistId) {
+        evict(checklistToCard, checklistId);
+    }
+
+    public void evictCardLabel(Integer cardLabelId) {
+        evict(cardLabelToCard, cardLabelId);
+    }
+
+    private void evict(BoundedCache<Integer, Integer> cache, Integer key) {
+        if (key == null) {
+            return;
+        }
+        TransactionalEviction.run(() -> cache.remove(key));
+        log.debug("Ancestry önbelleğinden kayıt silindi. key: {}", key);
+    }
+
+    public Map<String, CacheStats> stats() {
+        Map<String, CacheStats> stats = new LinkedHashMap<>();
+        stats.put("listToBoard", listToBoard.stats());
+        stats.put("cardToList", cardToList.stats());
+        stats.put("checklistToCard", checklistToCard.stats());
+        stats.put("cardLabelToCard", cardLabelToCard.stats());
+        return stats;
+    }
+}
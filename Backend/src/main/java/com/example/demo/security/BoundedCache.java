@@ -0,0 +1,131 @@
+package com.example.demo.security;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Yetkilendirme katmanında kullanılan, boyutu sınırlı basit bir LRU önbellek.
+ * Kapasite aşıldığında en uzun süredir erişilmeyen kayıt atılır. İsteğe bağlı olarak
+ * kayıtlar yazıldıktan belirli bir süre sonra geçersiz sayılır (expire-after-write).
+ * Tüm işlemler senkronize olduğu için birden fazla thread tarafından güvenle kullanılabilir.
+ *
+ * @param <K> Anahtar tipi
+ * @param <V> Değer tipi
+ */
+public class BoundedCache<K, V> {
+
+    private final int maxSize;
+    private final long ttlNanos; // 0 ise kayıtlar süresiz tutulur
+    private final Map<K, Entry<V>> entries;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public BoundedCache(int maxSize) {
+        this(maxSize, Duration.ZERO);
+    }
+
+    public BoundedCache(int maxSize, Duration ttl) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize pozitif olmalıdır: " + maxSize);
+        }
+        if (ttl == null || ttl.isNegative()) {
+            throw new IllegalArgumentException("ttl negatif olamaz: " + ttl);
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        // accessOrder = true: get() çağrıları kaydı listenin sonuna taşır (LRU)
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > BoundedCache.this.maxSize) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        if (entry.isExpired(System.nanoTime())) {
+            entries.remove(key);
+            evictions++;
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.value;
+    }
+
+    public synchronized void put(K key, V value) {
+        long expiresAt = ttlNanos > 0 ? System.nanoTime() + ttlNanos : 0L;
+        entries.put(key, new Entry<>(value, expiresAt));
+    }
+
+    /**
+     * Kaydı önbellek genelindeki TTL yerine verilen süreyle saklar (ör. token'ın kalan ömrü).
+     * Süre sıfır veya negatifse kayıt eklenmez.
+     */
+    public synchronized void put(K key, V value, Duration ttl) {
+        if (ttl.isZero() || ttl.isNegative()) {
+            return;
+        }
+        long ttlForEntry = ttlNanos > 0 ? Math.min(ttlNanos, ttl.toNanos()) : ttl.toNanos();
+        entries.put(key, new Entry<>(value, System.nanoTime() + ttlForEntry));
+    }
+
+    public synchronized void remove(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Anahtarı koşulu sağlayan tüm kayıtları siler (ör. bir board'a ait tüm üyelerin rolleri).
+     */
+    public synchronized void removeIf(Predicate<K> keyPredicate) {
+        entries.keySet().removeIf(keyPredicate);
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Önbelleğin o anki hit/miss/eviction sayaçlarını döner.
+     * Eviction sayacı kapasite ve süre dolumu nedeniyle atılan kayıtları sayar; açıkça
+     * silinen (invalidate edilen) kayıtlar bu sayıya dahil değildir.
+     */
+    public synchronized CacheStats stats() {
+        return new CacheStats(hits, misses, evictions, entries.size(), maxSize);
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAt != 0L && now - expiresAt >= 0;
+        }
+    }
+}
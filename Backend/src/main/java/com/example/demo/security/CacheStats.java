@@ -0,0 +1,23 @@
+package com.example.demo.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Bir BoundedCache örneğinin anlık istatistikleri.
+ */
+@Getter
+@AllArgsConstructor
+public class CacheStats {
+
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final int size;
+    private final int maxSize;
+
+    public double getHitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+}
@@ -1,289 +1,369 @@
 package com.example.demo.security;
 
-import com.example.demo.model.boards.Boards;
-import com.example.demo.model.card_labels.Card_Labels;
-import com.example.demo.model.cards.Card;
-import com.example.demo.model.checklist.Checklist; // Checklist modelini import et
-import com.example.demo.model.lists.Lists;
-import com.example.demo.model.members.Member;
-import com.example.demo.model.roles.Roles;
 import com.example.demo.model.workspace_members.WorkspaceMember;
-import com.example.demo.repository.*;
+import com.example.demo.repository.BoardAccessView;
+import com.example.demo.model.member_board_access.MemberBoardAccessId;
+import com.example.demo.repository.ChecklistAccessView;
+import com.example.demo.repository.MemberBoardAccessRepository;
+import com.example.demo.repository.WorkspaceMemberRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.access.PermissionEvaluator;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class CustomPermissionEvaluator implements PermissionEvaluator {
 
-    private final MemberRepository memberRepository;
     private final WorkspaceMemberRepository workspaceMemberRepository;
-    private final RoleRepository roleRepository;
-    private final BoardRepository boardRepository;
-    private final BoardMemberRepository boardMemberRepository;
-    private final ListsRepository listsRepository;
-    private final CardRepository cardRepository;
-    private final CardLabelsRepository cardLabelsRepository;
-    private final ChecklistRepository checklistRepository; // Eksik olan repository'yi ekledik
+    private final MemberBoardAccessRepository memberBoardAccessRepository; // (member, board) → rol, birincil anahtar
+    private final BoardAncestryCache boardAncestryCache; // checklist/kart/liste → board çözümlemesi
+    private final EffectiveRoleCache effectiveRoleCache; // (member, board/workspace) → rol
+    private final PermissionMetrics permissionMetrics;
 
     private static final String WORKSPACE_SCOPE = "WORKSPACE";
     private static final String BOARD_SCOPE = "BOARD";
-    private static final String OWNER_ROLE = "OWNER";
-    private static final String LEAD_ROLE = "LEAD";
-    private static final String MEMBER_ROLE = "MEMBER";
 
     @Override
     public boolean hasPermission(Authentication authentication, Object targetDomainObject, Object permission) {
-        if (authentication == null || !(authentication.getPrincipal() instanceof UserDetails)) {
-            log.warn("Kimlik doğrulama nesnesi yok veya türü UserDetails değil. Yetkilendirme reddedildi.");
-            return false;
+        String permissionString = (String) permission;
+        Optional<Permission> resolved = Permission.fromKey(permissionString);
+        if (resolved.isEmpty()) {
+            // Politika tablosunda olmayan izinler yalnızca admin için geçerlidir
+            long start = permissionMetrics.startCheck();
+            boolean allowed = isAdmin(authentication);
+            if (!allowed) {
+                log.warn("Bilinmeyen izin talebi: {} için yetkilendirme reddedildi.", permissionString);
+            }
+            permissionMetrics.endCheck(null, allowed, start);
+            return allowed;
         }
+        return hasPermission(authentication, targetDomainObject, resolved.get());
+    }
 
-        for (GrantedAuthority authority : authentication.getAuthorities()) {
-            if ("ROLE_ADMIN".equals(authority.getAuthority())) {
-                log.info("Admin yetkisi tespit edildi. Tüm izinler kabul edildi.");
-                return true;
-            }
+    @Override
+    public boolean hasPermission(Authentication authentication, Serializable targetId, String targetType, Object permission) {
+        if (targetId == null) {
+            return hasPermission(authentication, null, permission);
         }
+        if (targetId instanceof Integer) {
+            return hasPermission(authentication, (Integer) targetId, permission);
+        }
+        return false;
+    }
 
-        String email = ((UserDetails) authentication.getPrincipal()).getUsername();
-        Optional<Member> memberOpt = memberRepository.findByEmail(email);
+    /**
+     * Derlenmiş izin tablosu üzerinden yetkilendirme yapar. Hem string izinler hem de
+     * {@link RequiresPermission} interceptor'ı bu metodu kullanır.
+     */
+    public boolean hasPermission(Authentication authentication, Object targetDomainObject, Permission permission) {
+        long start = permissionMetrics.startCheck();
+        boolean allowed = false;
+        try {
+            allowed = evaluate(authentication, targetDomainObject, permission);
+            return allowed;
+        } finally {
+            permissionMetrics.endCheck(permission, allowed, start);
+        }
+    }
 
-        if (memberOpt.isEmpty()) {
-            log.warn("Yetkilendirme sırasında kullanıcı bulunamadı: {}", email);
+    private boolean evaluate(Authentication authentication, Object targetDomainObject, Permission permission) {
+        if (authentication == null || !(authentication.getPrincipal() instanceof NodoraPrincipal member)) {
+            log.warn("Kimlik doğrulama nesnesi yok veya türü NodoraPrincipal değil. Yetkilendirme reddedildi.");
             return false;
         }
 
-        Member member = memberOpt.get();
-        String permissionString = (String) permission;
-
-        log.info("Yetkilendirme kontrolü başladı. Kullanıcı: {}, İzin: {}", email, permissionString);
-
-        if (Boolean.TRUE.equals(member.getIsAdmin())) {
-            log.info("Kullanıcı admin olduğu için yetkilendirme başarılı: {}", email);
+        if (member.isAdmin()) {
+            log.debug("Admin yetkisi tespit edildi. Tüm izinler kabul edildi.");
             return true;
         }
 
-        Integer targetId = null;
-        if (targetDomainObject instanceof Integer) {
-            targetId = (Integer) targetDomainObject;
+        log.debug("Yetkilendirme kontrolü başladı. Kullanıcı: {}, İzin: {}", member.getEmail(), permission.getKey());
+
+        if (targetDomainObject instanceof Collection<?> targets) {
+            return hasBatchPermission(member.getMemberId(), targets, permission);
         }
 
-        if (targetId == null) {
-            switch (permissionString) {
-                case "create_workspace":
-                    return true;
-                case "read_all_workspaces":
-                    return false;
-                default:
-                    log.warn("Hedef ID (targetId) null olduğu için yetkilendirme reddedildi. İzin: {}", permissionString);
-                    return false;
+        Integer targetId = targetDomainObject instanceof Integer ? (Integer) targetDomainObject : null;
+        Permission.Target target = permission.getTarget();
+        if (target == Permission.Target.NONE) {
+            // Hedefsiz izinler (ör. create_workspace) bir hedefle istenirse eski davranıştaki gibi reddedilir
+            if (targetId != null) {
+                log.warn("Hedef almayan izin hedef ID ile istendi, reddedildi. İzin: {}, targetId: {}", permission.getKey(), targetId);
+                return false;
             }
+            return true;
+        }
+        if (target == Permission.Target.DENY) {
+            return false;
+        }
+        if (targetId == null) {
+            log.warn("Hedef ID (targetId) null olduğu için yetkilendirme reddedildi. İzin: {}", permission.getKey());
+            return false;
         }
 
-        switch (permissionString) {
-            case "read_workspaces_for_current_user":
-                return true;
-            case "read_workspaces_by_member":
-                return member.getMemberId().equals(targetId);
-            case "read_boards_in_workspace":
-                log.info("Workspace içindeki board'ları okuma izni kontrol ediliyor. memberId: {}, workspaceId: {}", member.getMemberId(), targetId);
-                return hasRoleByScopeAndId(member.getMemberId(), WORKSPACE_SCOPE, targetId, OWNER_ROLE, MEMBER_ROLE, LEAD_ROLE);
-            case "delete_workspace":
-                log.info("Workspace silme izni kontrol ediliyor. memberId: {}, workspaceId: {}", member.getMemberId(), targetId);
-                return hasRoleByScopeAndId(member.getMemberId(), WORKSPACE_SCOPE, targetId, OWNER_ROLE);
-            case "delete_list":
-                log.info("Liste silme izni kontrol ediliyor. memberId: {}, listId: {}", member.getMemberId(), targetId);
-                // Listeden boardId'yi al, sonra board üzerindeki rolü kontrol et
-                return hasBoardMemberRole(member.getMemberId(), targetId, LEAD_ROLE);
-            // ya da uygun gördüğün roller (örneğin sadece LEAD yetkili olabilir)
-            case "read_board":
-                log.info("Tekil board okuma izni kontrol ediliyor. memberId: {}, boardId: {}", member.getMemberId(), targetId);
-                return hasRoleByScopeAndBoardId(member.getMemberId(), targetId, MEMBER_ROLE, LEAD_ROLE, OWNER_ROLE);
-            case "create_board":
-            case "invite_member":
-                log.info("Board oluşturma veya üye davet etme izni kontrol ediliyor. memberId: {}, workspaceId: {}", member.getMemberId(), targetId);
-                return hasRoleByScopeAndId(member.getMemberId(), WORKSPACE_SCOPE, targetId, OWNER_ROLE, LEAD_ROLE);
-            case "read_workspace_members":
-                log.info("Workspace üyelerini okuma izni kontrol ediliyor. memberId: {}, workspaceId: {}", member.getMemberId(), targetId);
-                return hasRoleByScopeAndId(member.getMemberId(), WORKSPACE_SCOPE, targetId, OWNER_ROLE);
-            case "update_board":
-            case "delete_board":
-            case "read_board_members":
-                log.info("Board üyelerini okuma izni kontrol ediliyor. memberId: {}, boardId: {}", member.getMemberId(), targetId);
-                return hasRoleByScopeAndBoardId(member.getMemberId(), targetId, MEMBER_ROLE, LEAD_ROLE, OWNER_ROLE);
+        Integer memberId = member.getMemberId();
+        String[] roleNames = permission.roleNames();
+        return switch (target) {
+            case ANY -> true;
+            case SELF -> memberId.equals(targetId);
+            case WORKSPACE -> hasRoleByScopeAndId(memberId, WORKSPACE_SCOPE, targetId, roleNames);
+            case BOARD -> hasRoleByScopeAndBoardId(memberId, targetId, roleNames);
+            case LIST -> hasBoardMemberRole(memberId, targetId, roleNames);
+            case CARD -> hasCardPermission(memberId, targetId, roleNames);
+            case CARD_LABEL -> hasCardLabelPermission(memberId, targetId, roleNames);
+            case CHECKLIST -> hasChecklistPermission(memberId, targetId, roleNames);
+            default -> false;
+        };
+    }
 
-            case "remove_member_from_board":
-                log.info("Board düzenleme/silme izni kontrol ediliyor. memberId: {}, boardId: {}", member.getMemberId(), targetId);
-                return hasRoleByScopeAndBoardId(member.getMemberId(), targetId, LEAD_ROLE, OWNER_ROLE);
-            case "promote_leader":
-            case "add_member_to_board":
-                log.info("Board üye yönetimi izni kontrol ediliyor. memberId: {}, boardId: {}", member.getMemberId(), targetId);
-                return hasRoleByScopeAndBoardId(member.getMemberId(), targetId, LEAD_ROLE, OWNER_ROLE);
-            case "create_list":
-                log.info("Liste oluşturma izni kontrol ediliyor. memberId: {}, boardId: {}", member.getMemberId(), targetId);
-                return hasRoleByScopeAndBoardId(member.getMemberId(), targetId, MEMBER_ROLE, LEAD_ROLE, OWNER_ROLE);
-            case "read_list":
-                log.info("Liste okuma izni kontrol ediliyor. memberId: {}, listId: {}", member.getMemberId(), targetId);
-                return hasBoardMemberRole(member.getMemberId(), targetId, MEMBER_ROLE, LEAD_ROLE, OWNER_ROLE);
-            case "create_card":
-                log.info("Kart oluşturma izni kontrol ediliyor. memberId: {}, listId: {}", member.getMemberId(), targetId);
-                return hasBoardMemberRole(member.getMemberId(), targetId, MEMBER_ROLE, LEAD_ROLE, OWNER_ROLE);
-            case "read_card":
-            case "update_card":
-            case "delete_card":
-                log.info("Kart izni kontrol ediliyor (read/update/delete). memberId: {}, cardId: {}", member.getMemberId(), targetId);
-                return hasCardPermission(member.getMemberId(), targetId, MEMBER_ROLE, LEAD_ROLE, OWNER_ROLE);
-            case "create_card_label":
-            case "delete_card_label":
-                log.info("Kart etiketi yönetimi izni kontrol ediliyor. memberId: {}, cardId: {}", member.getMemberId(), targetId);
-                return hasCardPermission(member.getMemberId(), targetId, MEMBER_ROLE, LEAD_ROLE, OWNER_ROLE);
-            case "update_card_label":
-                log.info("Kart etiketi güncelleme izni kontrol ediliyor. memberId: {}, cardLabelId: {}", member.getMemberId(), targetId);
-                return hasCardLabelPermission(member.getMemberId(), targetId, MEMBER_ROLE, LEAD_ROLE, OWNER_ROLE);
-            case "create_checklist":
-                log.info("Checklist oluşturma izni kontrol ediliyor. memberId: {}, cardId: {}", member.getMemberId(), targetId);
-                return hasCardPermission(member.getMemberId(), targetId, MEMBER_ROLE, LEAD_ROLE, OWNER_ROLE);
-            case "create_checklist_item":
-            case "update_checklist_item":
-            case "delete_checklist_item":
-                log.info("Checklist öğesi izni kontrol ediliyor. memberId: {}, checklistId: {}", member.getMemberId(), targetId);
-                return hasChecklistPermission(member.getMemberId(), targetId, MEMBER_ROLE, LEAD_ROLE, OWNER_ROLE);
+    private static boolean isAdmin(Authentication authentication) {
+        return authentication != null
+                && authentication.getPrincipal() instanceof NodoraPrincipal member
+                && member.isAdmin();
+    }
+
+    /**
+     * Bir ID koleksiyonu için izni tek geçişte değerlendirir. Koleksiyondaki tüm hedeflere
+     * erişim varsa true döner; tek bir hedef bile bulunamaz veya yetkisizse istek reddedilir.
+     * Önbellekte çözülemeyen hedefler tek bir IN sorgusuyla birlikte çözülür.
+     */
+    private boolean hasBatchPermission(Integer memberId, Collection<?> targets, Permission permission) {
+        Set<Integer> targetIds = new LinkedHashSet<>();
+        for (Object target : targets) {
+            if (!(target instanceof Integer)) {
+                log.warn("Toplu yetkilendirmede geçersiz hedef ID: {}. İzin: {}", target, permission.getKey());
+                return false;
+            }
+            targetIds.add((Integer) target);
+        }
+        log.debug("Toplu yetkilendirme kontrolü. memberId: {}, izin: {}, hedef sayısı: {}", memberId, permission.getKey(), targetIds.size());
+
+        switch (permission.getTarget()) {
+            case CARD:
+                return hasBatchBoardPermission(memberId, targetIds,
+                        boardAncestryCache::getBoardIdByCardId,
+                        ids -> memberBoardAccessRepository.findAccessByCardIds(ids, memberId),
+                        BoardAccessView::getCardId,
+                        access -> boardAncestryCache.rememberCard(access.getCardId(), access.getListId(), access.getBoardId()),
+                        permission.roleNames());
+            case CHECKLIST:
+                return hasBatchBoardPermission(memberId, targetIds,
+                        boardAncestryCache::getBoardIdByChecklistId,
+                        ids -> memberBoardAccessRepository.findAccessByChecklistIds(ids, memberId),
+                        ChecklistAccessView::getChecklistId,
+                        access -> boardAncestryCache.rememberChecklist(access.getChecklistId(), access.getCardId(), access.getListId(), access.getBoardId()),
+                        permission.roleNames());
             default:
-                log.warn("Bilinmeyen izin talebi: {} için yetkilendirme reddedildi.", permissionString);
+                log.warn("Toplu yetkilendirme desteklenmeyen izin: {} için reddedildi.", permission.getKey());
                 return false;
         }
     }
 
-    @Override
-    public boolean hasPermission(Authentication authentication, Serializable targetId, String targetType, Object permission) {
-        if (targetId == null) {
-            return hasPermission(authentication, null, permission);
+    private <T extends BoardAccessView> boolean hasBatchBoardPermission(Integer memberId,
+                                                                        Set<Integer> targetIds,
+                                                                        Function<Integer, Optional<Integer>> cachedBoardIdOf,
+                                                                        Function<Set<Integer>, List<T>> loader,
+                                                                        Function<T, Integer> targetIdOf,
+                                                                        Consumer<T> rememberAncestry,
+                                                                        String... roleNames) {
+        Set<Integer> unresolved = new LinkedHashSet<>();
+        for (Integer targetId : targetIds) {
+            Optional<Integer> boardId = cachedBoardIdOf.apply(targetId);
+            EffectiveRoleCache.Role role = boardId.map(id -> effectiveRoleCache.getBoardRole(memberId, id)).orElse(null);
+            if (role == null) {
+                unresolved.add(targetId);
+            } else if (!matchesBoardRole(memberId, boardId.get(), role.getRoleName(), role.getScope(), roleNames)) {
+                return false;
+            }
         }
-        if (targetId instanceof Integer) {
-            return hasPermission(authentication, (Integer) targetId, permission);
+        if (unresolved.isEmpty()) {
+            return true;
         }
-        return false;
+
+        permissionMetrics.repositoryCall();
+        List<T> rows = loader.apply(unresolved);
+        Set<Integer> found = new HashSet<>();
+        for (T access : rows) {
+            found.add(targetIdOf.apply(access));
+            rememberAncestry.accept(access);
+            effectiveRoleCache.putBoardRole(memberId, access.getBoardId(), EffectiveRoleCache.Role.of(access.getRoleName(), access.getScope()));
+            if (!matchesBoardRole(memberId, access.getBoardId(), access.getRoleName(), access.getScope(), roleNames)) {
+                return false;
+            }
+        }
+        if (!found.containsAll(unresolved)) {
+            log.warn("Toplu yetkilendirmede bazı hedefler bulunamadı. İstenen: {}, bulunan: {}", unresolved, found);
+            return false;
+        }
+        return true;
     }
 
+    // Board zinciri önbellekteyse yalnızca member_board_access birincil anahtar okuması (rol de
+    // önbellekteyse hiç sorgu), değilse zincir + rol tek join sorgusu çalışır. Her durumda kapsam başına en fazla tek veritabanı
+    // gidiş-dönüşü yapılır.
+
     private boolean hasBoardMemberRole(Integer memberId, Integer listId, String... roleNames) {
-        log.info("hasBoardMemberRole metodu çağrıldı. memberId: {}, listId: {}", memberId, listId);
+        log.debug("hasBoardMemberRole metodu çağrıldı. memberId: {}, listId: {}", memberId, listId);
         if (listId == null) {
             log.warn("hasBoardMemberRole metodu için listId null olamaz.");
             return false;
         }
-        Optional<Lists> listOpt = listsRepository.findById(listId);
-        if (listOpt.isPresent()) {
-            Integer boardId = listOpt.get().getBoardId();
-            return hasRoleByScopeAndBoardId(memberId, boardId, roleNames);
+        Optional<Integer> cachedBoardId = boardAncestryCache.getBoardIdByListId(listId);
+        if (cachedBoardId.isPresent()) {
+            return hasRoleByScopeAndBoardId(memberId, cachedBoardId.get(), roleNames);
         }
-        log.warn("Liste bulunamadı. listId: {}", listId);
-        return false;
+        permissionMetrics.repositoryCall();
+        Optional<BoardAccessView> accessOpt = memberBoardAccessRepository.findAccessByListId(listId, memberId);
+        if (accessOpt.isEmpty()) {
+            log.warn("Liste bulunamadı. listId: {}", listId);
+            return false;
+        }
+        BoardAccessView access = accessOpt.get();
+        boardAncestryCache.rememberList(access.getListId(), access.getBoardId());
+        effectiveRoleCache.putBoardRole(memberId, access.getBoardId(), EffectiveRoleCache.Role.of(access.getRoleName(), access.getScope()));
+        return matchesBoardRole(memberId, access.getBoardId(), access.getRoleName(), access.getScope(), roleNames);
     }
 
     private boolean hasCardPermission(Integer memberId, Integer cardId, String... roleNames) {
-        log.info("hasCardPermission metodu çağrıldı. memberId: {}, cardId: {}", memberId, cardId);
+        log.debug("hasCardPermission metodu çağrıldı. memberId: {}, cardId: {}", memberId, cardId);
         if (cardId == null) {
             log.warn("hasCardPermission metodu için cardId null olamaz.");
             return false;
         }
-        Optional<Card> cardOpt = cardRepository.findById(cardId);
-        if (cardOpt.isPresent()) {
-            Integer listId = cardOpt.get().getListId();
-            return hasBoardMemberRole(memberId, listId, roleNames);
+        Optional<Integer> cachedBoardId = boardAncestryCache.getBoardIdByCardId(cardId);
+        if (cachedBoardId.isPresent()) {
+            return hasRoleByScopeAndBoardId(memberId, cachedBoardId.get(), roleNames);
         }
-        log.warn("Kart bulunamadı. cardId: {}", cardId);
-        return false;
+        permissionMetrics.repositoryCall();
+        Optional<BoardAccessView> accessOpt = memberBoardAccessRepository.findAccessByCardId(cardId, memberId);
+        if (accessOpt.isEmpty()) {
+            log.warn("Kart veya bağlı liste bulunamadı. cardId: {}", cardId);
+            return false;
+        }
+        BoardAccessView access = accessOpt.get();
+        boardAncestryCache.rememberCard(access.getCardId(), access.getListId(), access.getBoardId());
+        effectiveRoleCache.putBoardRole(memberId, access.getBoardId(), EffectiveRoleCache.Role.of(access.getRoleName(), access.getScope()));
+        return matchesBoardRole(memberId, access.getBoardId(), access.getRoleName(), access.getScope(), roleNames);
     }
 
     // ChecklistPermissionEvaluator'a eklenmesi gereken yeni helper method
     private boolean hasChecklistPermission(Integer memberId, Integer checklistId, String... roleNames) {
-        log.info("hasChecklistPermission metodu çağrıldı. memberId: {}, checklistId: {}", memberId, checklistId);
+        log.debug("hasChecklistPermission metodu çağrıldı. memberId: {}, checklistId: {}", memberId, checklistId);
         if (checklistId == null) {
             log.warn("hasChecklistPermission metodu için checklistId null olamaz.");
             return false;
         }
-        Optional<Checklist> checklistOpt = checklistRepository.findById(checklistId);
-        if (checklistOpt.isPresent()) {
-            Integer cardId = checklistOpt.get().getCardId();
-            return hasCardPermission(memberId, cardId, roleNames);
+        Optional<Integer> cachedBoardId = boardAncestryCache.getBoardIdByChecklistId(checklistId);
+        if (cachedBoardId.isPresent()) {
+            return hasRoleByScopeAndBoardId(memberId, cachedBoardId.get(), roleNames);
         }
-        log.warn("Checklist bulunamadı. checklistId: {}", checklistId);
-        return false;
+        permissionMetrics.repositoryCall();
+        Optional<BoardAccessView> accessOpt = memberBoardAccessRepository.findAccessByChecklistId(checklistId, memberId);
+        if (accessOpt.isEmpty()) {
+            log.warn("Checklist veya bağlı kart bulunamadı. checklistId: {}", checklistId);
+            return false;
+        }
+        BoardAccessView access = accessOpt.get();
+        boardAncestryCache.rememberChecklist(checklistId, access.getCardId(), access.getListId(), access.getBoardId());
+        effectiveRoleCache.putBoardRole(memberId, access.getBoardId(), EffectiveRoleCache.Role.of(access.getRoleName(), access.getScope()));
+        return matchesBoardRole(memberId, access.getBoardId(), access.getRoleName(), access.getScope(), roleNames);
     }
 
     private boolean hasCardLabelPermission(Integer memberId, Integer cardLabelId, String... roleNames) {
-        log.info("hasCardLabelPermission metodu çağrıldı. memberId: {}, cardLabelId: {}", memberId, cardLabelId);
+        log.debug("hasCardLabelPermission metodu çağrıldı. memberId: {}, cardLabelId: {}", memberId, cardLabelId);
         if (cardLabelId == null) {
             log.warn("hasCardLabelPermission metodu için cardLabelId null olamaz.");
             return false;
         }
-        Optional<Card_Labels> cardLabelOpt = cardLabelsRepository.findById(cardLabelId);
-        if (cardLabelOpt.isPresent()) {
-            Integer cardId = cardLabelOpt.get().getCardId();
-            Optional<Card> cardOpt = cardRepository.findById(cardId);
-            if (cardOpt.isPresent()) {
-                Integer listId = cardOpt.get().getListId();
-                return hasBoardMemberRole(memberId, listId, roleNames);
-            }
+        Optional<Integer> cachedBoardId = boardAncestryCache.getBoardIdByCardLabelId(cardLabelId);
+        if (cachedBoardId.isPresent()) {
+            return hasRoleByScopeAndBoardId(memberId, cachedBoardId.get(), roleNames);
         }
-        log.warn("Kart etiketi veya bağlı kart bulunamadı. cardLabelId: {}", cardLabelId);
-        return false;
+        permissionMetrics.repositoryCall();
+        Optional<BoardAccessView> accessOpt = memberBoardAccessRepository.findAccessByCardLabelId(cardLabelId, memberId);
+        if (accessOpt.isEmpty()) {
+            log.warn("Kart etiketi veya bağlı kart bulunamadı. cardLabelId: {}", cardLabelId);
+            return false;
+        }
+        BoardAccessView access = accessOpt.get();
+        boardAncestryCache.rememberCardLabel(cardLabelId, access.getCardId(), access.getListId(), access.getBoardId());
+        effectiveRoleCache.putBoardRole(memberId, access.getBoardId(), EffectiveRoleCache.Role.of(access.getRoleName(), access.getScope()));
+        return matchesBoardRole(memberId, access.getBoardId(), access.getRoleName(), access.getScope(), roleNames);
     }
 
     private boolean hasRoleByScopeAndId(Integer memberId, String scope, Integer targetId, String... roleNames) {
-        log.info("hasRoleByScopeAndId metodu çağrıldı. memberId: {}, scope: {}, targetId: {}", memberId, scope, targetId);
+        log.debug("hasRoleByScopeAndId metodu çağrıldı. memberId: {}, scope: {}, targetId: {}", memberId, scope, targetId);
         if (targetId == null || !WORKSPACE_SCOPE.equalsIgnoreCase(scope)) {
             log.warn("Geçersiz çağrı. targetId null veya scope 'WORKSPACE' değil.");
             return false;
         }
 
-        Optional<WorkspaceMember> membershipOpt = workspaceMemberRepository.findByWorkspace_WorkspaceIdAndMember_MemberId(targetId, memberId);
-        if (membershipOpt.isPresent() && membershipOpt.get().getRole() != null) {
-            String userRoleName = membershipOpt.get().getRole().getRoleName();
+        EffectiveRoleCache.Role role = effectiveRoleCache.getWorkspaceRole(memberId, targetId);
+        if (role == null) {
+            permissionMetrics.repositoryCall();
+            role = workspaceMemberRepository.findByWorkspace_WorkspaceIdAndMember_MemberId(targetId, memberId)
+                    .map(WorkspaceMember::getRole)
+                    .map(r -> EffectiveRoleCache.Role.of(r.getRoleName(), r.getScope()))
+                    .orElse(EffectiveRoleCache.Role.NONE);
+            effectiveRoleCache.putWorkspaceRole(memberId, targetId, role);
+        }
+        if (role.getRoleName() != null) {
+            String userRoleName = role.getRoleName();
             for (String name : roleNames) {
                 if (name.equalsIgnoreCase(userRoleName)) {
-                    log.info("Rol eşleşmesi başarılı. Kullanıcı yetkili. Rol: {}", userRoleName);
+                    log.debug("Rol eşleşmesi başarılı. Kullanıcı yetkili. Rol: {}", userRoleName);
                     return true;
                 }
             }
-            log.warn("Rol eşleşmesi başarısız. Beklenen roller: {}, Kullanıcının rolü: {}", java.util.Arrays.toString(roleNames), userRoleName);
+            log.debug("Rol eşleşmesi başarısız. Beklenen roller: {}, Kullanıcının rolü: {}", java.util.Arrays.toString(roleNames), userRoleName);
         } else {
-            log.warn("Kullanıcı, belirtilen workspace'te bulunamadı veya rolü null. memberId: {}, workspaceId: {}", memberId, targetId);
+            log.debug("Kullanıcı, belirtilen workspace'te bulunamadı veya rolü null. memberId: {}, workspaceId: {}", memberId, targetId);
         }
         return false;
     }
 
     private boolean hasRoleByScopeAndBoardId(Integer memberId, Integer boardId, String... roleNames) {
-        log.info("hasRoleByScopeAndBoardId metodu çağrıldı. memberId: {}, boardId: {}", memberId, boardId);
+        log.debug("hasRoleByScopeAndBoardId metodu çağrıldı. memberId: {}, boardId: {}", memberId, boardId);
         if (boardId == null) {
             log.warn("hasRoleByScopeAndBoardId metodu için boardId null olamaz.");
             return false;
         }
 
-        Optional<Roles> roleOpt = boardMemberRepository.findRoleByBoardAndMember(boardId, memberId)
-                .flatMap(roleId -> roleRepository.findById(roleId));
+        EffectiveRoleCache.Role role = effectiveRoleCache.getBoardRole(memberId, boardId);
+        if (role == null) {
+            permissionMetrics.repositoryCall();
+            role = memberBoardAccessRepository.findById(new MemberBoardAccessId(memberId, boardId))
+                    .map(access -> EffectiveRoleCache.Role.of(access.getRoleName(), access.getRoleScope()))
+                    .orElse(EffectiveRoleCache.Role.NONE);
+            effectiveRoleCache.putBoardRole(memberId, boardId, role);
+        }
+        return matchesBoardRole(memberId, boardId, role.getRoleName(), role.getScope(), roleNames);
+    }
 
-        if (roleOpt.isPresent() && BOARD_SCOPE.equalsIgnoreCase(roleOpt.get().getScope())) {
-            String userRoleName = roleOpt.get().getRoleName();
+    private boolean matchesBoardRole(Integer memberId, Integer boardId, String userRoleName, String scope, String... roleNames) {
+        if (userRoleName != null && BOARD_SCOPE.equalsIgnoreCase(scope)) {
             for (String name : roleNames) {
                 if (name.equalsIgnoreCase(userRoleName)) {
-                    log.info("Rol eşleşmesi başarılı. Kullanıcı yetkili. Rol: {}", userRoleName);
+                    log.debug("Rol eşleşmesi başarılı. Kullanıcı yetkili. Rol: {}", userRoleName);
                     return true;
                 }
             }
-            log.warn("Rol eşleşmesi başarısız. Beklenen roller: {}, Kullanıcının rolü: {}", java.util.Arrays.toString(roleNames), userRoleName);
+            log.debug("Rol eşleşmesi başarısız. Beklenen roller: {}, Kullanıcının rolü: {}", java.util.Arrays.toString(roleNames), userRoleName);
         } else {
-            log.warn("Kullanıcı, belirtilen board'da bulunamadı veya rolü BOARD kapsamında değil. memberId: {}, boardId: {}", memberId, boardId);
+            log.debug("Kullanıcı, belirtilen board'da bulunamadı veya rolü BOARD kapsamında değil. memberId: {}, boardId: {}", memberId, boardId);
         }
         return false;
     }
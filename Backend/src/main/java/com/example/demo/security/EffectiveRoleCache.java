@@ -0,0 +1,183 @@
+package com.example.demo.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Üyelerin board ve workspace üzerindeki etkin rollerini önbelleğe alan bileşen.
+ *
+ * Anahtar (memberId, boardId) veya (memberId, workspaceId) çiftidir. Kullanıcının üye olmadığı
+ * durumlar da {@link Role#NONE} olarak saklanır; böylece reddedilen istekler de tekrar tekrar
+ * veritabanına gitmez. Kayıtlar boyut sınırına ve yaşam süresine (TTL) tabidir.
+ *
+ * Rolü değiştiren servisler (üye ekleme/çıkarma, lider atama, workspace silme vb.) ilgili
+ * evict metodunu çağırmalıdır.
+ */
+@Component
+@Slf4j
+public class EffectiveRoleCache {
+
+    private final BoundedCache<Long, Role> boardRoles;
+    private final BoundedCache<Long, Role> workspaceRoles;
+
+    public EffectiveRoleCache(@Value("${nodora.security.role-cache.max-size:10000}") int maxSize,
+                              @Value("${nodora.security.role-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.boardRoles = new BoundedCache<>(maxSize, Duration.ofSeconds(ttlSeconds));
+        this.workspaceRoles = new BoundedCache<>(maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    // ================================
+    // LOOKUP
+    // ================================
+
+    /**
+     * Önbellekteki board rolünü döner; kayıt yoksa null döner.
+     */
+    public Role getBoardRole(Integer memberId, Integer boardId) {
+        return boardRoles.get(key(memberId, boardId));
+    }
+
+    public void putBoardRole(Integer memberId, Integer boardId, Role role) {
+        if (memberId != null && boardId != null && role != null) {
+            boardRoles.put(key(memberId, boardId), role);
+        }
+    }
+
+    /**
+     * Önbellekteki workspace rolünü döner; kayıt yoksa null döner.
+     */
+    public Role getWorkspaceRole(Integer memberId, Integer workspaceId) {
+        return workspaceRoles.get(key(memberId, workspaceId));
+    }
+
+    public void putWorkspaceRole(Integer memberId, Integer workspaceId, Role role) {
+        if (memberId != null && workspaceId != null && role != null) {
+            workspaceRoles.put(key(memberId, workspaceId), role);
+        }
+    }
+
+    // ================================
+    // INVALIDATION
+    // ================================
+
+    public void evictBoardRole(Integer memberId, Integer boardId) {
+        if (memberId == null || boardId == null) {
+            return;
+        }
+        long key = key(memberId, boardId);
+        TransactionalEviction.run(() -> boardRoles.remove(key));
+        log.debug("Board rol önbelleğinden kayıt silindi. memberId: {}, boardId: {}", memberId, boardId);
+    }
+
+    /**
+     * Board'a ait tüm üyelerin rol kayıtlarını siler (board silindiğinde).
+     */
+    public void evictBoard(Integer boardId) {
+        if (boardId == null) {
+            return;
+        }
+        TransactionalEviction.run(() -> boardRoles.removeIf(key -> targetOf(key) == boardId));
+        log.debug("Board'a ait tüm rol kayıtları silindi. boardId: {}", boardId);
+    }
+
+    /**
+     * Üyenin verilen board'lardaki rol kayıtlarını siler (üye workspace'ten çıkarıldığında).
+     */
+    public void evictMemberBoards(Integer memberId, Collection<Integer> boardIds) {
+        if (memberId == null || boardIds == null || boardIds.isEmpty()) {
+            return;
+        }
+        Set<Long> keys = new HashSet<>();
+        for (Integer boardId : boardIds) {
+            if (boardId != null) {
+                keys.add(key(memberId, boardId));
+            }
+        }
+        TransactionalEviction.run(() -> keys.forEach(boardRoles::remove));
+        log.debug("Üyenin {} board rol kaydı silindi. memberId: {}", keys.size(), memberId);
+    }
+
+    /**
+     * Verilen board'lara ait tüm üyelerin rol kayıtlarını siler (workspace silindiğinde).
+     */
+    public void evictBoards(Collection<Integer> boardIds) {
+        if (boardIds == null || boardIds.isEmpty()) {
+            return;
+        }
+        Set<Integer> targets = new HashSet<>(boardIds);
+        TransactionalEviction.run(() -> boardRoles.removeIf(key -> targets.contains(targetOf(key))));
+        log.debug("{} board'a ait tüm rol kayıtları silindi.", targets.size());
+    }
+
+    public void evictWorkspaceRole(Integer memberId, Integer workspaceId) {
+        if (memberId == null || workspaceId == null) {
+            return;
+        }
+        long key = key(memberId, workspaceId);
+        TransactionalEviction.run(() -> workspaceRoles.remove(key));
+        log.debug("Workspace rol önbelleğinden kayıt silindi. memberId: {}, workspaceId: {}", memberId, workspaceId);
+    }
+
+    /**
+     * Workspace'e ait tüm üyelerin rol kayıtlarını siler (workspace silindiğinde).
+     */
+    public void evictWorkspace(Integer workspaceId) {
+        if (workspaceId == null) {
+            return;
+        }
+        TransactionalEviction.run(() -> workspaceRoles.removeIf(key -> targetOf(key) == workspaceId));
+        log.debug("Workspace'e ait tüm rol kayıtları silindi. workspaceId: {}", workspaceId);
+    }
+
+    public Map<String, CacheStats> stats() {
+        Map<String, CacheStats> stats = new LinkedHashMap<>();
+        stats.put("boardRoles", boardRoles.stats());
+        stats.put("workspaceRoles", workspaceRoles.stats());
+        return stats;
+    }
+
+    // Üst 32 bit memberId, alt 32 bit boardId/workspaceId
+    private static long key(Integer memberId, Integer targetId) {
+        return ((long) memberId << 32) | (targetId & 0xFFFFFFFFL);
+    }
+
+    private static int targetOf(long key) {
+        return (int) key;
+    }
+
+    /**
+     * Önbellekte tutulan rol bilgisi. Üyelik yoksa roleName null'dır.
+     */
+    public static final class Role {
+
+        public static final Role NONE = new Role(null, null);
+
+        private final String roleName;
+        private final String scope;
+
+        private Role(String roleName, String scope) {
+            this.roleName = roleName;
+            this.scope = scope;
+        }
+
+        public static Role of(String roleName, String scope) {
+            return roleName == null ? NONE : new Role(roleName, scope);
+        }
+
+        public String getRoleName() {
+            return roleName;
+        }
+
+        public String getScope() {
+            return scope;
+        }
+    }
+}
@@ -9,7 +9,9 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.CredentialsContainer;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -19,9 +21,11 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
+@Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
@@ -42,15 +46,36 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String token = header.substring(7);
 
         try {
-            if (jwtUtil.validateToken(token)) {
-                Claims claims = jwtUtil.extractAllClaims(token);
+            // Token tek seferde ayrıştırılıp doğrulanır (daha önce doğrulandıysa önbellekten gelir)
+            Optional<Claims> verifiedClaims = jwtUtil.verify(token);
+            if (verifiedClaims.isPresent()) {
+                Claims claims = verifiedClaims.get();
                 String email = claims.getSubject();
 
+                // Şifre sıfırlama vb. nedeniyle iptal edilmiş token
+                if (!jwtUtil.isEpochCurrent(claims)) {
+                    if (isPublicEndpoint(requestPath)) {
+                        chain.doFilter(request, response);
+                    } else {
+                        response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Token iptal edilmiş");
+                    }
+                    return;
+                }
+
                 // SecurityContext'te zaten bir Authentication nesnesi varsa işlem yapma.
                 if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
 
                     // UserDetailsService ile UserDetails nesnesini yükle.
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+                    // Stateless modda principal token claim'lerinden oluşturulur (members tablosuna gidilmez).
+                    // Aksi halde UserDetailsService ile yüklenir; dönen NodoraPrincipal memberId/admin
+                    // bilgisini taşır ve istek boyunca tekrar sorgulanmaz.
+                    UserDetails userDetails = jwtUtil.principalFromClaims(claims).orElse(null);
+                    if (userDetails == null) {
+                        userDetails = userDetailsService.loadUserByUsername(email);
+                        if (userDetails instanceof CredentialsContainer credentials) {
+                            credentials.eraseCredentials(); // JWT isteklerinde şifre hash'ine ihtiyaç yok
+                        }
+                    }
 
                     // UserDetails nesnesi ile Authentication nesnesi oluştur.
                     // Authorities bilgisi CustomPermissionEvaluator için önemli değil,
@@ -65,7 +90,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         } catch (ExpiredJwtException | MalformedJwtException e) {
             if (isPublicEndpoint(requestPath)) {
-                System.out.println("⚠️ JWT Token hatası (public endpoint için önemli değil): " + requestPath + " - " + e.getMessage());
+                log.debug("⚠️ JWT Token hatası (public endpoint için önemli değil): {} - {}", requestPath, e.getMessage());
                 chain.doFilter(request, response);
                 return;
             } else {
@@ -74,7 +99,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             }
         } catch (Exception e) {
             if (isPublicEndpoint(requestPath)) {
-                System.out.println("⚠️ JWT işleme hatası (public endpoint için önemli değil): " + requestPath + " - " + e.getMessage());
+                log.debug("⚠️ JWT işleme hatası (public endpoint için önemli değil): {} - {}", requestPath, e.getMessage());
                 chain.doFilter(request, response);
                 return;
             } else {
@@ -1,67 +1,173 @@
 package com.example.demo.security;
 
+import com.example.demo.model.members.Member;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import jakarta.annotation.PostConstruct;
+
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Date;
+import java.util.HexFormat;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 @Component
 public class JwtUtil {
 
+    // Token içinde taşınan kimlik bilgileri (stateless mod için)
+    public static final String CLAIM_MEMBER_ID = "memberId";
+    public static final String CLAIM_ADMIN = "admin";
+    public static final String CLAIM_EPOCH = "epoch";
+
     @Value("${jwt.secret}")
     private String secret;
 
     @Value("${jwt.expiration}")
     private Long expiration;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+    // true ise JwtAuthenticationFilter kullanıcıyı veritabanından yüklemek yerine token claim'lerinden oluşturur
+    @Value("${jwt.stateless:false}")
+    private boolean stateless;
+
+    // Doğrulanmış token claim'leri için önbellek (anahtar: token'ın SHA-256 özeti)
+    @Value("${jwt.claims-cache.enabled:true}")
+    private boolean claimsCacheEnabled;
+
+    @Value("${jwt.claims-cache.max-size:10000}")
+    private int claimsCacheMaxSize;
+
+    private final TokenEpochRegistry tokenEpochRegistry;
+
+    // Anahtar ve parser thread-safe olduğu için uygulama başlarken bir kez oluşturulur
+    private SecretKey signingKey;
+    private JwtParser parser;
+    private BoundedCache<String, Claims> verifiedClaims;
+
+    public JwtUtil(TokenEpochRegistry tokenEpochRegistry) {
+        this.tokenEpochRegistry = tokenEpochRegistry;
     }
 
-    // Yeni: Sadece email parametresi alan generateToken metodu
-    public String generateToken(String email) {
+    @PostConstruct
+    void init() {
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes());
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        this.verifiedClaims = claimsCacheEnabled ? new BoundedCache<>(claimsCacheMaxSize) : null;
+    }
+
+    /**
+     * Üye için token üretir. Subject email'dir; memberId, admin bayrağı ve üyenin güncel token
+     * epoch'u da claim olarak eklenir. Rol, scope gibi bilgiler token'a eklenmez.
+     */
+    public String generateToken(Member member) {
         Map<String, Object> claims = new HashMap<>();
-        // Artık rol, scope gibi bilgiler token'a eklenmiyor
+        claims.put(CLAIM_MEMBER_ID, member.getMemberId());
+        claims.put(CLAIM_ADMIN, Boolean.TRUE.equals(member.getIsAdmin()));
+        claims.put(CLAIM_EPOCH, tokenEpochRegistry.currentEpoch(member.getMemberId()));
 
         return Jwts.builder()
                 .setClaims(claims)
-                .setSubject(email)
+                .setSubject(member.getEmail())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    /**
+     * Token'ı tek seferde ayrıştırır, imzasını ve süresini doğrular.
+     * Daha önce doğrulanmış bir token için imza tekrar hesaplanmaz; claim'ler önbellekten döner.
+     * Önbellek kaydı token'ın kalan ömrü kadar tutulur, süresi dolan token önbellekten de düşer.
+     *
+     * @return Geçerli token için claim'ler; imza hatalı, süresi dolmuş veya bozuk token için boş
+     */
+    public Optional<Claims> verify(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+        String digest = verifiedClaims != null ? digest(token) : null;
+        if (digest != null) {
+            Claims cached = verifiedClaims.get(digest);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+        }
+
+        Claims claims;
+        try {
+            // parseClaimsJws süresi dolmuş token için ExpiredJwtException fırlatır
+            claims = parser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+
+        if (digest != null && claims.getExpiration() != null) {
+            Duration remaining = Duration.ofMillis(claims.getExpiration().getTime() - System.currentTimeMillis());
+            verifiedClaims.put(digest, claims, remaining);
+        }
+        return Optional.of(claims);
     }
 
-    public String extractEmail(String token) {
-        return extractAllClaims(token).getSubject();
+    public Claims extractAllClaims(String token) {
+        return parser.parseClaimsJws(token).getBody();
     }
 
-    public Date extractExpiration(String token) {
-        return extractAllClaims(token).getExpiration();
+    public Boolean validateToken(String token) {
+        return verify(token).isPresent();
     }
 
-    public Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    public CacheStats claimsCacheStats() {
+        return verifiedClaims != null ? verifiedClaims.stats() : null;
     }
 
-    public Boolean validateToken(String token) {
+    private static String digest(String token) {
         try {
-            return !isTokenExpired(token);
-        } catch (Exception e) {
-            return false;
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 her JVM'de bulunur; yine de önbelleği atlayıp doğrulamaya devam et
+            return null;
+        }
+    }
+
+    /**
+     * Token'ın epoch'u üyenin güncel epoch'undan eskiyse (şifre sıfırlama vb.) false döner.
+     * memberId claim'i olmayan eski tokenlar için üye subject (email) ile bulunur; epoch milisaniye
+     * cinsinden zaman damgası olduğundan token'ın üretilme zamanı (iat) epoch ile karşılaştırılır.
+     */
+    public boolean isEpochCurrent(Claims claims) {
+        Integer memberId = claims.get(CLAIM_MEMBER_ID, Integer.class);
+        if (memberId == null) {
+            long epoch = tokenEpochRegistry.currentEpochByEmail(claims.getSubject());
+            Date issuedAt = claims.getIssuedAt();
+            return epoch == 0L || (issuedAt != null && issuedAt.getTime() >= epoch);
+        }
+        Number epoch = claims.get(CLAIM_EPOCH, Number.class);
+        return tokenEpochRegistry.isCurrent(memberId, epoch == null ? 0L : epoch.longValue());
+    }
+
+    /**
+     * Stateless mod açıksa ve token gerekli claim'leri taşıyorsa principal'ı veritabanına
+     * gitmeden oluşturur. Aksi halde boş döner ve çağıran taraf kullanıcıyı yüklemelidir.
+     */
+    public Optional<NodoraPrincipal> principalFromClaims(Claims claims) {
+        if (!stateless) {
+            return Optional.empty();
+        }
+        Integer memberId = claims.get(CLAIM_MEMBER_ID, Integer.class);
+        Boolean admin = claims.get(CLAIM_ADMIN, Boolean.class);
+        if (memberId == null || admin == null || claims.getSubject() == null) {
+            return Optional.empty();
         }
+        return Optional.of(new NodoraPrincipal(memberId, claims.getSubject(), admin, null));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,77 @@
+package com.example.demo.security;
+
+import com.example.demo.model.members.Member;
+import lombok.Getter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Kimliği doğrulanmış kullanıcıyı temsil eden principal.
+ *
+ * İstek başına bir kez (JWT filtresinde veya login sırasında) oluşturulur ve memberId, email,
+ * admin bilgisini taşır. Servisler, aspect'ler ve yetkilendirme katmanı üye bilgisini tekrar
+ * veritabanından okumak yerine {@link #current()} ile buradan alır.
+ */
+@Getter
+public class NodoraPrincipal implements UserDetails, CredentialsContainer {
+
+    private final Integer memberId;
+    private final String email;
+    private final boolean admin;
+    private final List<GrantedAuthority> authorities;
+    private String password; // yalnızca login sırasında şifre doğrulaması için tutulur
+
+    public NodoraPrincipal(Integer memberId, String email, boolean admin, String password) {
+        this.memberId = memberId;
+        this.email = email;
+        this.admin = admin;
+        this.password = password;
+        this.authorities = List.of(new SimpleGrantedAuthority(admin ? "ROLE_ADMIN" : "ROLE_USER"));
+    }
+
+    public static NodoraPrincipal from(Member member) {
+        return new NodoraPrincipal(member.getMemberId(), member.getEmail(),
+                Boolean.TRUE.equals(member.getIsAdmin()), member.getPassword());
+    }
+
+    /**
+     * Güvenlik bağlamındaki (SecurityContextHolder) kullanıcıyı döner.
+     * Oturum yoksa veya principal bu tipte değilse boş döner.
+     */
+    public static Optional<NodoraPrincipal> current() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && authentication.getPrincipal() instanceof NodoraPrincipal principal) {
+            return Optional.of(principal);
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public void eraseCredentials() {
+        this.password = null;
+    }
+
+    @Override
+    public String toString() {
+        return "NodoraPrincipal{memberId=" + memberId + ", email='" + email + "', admin=" + admin + "}";
+    }
+}
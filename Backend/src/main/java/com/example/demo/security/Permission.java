@@ -0,0 +1,176 @@
+package com.example.demo.security;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Uygulamadaki tüm izinlerin derlenmiş politika tablosu.
+ *
+ * Her sabit; eski string izin anahtarını ({@code hasPermission(#id, 'update_card')}), hedef ID'nin
+ * neyi gösterdiğini ({@link Target}) ve izin verilen rolleri taşır. Tablo sınıf yüklenirken bir kez
+ * kurulur: string anahtar için bir HashMap, (kaynak, işlem) çifti için ordinal ile indekslenen bir
+ * dizi oluşturulur. Böylece çalışma anında SpEL ya da string switch gerekmez.
+ */
+public enum Permission {
+
+    // Workspace
+    CREATE_WORKSPACE("create_workspace", ResourceType.WORKSPACE, PermissionAction.CREATE, Target.NONE),
+    READ_ALL_WORKSPACES("read_all_workspaces", Target.DENY),
+    READ_WORKSPACES_FOR_CURRENT_USER("read_workspaces_for_current_user", Target.ANY),
+    READ_WORKSPACES_BY_MEMBER("read_workspaces_by_member", ResourceType.WORKSPACE, PermissionAction.LIST, Target.SELF),
+    DELETE_WORKSPACE("delete_workspace", ResourceType.WORKSPACE, PermissionAction.DELETE, Target.WORKSPACE,
+            Roles.OWNER),
+
+    // Workspace üyeleri
+    INVITE_MEMBER("invite_member", ResourceType.WORKSPACE_MEMBER, PermissionAction.CREATE, Target.WORKSPACE,
+            Roles.OWNER, Roles.LEAD),
+    READ_WORKSPACE_MEMBERS("read_workspace_members", ResourceType.WORKSPACE_MEMBER, PermissionAction.READ, Target.WORKSPACE,
+            Roles.OWNER),
+
+    // Board
+    CREATE_BOARD("create_board", ResourceType.BOARD, PermissionAction.CREATE, Target.WORKSPACE,
+            Roles.OWNER, Roles.LEAD),
+    READ_BOARDS_IN_WORKSPACE("read_boards_in_workspace", ResourceType.BOARD, PermissionAction.LIST, Target.WORKSPACE,
+            Roles.OWNER, Roles.MEMBER, Roles.LEAD),
+    READ_BOARD("read_board", ResourceType.BOARD, PermissionAction.READ, Target.BOARD,
+            Roles.MEMBER, Roles.LEAD, Roles.OWNER),
+    UPDATE_BOARD("update_board", ResourceType.BOARD, PermissionAction.UPDATE, Target.BOARD,
+            Roles.MEMBER, Roles.LEAD, Roles.OWNER),
+    DELETE_BOARD("delete_board", ResourceType.BOARD, PermissionAction.DELETE, Target.BOARD,
+            Roles.MEMBER, Roles.LEAD, Roles.OWNER),
+
+    // Board üyeleri
+    READ_BOARD_MEMBERS("read_board_members", ResourceType.BOARD_MEMBER, PermissionAction.READ, Target.BOARD,
+            Roles.MEMBER, Roles.LEAD, Roles.OWNER),
+    ADD_MEMBER_TO_BOARD("add_member_to_board", ResourceType.BOARD_MEMBER, PermissionAction.CREATE, Target.BOARD,
+            Roles.LEAD, Roles.OWNER),
+    REMOVE_MEMBER_FROM_BOARD("remove_member_from_board", ResourceType.BOARD_MEMBER, PermissionAction.DELETE, Target.BOARD,
+            Roles.LEAD, Roles.OWNER),
+    PROMOTE_LEADER("promote_leader", ResourceType.BOARD_MEMBER, PermissionAction.PROMOTE, Target.BOARD,
+            Roles.LEAD, Roles.OWNER),
+
+    // Liste
+    CREATE_LIST("create_list", ResourceType.LIST, PermissionAction.CREATE, Target.BOARD,
+            Roles.MEMBER, Roles.LEAD, Roles.OWNER),
+    READ_LIST("read_list", ResourceType.LIST, PermissionAction.READ, Target.LIST,
+            Roles.MEMBER, Roles.LEAD, Roles.OWNER),
+    DELETE_LIST("delete_list", ResourceType.LIST, PermissionAction.DELETE, Target.LIST,
+            Roles.LEAD),
+
+    // Kart
+    CREATE_CARD("create_card", ResourceType.CARD, PermissionAction.CREATE, Target.LIST,
+            Roles.MEMBER, Roles.LEAD, Roles.OWNER),
+    READ_CARD("read_card", ResourceType.CARD, PermissionAction.READ, Target.CARD,
+            Roles.MEMBER, Roles.LEAD, Roles.OWNER),
+    UPDATE_CARD("update_card", ResourceType.CARD, PermissionAction.UPDATE, Target.CARD,
+            Roles.MEMBER, Roles.LEAD, Roles.OWNER),
+    DELETE_CARD("delete_card", ResourceType.CARD, PermissionAction.DELETE, Target.CARD,
+            Roles.MEMBER, Roles.LEAD, Roles.OWNER),
+
+    // Kart etiketleri
+    CREATE_CARD_LABEL("create_card_label", ResourceType.CARD_LABEL, PermissionAction.CREATE, Target.CARD,
+            Roles.MEMBER, Roles.LEAD, Roles.OWNER),
+    UPDATE_CARD_LABEL("update_card_label", ResourceType.CARD_LABEL, PermissionAction.UPDATE, Target.CARD_LABEL,
+            Roles.MEMBER, Roles.LEAD, Roles.OWNER),
+    DELETE_CARD_LABEL("delete_card_label", ResourceType.CARD_LABEL, PermissionAction.DELETE, Target.CARD,
+            Roles.MEMBER, Roles.LEAD, Roles.OWNER),
+
+    // Checklist
+    CREATE_CHECKLIST("create_checklist", ResourceType.CHECKLIST, PermissionAction.CREATE, Target.CARD,
+            Roles.MEMBER, Roles.LEAD, Roles.OWNER),
+    READ_CHECKLIST("read_checklist", ResourceType.CHECKLIST, PermissionAction.READ, Target.CHECKLIST,
+            Roles.MEMBER, Roles.LEAD, Roles.OWNER),
+
+    // Checklist öğeleri
+    CREATE_CHECKLIST_ITEM("create_checklist_item", ResourceType.CHECKLIST_ITEM, PermissionAction.CREATE, Target.CHECKLIST,
+            Roles.MEMBER, Roles.LEAD, Roles.OWNER),
+    UPDATE_CHECKLIST_ITEM("update_checklist_item", ResourceType.CHECKLIST_ITEM, PermissionAction.UPDATE, Target.CHECKLIST,
+            Roles.MEMBER, Roles.LEAD, Roles.OWNER),
+    DELETE_CHECKLIST_ITEM("delete_checklist_item", ResourceType.CHECKLIST_ITEM, PermissionAction.DELETE, Target.CHECKLIST,
+            Roles.MEMBER, Roles.LEAD, Roles.OWNER);
+
+    /**
+     * Hedef ID'nin neyi gösterdiği; yetkilendirmenin hangi kapsamda yapılacağını belirler.
+     */
+    public enum Target {
+        NONE,       // hedef almaz, oturum açmış her kullanıcıya açık; hedef ID verilirse reddedilir
+        ANY,        // hedef ID verilmişse oturum açmış her kullanıcıya açık
+        DENY,       // yalnızca admin
+        SELF,       // hedef ID, kullanıcının kendi memberId'si olmalı
+        WORKSPACE,  // workspace rolü
+        BOARD,      // board rolü
+        LIST,       // liste → board rolü
+        CARD,       // kart → liste → board rolü
+        CARD_LABEL, // kart etiketi → kart → liste → board rolü
+        CHECKLIST   // checklist → kart → liste → board rolü
+    }
+
+    private static final class Roles {
+        static final String OWNER = "OWNER";
+        static final String LEAD = "LEAD";
+        static final String MEMBER = "MEMBER";
+    }
+
+    private static final Map<String, Permission> BY_KEY = new HashMap<>();
+    private static final Permission[][] BY_RESOURCE_AND_ACTION =
+            new Permission[ResourceType.values().length][PermissionAction.values().length];
+
+    static {
+        for (Permission permission : values()) {
+            BY_KEY.put(permission.key, permission);
+            if (permission.resource != null) {
+                Permission[] actions = BY_RESOURCE_AND_ACTION[permission.resource.ordinal()];
+                if (actions[permission.action.ordinal()] != null) {
+                    throw new IllegalStateException("Aynı kaynak/işlem için birden fazla izin tanımlı: "
+                            + permission.resource + "/" + permission.action);
+                }
+                actions[permission.action.ordinal()] = permission;
+            }
+        }
+    }
+
+    private final String key;
+    private final ResourceType resource;
+    private final PermissionAction action;
+    private final Target target;
+    private final String[] roleNames;
+
+    Permission(String key, Target target) {
+        this(key, null, null, target);
+    }
+
+    Permission(String key, ResourceType resource, PermissionAction action, Target target, String... roleNames) {
+        this.key = key;
+        this.resource = resource;
+        this.action = action;
+        this.target = target;
+        this.roleNames = roleNames;
+    }
+
+    /**
+     * String izin anahtarına karşılık gelen izni döner (ör. "update_card").
+     */
+    public static Optional<Permission> fromKey(String key) {
+        return Optional.ofNullable(key == null ? null : BY_KEY.get(key));
+    }
+
+    /**
+     * (kaynak, işlem) çiftine karşılık gelen izni döner; tanımlı değilse null.
+     */
+    public static Permission of(ResourceType resource, PermissionAction action) {
+        return BY_RESOURCE_AND_ACTION[resource.ordinal()][action.ordinal()];
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public Target getTarget() {
+        return target;
+    }
+
+    String[] roleNames() {
+        return roleNames;
+    }
+}
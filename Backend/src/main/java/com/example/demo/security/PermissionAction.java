@@ -0,0 +1,13 @@
+package com.example.demo.security;
+
+/**
+ * Bir kaynak üzerinde yapılan işlem. {@link ResourceType} ile birlikte bir {@link Permission}'ı belirler.
+ */
+public enum PermissionAction {
+    CREATE,
+    READ,
+    UPDATE,
+    DELETE,
+    LIST,    // kaynakların toplu listelenmesi (ör. workspace'teki board'lar)
+    PROMOTE  // board'da lider atama
+}
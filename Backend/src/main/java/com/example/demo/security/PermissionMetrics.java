@@ -0,0 +1,93 @@
+package com.example.demo.security;
+
+import com.example.demo.metrics.LatencyHistogram;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link CustomPermissionEvaluator} için izin bazında ölçüm toplayan bileşen.
+ *
+ * Her izin için gecikme histogramı, yapılan repository çağrısı sayısı ve izin/ret sayaçları tutulur.
+ * Sayaçlar {@link Permission} ordinal'i ile indekslenen bir dizide durur; kayıt sırasında kilit
+ * veya map araması yapılmaz. Tablo dışı (bilinmeyen) string izinler tek bir kovada toplanır.
+ */
+@Component
+public class PermissionMetrics {
+
+    static final String UNKNOWN = "unknown";
+
+    // Kontrol sırasında yapılan repository çağrıları; kontrol aynı thread'de başlayıp bittiği için yeterli
+    private static final ThreadLocal<int[]> REPOSITORY_CALLS = ThreadLocal.withInitial(() -> new int[1]);
+
+    private final Counters[] byPermission = new Counters[Permission.values().length];
+    private final Counters unknown = new Counters();
+
+    public PermissionMetrics() {
+        for (int i = 0; i < byPermission.length; i++) {
+            byPermission[i] = new Counters();
+        }
+    }
+
+    /**
+     * Yeni bir kontrol başlatır ve başlangıç zamanını (nanoTime) döner.
+     */
+    public long startCheck() {
+        REPOSITORY_CALLS.get()[0] = 0;
+        return System.nanoTime();
+    }
+
+    public void repositoryCall() {
+        REPOSITORY_CALLS.get()[0]++;
+    }
+
+    public void endCheck(Permission permission, boolean allowed, long startNanos) {
+        Counters counters = permission == null ? unknown : byPermission[permission.ordinal()];
+        counters.record(allowed, REPOSITORY_CALLS.get()[0], System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Kaydı olan izinlerin ölçümlerini, toplam harcanan süreye göre azalan sırada döner.
+     */
+    public Map<String, PermissionStats> snapshot() {
+        Map<String, PermissionStats> stats = new LinkedHashMap<>();
+        for (Permission permission : Permission.values()) {
+            PermissionStats snapshot = byPermission[permission.ordinal()].snapshot();
+            if (snapshot.getAllowed() + snapshot.getDenied() > 0) {
+                stats.put(permission.getKey(), snapshot);
+            }
+        }
+        PermissionStats unknownSnapshot = unknown.snapshot();
+        if (unknownSnapshot.getAllowed() + unknownSnapshot.getDenied() > 0) {
+            stats.put(UNKNOWN, unknownSnapshot);
+        }
+
+        Map<String, PermissionStats> sorted = new LinkedHashMap<>();
+        stats.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, PermissionStats> e) -> e.getValue().getLatency().getTotalNanos()).reversed())
+                .forEach(e -> sorted.put(e.getKey(), e.getValue()));
+        return sorted;
+    }
+
+    private static final class Counters {
+        private final LongAdder allowed = new LongAdder();
+        private final LongAdder denied = new LongAdder();
+        private final LongAdder repositoryCalls = new LongAdder();
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        private void record(boolean isAllowed, int calls, long nanos) {
+            (isAllowed ? allowed : denied).increment();
+            if (calls > 0) {
+                repositoryCalls.add(calls);
+            }
+            latency.record(nanos);
+        }
+
+        private PermissionStats snapshot() {
+            return new PermissionStats(allowed.sum(), denied.sum(), repositoryCalls.sum(), latency.snapshot());
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.demo.security;
+
+import com.example.demo.metrics.LatencySnapshot;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Tek bir izin için toplanan yetkilendirme ölçümlerinin anlık görüntüsü.
+ */
+@Getter
+@AllArgsConstructor
+public class PermissionStats {
+
+    private final long allowed;
+    private final long denied;
+    private final long repositoryCalls;
+    private final LatencySnapshot latency;
+
+    /**
+     * Kontrol başına ortalama veritabanı gidiş-dönüşü.
+     */
+    public double getRepositoryCallsPerCheck() {
+        long checks = allowed + denied;
+        return checks == 0 ? 0.0 : (double) repositoryCalls / checks;
+    }
+}
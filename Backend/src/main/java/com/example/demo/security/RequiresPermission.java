@@ -0,0 +1,29 @@
+package com.example.demo.security;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Tipli metot güvenliği. {@code @PreAuthorize("hasPermission(#id, 'update_card')")} yerine
+ * {@code @RequiresPermission(resource = ResourceType.CARD, action = PermissionAction.UPDATE, id = "id")}
+ * şeklinde kullanılır ve {@link RequiresPermissionInterceptor} tarafından SpEL değerlendirmesi
+ * yapılmadan kontrol edilir.
+ *
+ * {@link #id()} hedef ID'yi taşıyan parametrenin adıdır. Parametre bir istek nesnesiyse
+ * {@code "request.workspaceId"} gibi tek seviyeli bir özellik yolu verilebilir. Boş bırakılırsa
+ * hedef null kabul edilir. Parametre bir ID koleksiyonuysa toplu yetkilendirme yapılır.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RequiresPermission {
+
+    ResourceType resource();
+
+    PermissionAction action();
+
+    String id() default "";
+}
@@ -0,0 +1,16 @@
+package com.example.demo.security;
+
+/**
+ * {@link RequiresPermission} ile korunan kaynak tipleri.
+ */
+public enum ResourceType {
+    WORKSPACE,
+    WORKSPACE_MEMBER,
+    BOARD,
+    BOARD_MEMBER,
+    LIST,
+    CARD,
+    CARD_LABEL,
+    CHECKLIST,
+    CHECKLIST_ITEM
+}
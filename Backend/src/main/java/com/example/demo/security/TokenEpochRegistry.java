@@ -0,0 +1,64 @@
+package com.example.demo.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Üye bazında token epoch'unu tutan bellek içi tablo.
+ *
+ * Her JWT, üretildiği andaki epoch değerini taşır. Şifre sıfırlama veya hesabın pasifleştirilmesi
+ * gibi durumlarda {@link #revoke(Integer, String)} çağrılır ve üyenin epoch'u ilerletilir; daha küçük
+ * epoch taşıyan tokenlar bundan sonra reddedilir. memberId/epoch claim'i taşımayan eski tokenlar
+ * için epoch ayrıca email ile de tutulur; bu tokenlar üretilme zamanlarıyla karşılaştırılır.
+ *
+ * Epoch değeri milisaniye cinsinden zaman damgasıdır. Tablo bellekte tutulduğu için uygulama
+ * yeniden başladığında boşalır (tüm üyeler için 0). Bu durumda yeni üretilen tokenlar yine
+ * geçerlidir; daha önce iptal edilmiş tokenlar ise en geç kendi süreleri dolana kadar kabul edilir.
+ */
+@Component
+@Slf4j
+public class TokenEpochRegistry {
+
+    private final ConcurrentMap<Integer, Long> epochs = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Long> epochsByEmail = new ConcurrentHashMap<>();
+
+    public long currentEpoch(Integer memberId) {
+        if (memberId == null) {
+            return 0L;
+        }
+        return epochs.getOrDefault(memberId, 0L);
+    }
+
+    /**
+     * Token'ın subject'i (email) ile üyenin epoch'u; memberId claim'i olmayan eski tokenlar için kullanılır.
+     */
+    public long currentEpochByEmail(String email) {
+        if (email == null) {
+            return 0L;
+        }
+        return epochsByEmail.getOrDefault(email.toLowerCase(Locale.ROOT), 0L);
+    }
+
+    /**
+     * Üyenin o ana kadar üretilmiş tüm tokenlarını geçersiz kılar.
+     */
+    public void revoke(Integer memberId, String email) {
+        if (memberId == null) {
+            return;
+        }
+        // Aynı milisaniyede iki kez çağrılsa bile epoch mutlaka artar
+        long epoch = epochs.merge(memberId, System.currentTimeMillis(), (previous, now) -> Math.max(previous + 1, now));
+        if (email != null) {
+            epochsByEmail.merge(email.toLowerCase(Locale.ROOT), epoch, Math::max);
+        }
+        log.info("Üyenin token epoch'u ilerletildi. memberId: {}, epoch: {}", memberId, epoch);
+    }
+
+    public boolean isCurrent(Integer memberId, long tokenEpoch) {
+        return tokenEpoch >= currentEpoch(memberId);
+    }
+}
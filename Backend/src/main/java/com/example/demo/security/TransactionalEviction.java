@@ -0,0 +1,30 @@
+package com.example.demo.security;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Önbellek silme işlemlerini transaction sınırına hizalayan yardımcı sınıf.
+ */
+final class TransactionalEviction {
+
+    private TransactionalEviction() {
+    }
+
+    /**
+     * Silme işlemini hemen çalıştırır; aktif bir transaction varsa commit/rollback sonrasında
+     * tekrar çalıştırır. İkinci çalıştırma, transaction sürerken başka bir thread'in eski değeri
+     * tekrar önbelleğe yazmasına karşı koruma sağlar.
+     */
+    static void run(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                }
+            });
+        }
+    }
+}
@@ -1,9 +1,21 @@
 package com.example.demo.service;
 
+import com.example.demo.dto.request.AuditLogSamplingRule;
 import com.example.demo.dto.response.AdminDashboardResponse;
+import com.example.demo.dto.response.AuditLogSamplingResponse;
+import com.example.demo.dto.response.AuditLogWriterStatsResponse;
+import com.example.demo.dto.response.EndpointLatencyResponse;
+import com.example.demo.dto.response.EndpointTrafficResponse;
+import com.example.demo.dto.response.ErrorGroupResponse;
+import com.example.demo.dto.response.TrafficPointResponse;
 import com.example.demo.dto.response.WorkspaceResponse;
+import com.example.demo.security.CacheStats;
+import com.example.demo.security.PermissionStats;
 
+import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 public interface AdminService {
     
@@ -26,4 +38,54 @@ public interface AdminService {
      * Tüm workspace'leri getir (admin için)
      */
     List<WorkspaceResponse> getAllWorkspaces();
-} 
\ No newline at end of file
+
+    /**
+     * Yetkilendirme önbelleklerinin (rol, board zinciri, JWT claim) hit/miss/eviction istatistiklerini getir
+     */
+    Map<String, CacheStats> getPermissionCacheStats();
+
+    /**
+     * İzin bazında yetkilendirme ölçümlerini (gecikme, repository çağrısı, izin/ret) getir
+     */
+    Map<String, PermissionStats> getPermissionMetrics();
+
+    /**
+     * Audit log writer sayaçlarını (yazılan, atılan, diske taşan kayıtlar) getir
+     */
+    AuditLogWriterStatsResponse getAuditLogWriterStats();
+
+    /**
+     * Etkin audit log örnekleme kurallarını ve sayaçlarını getir
+     */
+    AuditLogSamplingResponse getAuditLogSampling();
+
+    /**
+     * Audit log örnekleme kurallarını çalışma anında değiştir
+     */
+    AuditLogSamplingResponse updateAuditLogSampling(List<AuditLogSamplingRule> rules);
+
+    /**
+     * Controller/service/repository uç noktalarının gecikme yüzdeliklerini getir; reset true ise yeni aralık başlat
+     */
+    EndpointLatencyResponse getEndpointLatency(boolean reset);
+
+    /**
+     * Dakika bazlı rollup tablosundan zaman dilimlerine göre trafik ve hata oranını getir
+     */
+    List<TrafficPointResponse> getTraffic(OffsetDateTime from, OffsetDateTime to, int stepMinutes, String source, String requestPath);
+
+    /**
+     * Dakika bazlı rollup tablosundan uç nokta bazında trafik ve hata toplamlarını getir
+     */
+    List<EndpointTrafficResponse> getEndpointTraffic(OffsetDateTime from, OffsetDateTime to, String orderBy, int limit);
+
+    /**
+     * since'ten sonra görülen hata gruplarını tekrar sayısına göre getir
+     */
+    List<ErrorGroupResponse> getTopErrorGroups(OffsetDateTime since, int limit);
+
+    /**
+     * Tek bir hata grubunu tam stack trace ile getir
+     */
+    Optional<ErrorGroupResponse> getErrorGroup(String fingerprint);
+}
@@ -1,15 +1,36 @@
 package com.example.demo.service;
 
+import com.example.demo.aspect.AuditLogSamplingPolicy;
+import com.example.demo.dto.request.AuditLogSamplingRule;
 import com.example.demo.dto.response.AdminDashboardResponse;
+import com.example.demo.dto.response.AuditLogSamplingResponse;
+import com.example.demo.dto.response.AuditLogWriterStatsResponse;
+import com.example.demo.dto.response.EndpointLatencyResponse;
+import com.example.demo.dto.response.EndpointTrafficResponse;
+import com.example.demo.dto.response.ErrorGroupResponse;
+import com.example.demo.dto.response.TrafficPointResponse;
 import com.example.demo.dto.response.WorkspaceResponse;
+import com.example.demo.metrics.EndpointMetrics;
+import com.example.demo.metrics.LatencySnapshot;
 import com.example.demo.model.workspaces.Workspaces;
 import com.example.demo.repository.MemberRepository;
 import com.example.demo.repository.WorkspaceRepository;
+import com.example.demo.security.BoardAncestryCache;
+import com.example.demo.security.CacheStats;
+import com.example.demo.security.EffectiveRoleCache;
+import com.example.demo.security.JwtUtil;
+import com.example.demo.security.PermissionMetrics;
+import com.example.demo.security.PermissionStats;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -19,6 +40,15 @@ public class AdminServiceImpl implements AdminService {
 
     private final WorkspaceRepository workspaceRepository;
     private final MemberRepository memberRepository;
+    private final EffectiveRoleCache effectiveRoleCache;
+    private final BoardAncestryCache boardAncestryCache;
+    private final JwtUtil jwtUtil;
+    private final PermissionMetrics permissionMetrics;
+    private final AuditLogWriter auditLogWriter;
+    private final AuditLogSamplingPolicy auditLogSamplingPolicy;
+    private final EndpointMetrics endpointMetrics;
+    private final RequestRollupService requestRollupService;
+    private final ErrorGroupService errorGroupService;
 
     @Override
     public AdminDashboardResponse getDashboardStats() {
@@ -74,4 +104,64 @@ public class AdminServiceImpl implements AdminService {
         //response.setRoleId(2);
         return response;
     }
-} 
\ No newline at end of file
+
+    @Override
+    public Map<String, CacheStats> getPermissionCacheStats() {
+        Map<String, CacheStats> stats = new LinkedHashMap<>();
+        stats.putAll(effectiveRoleCache.stats());
+        stats.putAll(boardAncestryCache.stats());
+        CacheStats jwtClaims = jwtUtil.claimsCacheStats();
+        if (jwtClaims != null) {
+            stats.put("jwtClaims", jwtClaims);
+        }
+        return stats;
+    }
+
+    @Override
+    public Map<String, PermissionStats> getPermissionMetrics() {
+        return permissionMetrics.snapshot();
+    }
+
+    @Override
+    public AuditLogWriterStatsResponse getAuditLogWriterStats() {
+        return auditLogWriter.stats();
+    }
+
+    @Override
+    public AuditLogSamplingResponse getAuditLogSampling() {
+        return auditLogSamplingPolicy.describe();
+    }
+
+    @Override
+    public AuditLogSamplingResponse updateAuditLogSampling(List<AuditLogSamplingRule> rules) {
+        return auditLogSamplingPolicy.replaceRules(rules);
+    }
+
+    @Override
+    public EndpointLatencyResponse getEndpointLatency(boolean reset) {
+        OffsetDateTime intervalStart = endpointMetrics.getIntervalStart();
+        Map<EndpointMetrics.Layer, Map<String, LatencySnapshot>> endpoints = endpointMetrics.snapshot(reset);
+        return new EndpointLatencyResponse(intervalStart, OffsetDateTime.now(ZoneOffset.UTC), endpoints);
+    }
+
+    @Override
+    public List<TrafficPointResponse> getTraffic(OffsetDateTime from, OffsetDateTime to, int stepMinutes,
+                                                 String source, String requestPath) {
+        return requestRollupService.getTraffic(from, to, stepMinutes, source, requestPath);
+    }
+
+    @Override
+    public List<EndpointTrafficResponse> getEndpointTraffic(OffsetDateTime from, OffsetDateTime to, String orderBy, int limit) {
+        return requestRollupService.getEndpointTraffic(from, to, orderBy, limit);
+    }
+
+    @Override
+    public List<ErrorGroupResponse> getTopErrorGroups(OffsetDateTime since, int limit) {
+        return errorGroupService.getTopGroups(since, limit);
+    }
+
+    @Override
+    public Optional<ErrorGroupResponse> getErrorGroup(String fingerprint) {
+        return errorGroupService.getGroup(fingerprint);
+    }
+}
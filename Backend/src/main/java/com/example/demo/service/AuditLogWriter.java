@@ -0,0 +1,415 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.request.LogRequest;
+import com.example.demo.dto.response.AuditLogWriterStatsResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LoggingAspect'in ürettiği denetim (audit) loglarını istek thread'i dışında yazan bileşen.
+ *
+ * Loglar sabit kapasiteli bir halka tampona (ArrayBlockingQueue) eklenir; tek bir arka plan
+ * thread'i tamponu boşaltır ve satırları JDBC batch insert ile yazar. Batch, boyut eşiğine
+ * (batch-size) ulaşınca ya da ilk kayıttan bu yana flush-interval-ms geçince gönderilir.
+ *
+ * Tampon dolduğunda davranış overflow-policy ile belirlenir:
+ * - BLOCK: istek thread'i yer açılana kadar bekler (kayıp yok).
+ * - DROP_INFO: INFO/DEBUG kayıtları atılır ve sayılır; WARN/ERROR kayıtları için beklenir.
+ * - SPILL: kayıt diske (NDJSON) yazılır; tampon boşaldığında writer bu dosyayı geri okur.
+ *
+ * Geri okuma sırasında bir batch yazılamazsa (ör. veritabanı erişilemez) kalan satırlar dosyaya geri
+ * eklenir ve sonraki deneme flush-interval-ms'den başlayıp replay-max-backoff-ms'e kadar iki katına
+ * çıkan bir süre ertelenir. Tekrar taşan kayıtlar spilled sayacında ikinci kez sayılmaz.
+ */
+@Service
+@Slf4j
+public class AuditLogWriter {
+
+    public enum OverflowPolicy { BLOCK, DROP_INFO, SPILL }
+
+    static final String INSERT_SQL =
+            "INSERT INTO logs (log_level, message, timestamp, source, exception, additional_data, member_id, ip_address, request_path, error_fingerprint) " +
+            "VALUES (?, ?, ?, ?, ?, CAST(? AS jsonb), ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final BlockingQueue<PendingLog> buffer;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final OverflowPolicy overflowPolicy;
+    private final Path spillFile;
+    private final long replayMaxBackoffMillis;
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder flushed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder spilled = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+
+    private final Object spillLock = new Object();
+    private volatile boolean running;
+    private Thread writerThread;
+
+    // Yalnızca writer thread'i kullanır
+    private long replayBackoffMillis;
+    private long nextReplayNanos;
+
+    public AuditLogWriter(JdbcTemplate jdbcTemplate,
+                          ObjectMapper objectMapper,
+                          @Value("${nodora.audit-log.capacity:8192}") int capacity,
+                          @Value("${nodora.audit-log.batch-size:500}") int batchSize,
+                          @Value("${nodora.audit-log.flush-interval-ms:1000}") long flushIntervalMillis,
+                          @Value("${nodora.audit-log.overflow-policy:DROP_INFO}") OverflowPolicy overflowPolicy,
+                          @Value("${nodora.audit-log.spill-file:${java.io.tmpdir}/nodora-audit-spill.ndjson}") String spillFile,
+                          @Value("${nodora.audit-log.replay-max-backoff-ms:60000}") long replayMaxBackoffMillis) {
+        if (capacity <= 0 || batchSize <= 0 || flushIntervalMillis <= 0 || replayMaxBackoffMillis <= 0) {
+            throw new IllegalArgumentException("Audit log writer ayarları pozitif olmalıdır.");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.overflowPolicy = overflowPolicy;
+        this.spillFile = Paths.get(spillFile);
+        this.replayMaxBackoffMillis = replayMaxBackoffMillis;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::runWriter, "audit-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("Audit log writer başlatıldı. Kapasite: {}, batch: {}, flush aralığı: {}ms, taşma politikası: {}",
+                buffer.remainingCapacity(), batchSize, flushIntervalMillis, overflowPolicy);
+    }
+
+    /**
+     * Uygulama kapanırken tampondaki kayıtları yazar.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (writerThread != null) {
+            writerThread.interrupt();
+            writerThread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        List<PendingLog> remaining = new ArrayList<>();
+        buffer.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            flush(remaining);
+        }
+        log.info("Audit log writer durduruldu. Yazılan: {}, atılan: {}, diske taşan: {}", flushed.sum(), dropped.sum(), spilled.sum());
+    }
+
+    /**
+     * Log kaydını tampona ekler. Veritabanı yazması arka planda yapılır.
+     */
+    public void enqueue(LogRequest logRequest) {
+        PendingLog pending = new PendingLog(OffsetDateTime.now(ZoneOffset.UTC), logRequest, false);
+        enqueued.increment();
+        if (buffer.offer(pending)) {
+            return;
+        }
+        switch (overflowPolicy) {
+            case DROP_INFO:
+                if (isDroppable(logRequest.getLogLevel())) {
+                    dropped.increment();
+                    return;
+                }
+                put(pending);
+                break;
+            case SPILL:
+                spill(List.of(pending));
+                break;
+            case BLOCK:
+            default:
+                put(pending);
+        }
+    }
+
+    public AuditLogWriterStatsResponse stats() {
+        return new AuditLogWriterStatsResponse(
+                enqueued.sum(), flushed.sum(), dropped.sum(), spilled.sum(), failed.sum(), batches.sum(),
+                buffer.size(), buffer.size() + buffer.remainingCapacity(), overflowPolicy.name());
+    }
+
+    private void put(PendingLog pending) {
+        try {
+            buffer.put(pending);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            dropped.increment();
+        }
+    }
+
+    private static boolean isDroppable(String level) {
+        return level == null || "INFO".equalsIgnoreCase(level) || "DEBUG".equalsIgnoreCase(level);
+    }
+
+    // ================================
+    // WRITER THREAD
+    // ================================
+
+    private void runWriter() {
+        List<PendingLog> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                PendingLog first = buffer.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    replaySpill();
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+                while (batch.size() < batchSize) {
+                    if (buffer.drainTo(batch, batchSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    PendingLog next = buffer.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                flush(batch);
+                batch.clear();
+            } catch (InterruptedException e) {
+                // stop() tarafından uyandırıldı; kalan kayıtlar orada yazılır
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                    batch.clear();
+                }
+            } catch (RuntimeException e) {
+                log.error("Audit log writer beklenmeyen bir hatayla karşılaştı: {}", e.getMessage(), e);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * @return batch yazıldıysa true; yazılamadıysa kayıtlar taşma dosyasına eklenir (SPILL) ya da failed sayılır
+     */
+    private boolean flush(List<PendingLog> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(),
+                    (ps, pending) -> bindInsert(ps, pending.getLog(), pending.getTimestamp(), toJson(pending.getLog())));
+            flushed.add(batch.size());
+            batches.increment();
+            return true;
+        } catch (RuntimeException e) {
+            log.error("Audit log batch'i yazılamadı ({} kayıt): {}", batch.size(), e.getMessage());
+            if (overflowPolicy == OverflowPolicy.SPILL) {
+                spill(batch);
+            } else {
+                failed.add(batch.size());
+            }
+            return false;
+        }
+    }
+
+    /**
+     * INSERT_SQL parametrelerini bağlar; toplu log alımı (LogBatchIngestService) da aynı sırayı kullanır.
+     */
+    static void bindInsert(PreparedStatement ps, LogRequest request, OffsetDateTime timestamp, String additionalDataJson)
+            throws SQLException {
+        ps.setString(1, request.getLogLevel());
+        ps.setString(2, request.getMessage());
+        ps.setObject(3, timestamp);
+        ps.setString(4, request.getSource());
+        ps.setString(5, request.getException());
+        ps.setString(6, additionalDataJson);
+        if (request.getMemberId() != null) {
+            ps.setInt(7, request.getMemberId());
+        } else {
+            ps.setNull(7, Types.INTEGER);
+        }
+        ps.setString(8, request.getIpAddress());
+        ps.setString(9, request.getRequestPath());
+        ps.setString(10, request.getErrorFingerprint());
+    }
+
+    private String toJson(LogRequest request) {
+        if (request.getAdditionalData() == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(request.getAdditionalData());
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    // ================================
+    // SPILL
+    // ================================
+
+    private void spill(List<PendingLog> pendingLogs) {
+        synchronized (spillLock) {
+            int newlySpilled = 0;
+            try (BufferedWriter writer = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (PendingLog pending : pendingLogs) {
+                    // Geri okunup tekrar taşan kayıt ilk taşmada sayılmıştır
+                    if (!pending.isSpilled()) {
+                        pending.setSpilled(true);
+                        newlySpilled++;
+                    }
+                    writer.write(objectMapper.writeValueAsString(pending));
+                    writer.newLine();
+                }
+                spilled.add(newlySpilled);
+            } catch (IOException e) {
+                log.error("Audit log kayıtları diske yazılamadı: {}", e.getMessage());
+                dropped.add(pendingLogs.size());
+            }
+        }
+    }
+
+    /**
+     * Tampon boşken diske taşmış kayıtları geri okuyup yazar. Okuma sırasında yeni taşmalar
+     * yeni bir dosyaya gider; işlenen dosya sonunda silinir. Önceki bir denemeden kalmış .replay
+     * dosyası varsa üzerine yazılmaz, önce o işlenir. Bir batch yazılamazsa okunmamış satırlar
+     * taşma dosyasına geri eklenir ve sonraki deneme artan bir süre ertelenir. Ayrıştırılamayan
+     * satırlar (ör. yazma sırasında çöken sürecin bıraktığı yarım satır) .corrupt dosyasına
+     * ayrılıp failed sayılır; okuma kalan satırlarla devam eder.
+     */
+    private void replaySpill() {
+        if (replayBackoffMillis > 0 && System.nanoTime() - nextReplayNanos < 0) {
+            return;
+        }
+        Path replayFile = spillFile.resolveSibling(spillFile.getFileName() + ".replay");
+        synchronized (spillLock) {
+            if (!Files.exists(replayFile)) {
+                if (!Files.exists(spillFile)) {
+                    return;
+                }
+                try {
+                    Files.move(spillFile, replayFile);
+                } catch (IOException e) {
+                    log.error("Taşma dosyası işlenmek üzere taşınamadı: {}", e.getMessage());
+                    return;
+                }
+            }
+        }
+
+        List<PendingLog> batch = new ArrayList<>(batchSize);
+        long replayed = 0;
+        long corrupt = 0;
+        boolean replayFailed = false;
+        try (BufferedReader reader = Files.newBufferedReader(replayFile, StandardCharsets.UTF_8)) {
+            String line;
+            while (!replayFailed && (line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    batch.add(objectMapper.readValue(line, PendingLog.class));
+                } catch (JsonProcessingException e) {
+                    quarantine(line);
+                    corrupt++;
+                    continue;
+                }
+                if (batch.size() >= batchSize) {
+                    replayFailed = !flush(batch);
+                    replayed += replayFailed ? 0 : batch.size();
+                    batch.clear();
+                }
+            }
+            if (!replayFailed && !batch.isEmpty()) {
+                replayFailed = !flush(batch);
+                replayed += replayFailed ? 0 : batch.size();
+            }
+            if (replayFailed) {
+                // Yazılamayan batch flush içinde zaten geri taşındı; okunmamış satırlar olduğu gibi eklenir
+                synchronized (spillLock) {
+                    try (BufferedWriter writer = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8,
+                            StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                        reader.transferTo(writer);
+                    }
+                }
+            }
+            Files.deleteIfExists(replayFile);
+        } catch (IOException e) {
+            // .replay dosyası yerinde kalır ve sonraki denemede baştan işlenir; bu durumda
+            // bu denemede yazılmış batch'ler tekrar yazılabilir (en az bir kez)
+            log.error("Taşma dosyası okunamadı: {}", e.getMessage());
+            replayFailed = true;
+        }
+        if (corrupt > 0) {
+            failed.add(corrupt);
+            log.warn("Taşma dosyasındaki {} satır ayrıştırılamadı ve {} dosyasına ayrıldı.", corrupt, corruptFile());
+        }
+
+        if (replayFailed) {
+            replayBackoffMillis = replayBackoffMillis == 0
+                    ? flushIntervalMillis
+                    : Math.min(replayBackoffMillis * 2, replayMaxBackoffMillis);
+            nextReplayNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(replayBackoffMillis);
+            log.warn("Taşma dosyası yeniden yazılamadı ({} kayıt yazıldı); {}ms sonra tekrar denenecek.", replayed, replayBackoffMillis);
+        } else {
+            replayBackoffMillis = 0;
+            log.info("Diske taşmış {} audit log kaydı veritabanına yazıldı.", replayed);
+        }
+    }
+
+    private void quarantine(String line) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(corruptFile(), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            writer.write(line);
+            writer.newLine();
+        }
+    }
+
+    private Path corruptFile() {
+        return spillFile.resolveSibling(spillFile.getFileName() + ".corrupt");
+    }
+
+    /**
+     * Tamponda bekleyen kayıt; zaman damgası istek anında alınır. spilled, kaydın daha önce diske
+     * taşıp taşmadığını tutar ve taşma dosyasına birlikte yazılır.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class PendingLog {
+        private OffsetDateTime timestamp;
+        private LogRequest log;
+        private boolean spilled;
+    }
+}
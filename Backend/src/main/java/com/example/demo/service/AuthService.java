@@ -13,6 +13,7 @@ import com.example.demo.repository.MemberRepository;
 import com.example.demo.repository.RoleRepository;
 import com.example.demo.repository.WorkspaceMemberRepository;
 import com.example.demo.security.JwtUtil;
+import com.example.demo.security.TokenEpochRegistry;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -35,6 +36,7 @@ public class AuthService {
     private final WorkspaceMemberRepository workspaceMemberRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final TokenEpochRegistry tokenEpochRegistry;
     private final EmailService emailService;
     private final GmailOAuthService gmailOAuthService;
 
@@ -89,7 +91,7 @@ public class AuthService {
             }
             log.info("Şifre doğrulandı: {}", request.getEmail());
 
-            String token = jwtUtil.generateToken(member.getEmail());
+            String token = jwtUtil.generateToken(member);
             log.info("JWT token oluşturuldu: {}", request.getEmail());
 
             Integer roleId = null;
@@ -151,6 +153,7 @@ public class AuthService {
         String newPassword = generateRandomPassword(8);
         member.setPassword(passwordEncoder.encode(newPassword));
         memberRepository.save(member);
+        tokenEpochRegistry.revoke(member.getMemberId(), member.getEmail()); // eski şifreyle alınmış tokenlar geçersiz
 
         return sendPasswordEmail(member.getEmail(), newPassword);
     }
@@ -177,6 +180,7 @@ public class AuthService {
 
         member.setPassword(passwordEncoder.encode(newPassword));
         memberRepository.save(member);
+        tokenEpochRegistry.revoke(member.getMemberId(), member.getEmail()); // eski şifreyle alınmış tokenlar geçersiz
         log.info("Şifre başarıyla sıfırlandı: {}", email);
 
         return "Şifreniz başarıyla güncellendi. Artık yeni şifrenizle giriş yapabilirsiniz.";
@@ -216,33 +220,26 @@ public class AuthService {
 
         if (gmailOAuthService.isAvailable()) {
             try {
-                System.out.println("🎯 Gmail OAuth API ile e-posta gönderimi deneniyor...");
+                log.debug("🎯 Gmail OAuth API ile e-posta gönderimi deneniyor...");
                 String fromEmail = "frontendproje@gmail.com";
                 gmailOAuthService.sendEmail(email, subject, body, fromEmail);
                 return "Yeni şifreniz e-posta adresinize gönderildi. [Gmail API]";
             } catch (Exception e) {
-                System.err.println("🚨 Gmail OAuth API HATA: " + e.getMessage());
-                if (e.getCause() != null) {
-                    System.err.println("   Cause: " + e.getCause().getMessage());
-                }
-                System.out.println("🔄 Gmail API başarısız, SMTP'ye geçiliyor...");
+                log.warn("🚨 Gmail OAuth API HATA: {} (Cause: {}). SMTP'ye geçiliyor...",
+                        e.getMessage(), e.getCause() != null ? e.getCause().getMessage() : null);
             }
         } else {
-            System.out.println("⚠️ Gmail OAuth servis mevcut değil, SMTP deneniyor...");
+            log.debug("⚠️ Gmail OAuth servis mevcut değil, SMTP deneniyor...");
         }
 
         if (emailService.isAvailable()) {
             try {
-                System.out.println("🎯 Outlook SMTP ile e-posta gönderimi deneniyor...");
+                log.debug("🎯 Outlook SMTP ile e-posta gönderimi deneniyor...");
                 emailService.sendEmail(email, subject, body);
                 return "Yeni şifreniz e-posta adresinize gönderildi. [Outlook SMTP - Fallback]";
             } catch (Exception e) {
-                System.err.println("🚨 Outlook SMTP DETAYLI HATA:");
-                System.err.println("   Hata türü: " + e.getClass().getSimpleName());
-                System.err.println("   Hata mesajı: " + e.getMessage());
-                if (e.getCause() != null) {
-                    System.err.println("   Cause: " + e.getCause().getMessage());
-                }
+                log.error("🚨 Outlook SMTP hatası. Hata türü: {}, Hata mesajı: {}, Cause: {}",
+                        e.getClass().getSimpleName(), e.getMessage(), e.getCause() != null ? e.getCause().getMessage() : null);
                 return "E-posta gönderim hatası: Hem Gmail API hem de SMTP başarısız oldu. Teknik ekip bilgilendirildi.";
             }
         } else {
@@ -1,11 +1,14 @@
 package com.example.demo.service;
 
+import com.example.demo.cache.BoardVersionRegistry;
 import com.example.demo.model.board_members.BoardMember;
 import com.example.demo.model.boards.Boards;
 import com.example.demo.model.members.Member;
 import com.example.demo.model.roles.Roles;
 import com.example.demo.model.workspace_members.WorkspaceMember;
 import com.example.demo.repository.*;
+import com.example.demo.security.EffectiveRoleCache;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -16,6 +19,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Service
+@Slf4j
 public class BoardMemberServiceImpl implements BoardMemberService {
 
     @Autowired
@@ -33,6 +37,15 @@ public class BoardMemberServiceImpl implements BoardMemberService {
     @Autowired
     private RoleRepository roleRepository;
 
+    @Autowired
+    private EffectiveRoleCache effectiveRoleCache;
+
+    @Autowired
+    private MemberBoardAccessService memberBoardAccessService;
+
+    @Autowired
+    private BoardVersionRegistry boardVersionRegistry;
+
     // <<< GÜNCELLENMİŞ METOT >>>
     @Override
     @Transactional
@@ -66,14 +79,20 @@ public class BoardMemberServiceImpl implements BoardMemberService {
         newBoardMember.setRoleId(defaultMemberRole.getRoleId()); // Varsayılan rolü ata
         newBoardMember.setWorkspaceMember(workspaceMember);
         boardMemberRepository.save(newBoardMember);
+        memberBoardAccessService.grant(memberId, boardId, board.getWorkspaceId(), defaultMemberRole);
+        effectiveRoleCache.evictBoardRole(memberId, boardId);
+        boardVersionRegistry.bump(boardId);
 
-        System.out.println("LOG: memberId=" + memberId + ", action=ADD_MEMBER_TO_BOARD, boardId=" + boardId);
+        log.info("memberId={}, action=ADD_MEMBER_TO_BOARD, boardId={}", memberId, boardId);
     }
 
     @Override
     @Transactional
     public void removeMemberFromBoard(Integer boardId, Integer memberId) {
         boardMemberRepository.deleteByBoard_BoardIdAndMember_MemberId(boardId, memberId);
+        memberBoardAccessService.revoke(memberId, boardId);
+        effectiveRoleCache.evictBoardRole(memberId, boardId);
+        boardVersionRegistry.bump(boardId);
     }
 
     @Override
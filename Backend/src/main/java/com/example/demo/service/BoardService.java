@@ -1,5 +1,6 @@
 package com.example.demo.service;
 
+import com.example.demo.cache.BoardVersionRegistry;
 import com.example.demo.dto.request.BoardRequest;
 import com.example.demo.dto.response.BoardResponse;
 import com.example.demo.model.board_members.BoardMember;
@@ -8,12 +9,11 @@ import com.example.demo.model.members.Member;
 import com.example.demo.model.roles.Roles;
 import com.example.demo.model.workspace_members.WorkspaceMember;
 import com.example.demo.repository.*;
+import com.example.demo.security.EffectiveRoleCache;
+import com.example.demo.security.NodoraPrincipal;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -31,6 +31,9 @@ public class BoardService {
     private final RoleRepository roleRepository;
     private final MemberRepository memberRepository;
     private final WorkspaceMemberRepository workspaceMemberRepository;
+    private final EffectiveRoleCache effectiveRoleCache;
+    private final MemberBoardAccessService memberBoardAccessService;
+    private final BoardVersionRegistry boardVersionRegistry;
 
     private static final String OWNER_ROLE = "OWNER";
     private static final String LEAD_ROLE = "LEAD";
@@ -39,8 +42,8 @@ public class BoardService {
     @Transactional
     public BoardResponse createBoard(BoardRequest request) {
         Integer currentMemberId = getCurrentMemberId();
-        Member currentMember = memberRepository.findById(currentMemberId)
-                .orElseThrow(() -> new RuntimeException("Kullanıcı bulunamadı"));
+        // Kullanıcı principal ile doğrulandığı için yalnızca referans yeterli (ek SELECT yapılmaz)
+        Member currentMember = memberRepository.getReferenceById(currentMemberId);
 
         Boards newBoard = new Boards();
         newBoard.setWorkspaceId(request.getWorkspaceId());
@@ -68,6 +71,8 @@ public class BoardService {
         creator.setRoleId(creatorRole.getRoleId());
         creator.setWorkspaceMember(workspaceMember);
         boardMemberRepository.save(creator);
+        memberBoardAccessService.grant(currentMemberId, savedBoard.getBoardId(), savedBoard.getWorkspaceId(), creatorRole);
+        effectiveRoleCache.evictBoardRole(currentMemberId, savedBoard.getBoardId());
         log.info("Board oluşturan üye (memberId: {}) otomatik olarak board'a (boardId: {}) LEAD olarak atandı.", currentMemberId, savedBoard.getBoardId());
 
         return toResponse(savedBoard);
@@ -83,6 +88,7 @@ public class BoardService {
         board.setBgColor(request.getBgColor());
 
         Boards saved = boardRepository.save(board);
+        boardVersionRegistry.bump(boardId);
         log.info("LOG: memberId={}, action=BOARD_UPDATE, boardId={}", currentMemberId, boardId);
 
         return toResponse(saved);
@@ -92,6 +98,9 @@ public class BoardService {
     public void deleteBoard(Integer boardId) {
         Integer deleterMemberId = getCurrentMemberId();
         boardRepository.deleteById(boardId);
+        memberBoardAccessService.revokeBoard(boardId);
+        effectiveRoleCache.evictBoard(boardId);
+        boardVersionRegistry.bump(boardId);
         log.info("LOG: memberId={}, action=BOARD_DELETE, boardId={}", deleterMemberId, boardId);
     }
 
@@ -105,16 +114,19 @@ public class BoardService {
 
         boardMember.setRoleId(leaderRole.getRoleId());
         boardMemberRepository.save(boardMember);
+        memberBoardAccessService.grant(memberId, boardId, boardMember.getBoard().getWorkspaceId(), leaderRole);
+        effectiveRoleCache.evictBoardRole(memberId, boardId);
+        boardVersionRegistry.bump(boardId);
         log.info("LOG: memberId={}, action=PROMOTE_LEADER, boardId={}", memberId, boardId);
     }
 
     public List<BoardResponse> getBoardsByWorkspaceId(Integer workspaceId) {
         return boardRepository.findByWorkspaceId(workspaceId).stream()
-                .map(this::toResponse)
+                .map(BoardService::toResponse)
                 .collect(Collectors.toList());
     }
 
-    private BoardResponse toResponse(Boards board) {
+    static BoardResponse toResponse(Boards board) {
         BoardResponse response = new BoardResponse();
         response.setBoardId(board.getBoardId());
         response.setWorkspaceId(board.getWorkspaceId());
@@ -125,12 +137,8 @@ public class BoardService {
     }
 
     private Integer getCurrentMemberId() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated() || !(authentication.getPrincipal() instanceof UserDetails)) {
-            throw new RuntimeException("Kullanıcı oturum açmamış veya kimlik doğrulama bilgisi eksik!");
-        }
-        String email = ((UserDetails) authentication.getPrincipal()).getUsername();
-        return memberRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("Kullanıcı bulunamadı")).getMemberId();
+        return NodoraPrincipal.current()
+                .map(NodoraPrincipal::getMemberId)
+                .orElseThrow(() -> new RuntimeException("Kullanıcı oturum açmamış veya kimlik doğrulama bilgisi eksik!"));
     }
 }
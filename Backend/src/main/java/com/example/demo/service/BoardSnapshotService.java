@@ -0,0 +1,88 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.response.BoardSnapshotResponse;
+import com.example.demo.dto.response.CardLabelsResponse;
+import com.example.demo.dto.response.CardResponse;
+import com.example.demo.dto.response.ChecklistDetailResponseDTO;
+import com.example.demo.dto.response.LabelsResponse;
+import com.example.demo.dto.response.ListsResponse;
+import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.model.boards.Boards;
+import com.example.demo.model.checklist.Checklist;
+import com.example.demo.model.checklist_items.ChecklistItems;
+import com.example.demo.repository.BoardRepository;
+import com.example.demo.repository.CardLabelsRepository;
+import com.example.demo.repository.CardRepository;
+import com.example.demo.repository.ChecklistItemRepository;
+import com.example.demo.repository.ChecklistRepository;
+import com.example.demo.repository.LabelsRepository;
+import com.example.demo.repository.ListsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Bir board'u listeleri, kartları, checklist'leri, item'ları ve etiketleriyle birlikte tek seferde getirir.
+ *
+ * Board büyüklüğünden bağımsız olarak sabit sayıda (7) sorgu çalışır: board, listeler, kartlar,
+ * checklist'ler, item'lar, etiketler ve kart etiketleri; her biri board'a join ile tek sorguda alınır.
+ * İlişkiler bellekte id üzerinden kurulur; DTO dönüşümleri ilgili servislerin mapper'larıyla yapılır.
+ */
+@Service
+@RequiredArgsConstructor
+public class BoardSnapshotService {
+
+    private final BoardRepository boardRepository;
+    private final ListsRepository listsRepository;
+    private final CardRepository cardRepository;
+    private final ChecklistRepository checklistRepository;
+    private final ChecklistItemRepository checklistItemRepository;
+    private final LabelsRepository labelsRepository;
+    private final CardLabelsRepository cardLabelsRepository;
+
+    @Transactional(readOnly = true)
+    public BoardSnapshotResponse getSnapshot(Integer boardId) {
+        Boards board = boardRepository.findById(boardId)
+                .orElseThrow(() -> new ResourceNotFoundException("Board bulunamadı"));
+
+        List<ListsResponse> lists = listsRepository.findByBoardIdOrderByPosition(boardId).stream()
+                .map(ListsService::toResponseDto)
+                .collect(Collectors.toList());
+
+        // Sorgular card/checklist ve position sırasıyla döner; gruplama bu sırayı korur
+        Map<Integer, List<ChecklistItems>> itemsByChecklist = new HashMap<>();
+        for (ChecklistItems item : checklistItemRepository.findByBoardId(boardId)) {
+            itemsByChecklist.computeIfAbsent(item.getChecklistId(), id -> new ArrayList<>()).add(item);
+        }
+        Map<Integer, List<ChecklistDetailResponseDTO>> checklistsByCard = new HashMap<>();
+        for (Checklist checklist : checklistRepository.findByBoardId(boardId)) {
+            checklistsByCard.computeIfAbsent(checklist.getCardId(), id -> new ArrayList<>())
+                    .add(ChecklistService.convertToDetailResponseDTO(checklist,
+                            itemsByChecklist.getOrDefault(checklist.getChecklistId(), List.of())));
+        }
+
+        List<CardResponse> cards = cardRepository.findByBoardId(boardId).stream()
+                .map(card -> {
+                    CardResponse response = CardServiceImpl.toResponse(card);
+                    response.setChecklists(checklistsByCard.getOrDefault(card.getCardId(), List.of()));
+                    return response;
+                })
+                .collect(Collectors.toList());
+
+        List<LabelsResponse> labels = labelsRepository.findByBoardId(boardId).stream()
+                .map(LabelsServiceImpl::mapToResponse)
+                .collect(Collectors.toList());
+
+        List<CardLabelsResponse> cardLabels = cardLabelsRepository.findByBoardId(boardId).stream()
+                .map(CardLabelsService::toResponseDto)
+                .collect(Collectors.toList());
+
+        return new BoardSnapshotResponse(BoardService.toResponse(board), lists, cards, labels, cardLabels);
+    }
+}
@@ -1,15 +1,15 @@
 package com.example.demo.service;
 
+import com.example.demo.cache.BoardVersionRegistry;
 import com.example.demo.dto.request.CardLabelsRequest;
 import com.example.demo.dto.response.CardLabelsResponse;
 import com.example.demo.model.card_labels.Card_Labels;
 import com.example.demo.repository.CardLabelsRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.Authentication;
-import com.example.demo.repository.MemberRepository;
-import com.example.demo.model.members.Member;
+import org.springframework.transaction.annotation.Transactional;
+import com.example.demo.security.BoardAncestryCache;
+import com.example.demo.security.NodoraPrincipal;
 
 import java.util.List;
 import java.util.Optional;
@@ -21,20 +21,24 @@ public class CardLabelsService {
     private CardLabelsRepository cardLabelsRepository;
 
     @Autowired
-    private MemberRepository memberRepository; // MemberRepository'i ekledik
+    private BoardAncestryCache boardAncestryCache;
+
+    @Autowired
+    private BoardVersionRegistry boardVersionRegistry;
 
     // Tüm card label'ları getir
     public List<CardLabelsResponse> getAllCardLabels() {
-        return cardLabelsRepository.findAll().stream().map(this::toResponseDto).collect(Collectors.toList());
+        return cardLabelsRepository.findAll().stream().map(CardLabelsService::toResponseDto).collect(Collectors.toList());
     }
 
     // ID'ye göre card label getir
     public CardLabelsResponse getCardLabelById(Integer id) {
         Optional<Card_Labels> cardLabel = cardLabelsRepository.findById(id);
-        return cardLabel.map(this::toResponseDto).orElse(null);
+        return cardLabel.map(CardLabelsService::toResponseDto).orElse(null);
     }
 
     // Yeni card label oluştur
+    @Transactional
     public CardLabelsResponse createCardLabel(CardLabelsRequest dto) {
         Card_Labels entity = new Card_Labels();
         entity.setCardId(dto.getCardId());
@@ -46,32 +50,39 @@ public class CardLabelsService {
         entity.setMemberId(memberId);
 
         Card_Labels saved = cardLabelsRepository.save(entity);
+        boardVersionRegistry.bumpForCard(saved.getCardId());
         return toResponseDto(saved);
     }
 
     // Card label güncelle
+    @Transactional
     public CardLabelsResponse updateCardLabel(Integer id, CardLabelsRequest dto) {
         Optional<Card_Labels> optional = cardLabelsRepository.findById(id);
         if (optional.isPresent()) {
             Card_Labels entity = optional.get();
             entity.setCardLabelName(dto.getCardLabelName());
             Card_Labels updated = cardLabelsRepository.save(entity);
+            boardVersionRegistry.bumpForCard(updated.getCardId());
             return toResponseDto(updated);
         }
         return null;
     }
 
     // Card label sil
+    @Transactional
     public boolean deleteCardLabel(Integer id) {
-        if (cardLabelsRepository.existsById(id)) {
-            cardLabelsRepository.deleteById(id);
+        Optional<Card_Labels> optional = cardLabelsRepository.findById(id);
+        if (optional.isPresent()) {
+            boardVersionRegistry.bumpForCard(optional.get().getCardId());
+            cardLabelsRepository.delete(optional.get());
+            boardAncestryCache.evictCardLabel(id);
             return true;
         }
         return false;
     }
 
     // Entity'den Response DTO'ya dönüşüm
-    private CardLabelsResponse toResponseDto(Card_Labels entity) {
+    static CardLabelsResponse toResponseDto(Card_Labels entity) {
         CardLabelsResponse dto = new CardLabelsResponse();
         dto.setCardLabelId(entity.getCardLabelId());
         dto.setCardId(entity.getCardId());
@@ -83,10 +94,8 @@ public class CardLabelsService {
 
     // Yardımcı metot: Güvenlik bağlamından üye ID'sini alır.
     private Integer getCurrentMemberId() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        Member member = memberRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("Kullanıcı bulunamadı"));
-        return member.getMemberId();
+        return NodoraPrincipal.current()
+                .map(NodoraPrincipal::getMemberId)
+                .orElseThrow(() -> new RuntimeException("Kullanıcı oturum açmamış veya kimlik doğrulama bilgisi eksik!"));
     }
 }
\ No newline at end of file
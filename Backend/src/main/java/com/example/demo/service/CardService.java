@@ -15,6 +15,9 @@ public interface CardService {
     // Bir listeye ait kartları dönecek
     List<CardResponse> getCardsByListId(Integer listId);
 
+    // Verilen ID'lere ait kartları istenen sırayla dönecek; bulunamayan ID'ler atlanır
+    List<CardResponse> getCardsByIds(List<Integer> ids);
+
     // Controller'dan DTO alıp DTO dönecek.
     CardResponse updateCard(Integer id, CardRequest request);
 
@@ -1,21 +1,25 @@
 package com.example.demo.service;
 
+import com.example.demo.cache.BoardVersionRegistry;
 import com.example.demo.dto.request.CardRequest;
 import com.example.demo.dto.response.CardResponse;
 import com.example.demo.dto.response.ChecklistDetailResponseDTO;
 import com.example.demo.exception.ResourceNotFoundException;
 import com.example.demo.model.cards.Card;
-import com.example.demo.model.members.Member;
+import com.example.demo.model.lists.Lists;
 import com.example.demo.repository.CardRepository;
 import com.example.demo.repository.ListsRepository;
-import com.example.demo.repository.MemberRepository;
+import com.example.demo.security.BoardAncestryCache;
+import com.example.demo.security.NodoraPrincipal;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,13 +28,14 @@ public class CardServiceImpl implements CardService {
 
     private final CardRepository cardRepository;
     private final ListsRepository listsRepository;
-    private final MemberRepository memberRepository;
     private final ChecklistService checklistService;
+    private final BoardAncestryCache boardAncestryCache;
+    private final BoardVersionRegistry boardVersionRegistry;
 
     @Override
     @Transactional
     public CardResponse createCard(CardRequest request) {
-        listsRepository.findById(request.getListId())
+        Lists list = listsRepository.findById(request.getListId())
                 .orElseThrow(() -> new ResourceNotFoundException("Liste bulunamadı"));
 
         Card card = new Card();
@@ -42,6 +47,7 @@ public class CardServiceImpl implements CardService {
         card.setMemberId(getCurrentMemberId());
 
         Card savedCard = cardRepository.save(card);
+        boardVersionRegistry.bump(list.getBoardId());
         return toResponse(savedCard);
     }
 
@@ -61,26 +67,46 @@ public class CardServiceImpl implements CardService {
 
         List<Card> cards = cardRepository.findByListIdOrderByPosition(listId);
 
+        // Checklist'ler ve item'ları tüm kartlar için toplu yüklenir (kart başına sorgu yapılmaz)
+        Map<Integer, List<ChecklistDetailResponseDTO>> checklistsByCard = checklistService.getChecklistsWithItemsByCardIds(
+                cards.stream().map(Card::getCardId).collect(Collectors.toList()));
+
         return cards.stream().map(card -> {
             CardResponse response = toResponse(card);
-
-            // Checklist'leri item'larıyla birlikte çekme
-            List<ChecklistDetailResponseDTO> checklistsWithItems = checklistService.getChecklistsWithItemsByCardId(card.getCardId());
-            response.setChecklists(checklistsWithItems);
-
+            response.setChecklists(checklistsByCard.getOrDefault(card.getCardId(), List.of()));
             return response;
         }).collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<CardResponse> getCardsByIds(List<Integer> ids) {
+        Map<Integer, Card> cardsById = cardRepository.findAllById(new LinkedHashSet<>(ids)).stream()
+                .collect(Collectors.toMap(Card::getCardId, Function.identity()));
+
+        return ids.stream()
+                .distinct()
+                .map(cardsById::get)
+                .filter(Objects::nonNull)
+                .map(CardServiceImpl::toResponse)
+                .collect(Collectors.toList());
+    }
+
     @Override
     @Transactional
     public CardResponse updateCard(Integer id, CardRequest request) {
         Card card = cardRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Kart bulunamadı"));
 
-        listsRepository.findById(request.getListId())
+        Lists list = listsRepository.findById(request.getListId())
                 .orElseThrow(() -> new ResourceNotFoundException("Liste bulunamadı"));
 
+        // Kart başka bir listeye taşınıyorsa eski listenin board'u da değişmiş olur
+        if (!list.getListId().equals(card.getListId())) {
+            boardVersionRegistry.bumpForList(card.getListId());
+        }
+        boardVersionRegistry.bump(list.getBoardId());
+
         card.setTitle(request.getTitle());
         card.setDescription(request.getDescription());
         card.setEndingDate(request.getEndingDate());
@@ -88,6 +114,8 @@ public class CardServiceImpl implements CardService {
         card.setPosition(request.getPosition());
 
         Card updatedCard = cardRepository.save(card);
+        // Kart başka bir listeye taşınmış olabilir
+        boardAncestryCache.evictCard(id);
         return toResponse(updatedCard);
     }
 
@@ -97,10 +125,12 @@ public class CardServiceImpl implements CardService {
         if (!cardRepository.existsById(id)) {
             throw new ResourceNotFoundException("Kart bulunamadı");
         }
+        boardVersionRegistry.bumpForCard(id);
         cardRepository.deleteById(id);
+        boardAncestryCache.evictCard(id);
     }
 
-    private CardResponse toResponse(Card card) {
+    static CardResponse toResponse(Card card) {
         CardResponse response = new CardResponse();
         response.setCardId(card.getCardId());
         response.setTitle(card.getTitle());
@@ -113,10 +143,8 @@ public class CardServiceImpl implements CardService {
     }
 
     private Integer getCurrentMemberId() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        Member member = memberRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("Kullanıcı bulunamadı"));
-        return member.getMemberId();
+        return NodoraPrincipal.current()
+                .map(NodoraPrincipal::getMemberId)
+                .orElseThrow(() -> new RuntimeException("Kullanıcı oturum açmamış veya kimlik doğrulama bilgisi eksik!"));
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.example.demo.service;
 
+import com.example.demo.cache.BoardVersionRegistry;
 import com.example.demo.dto.request.ChecklistItemRequestDTO;
 import com.example.demo.dto.response.ChecklistItemResponseDTO;
 import com.example.demo.exception.EntityNotFoundException;
@@ -19,12 +20,15 @@ public class ChecklistItemService {
 
     private final ChecklistItemRepository checklistItemRepository;
     private final ChecklistRepository checklistRepository;
+    private final BoardVersionRegistry boardVersionRegistry;
 
     @Autowired
     public ChecklistItemService(ChecklistItemRepository checklistItemRepository,
-                                ChecklistRepository checklistRepository) {
+                                ChecklistRepository checklistRepository,
+                                BoardVersionRegistry boardVersionRegistry) {
         this.checklistItemRepository = checklistItemRepository;
         this.checklistRepository = checklistRepository;
+        this.boardVersionRegistry = boardVersionRegistry;
     }
 
     public ChecklistItemResponseDTO createItem(ChecklistItemRequestDTO requestDTO) {
@@ -45,6 +49,7 @@ public class ChecklistItemService {
         item.setPosition(position);
 
         ChecklistItems savedItem = checklistItemRepository.save(item);
+        boardVersionRegistry.bumpForChecklist(savedItem.getChecklistId());
         return convertToResponseDTO(savedItem);
     }
 
@@ -73,6 +78,10 @@ public class ChecklistItemService {
             throw new EntityNotFoundException("Checklist", requestDTO.getChecklistId());
         }
 
+        // Item başka bir checklist'e taşınıyorsa eski checklist'in board'u da değişmiş olur
+        if (!item.getChecklistId().equals(requestDTO.getChecklistId())) {
+            boardVersionRegistry.bumpForChecklist(item.getChecklistId());
+        }
         item.setChecklistId(requestDTO.getChecklistId());
         item.setText(requestDTO.getText());
         item.setIsCompleted(requestDTO.getIsCompleted());
@@ -81,6 +90,7 @@ public class ChecklistItemService {
             item.setPosition(requestDTO.getPosition());
         }
         ChecklistItems updatedItem = checklistItemRepository.save(item);
+        boardVersionRegistry.bumpForChecklist(updatedItem.getChecklistId());
         return convertToResponseDTO(updatedItem);
     }
 
@@ -96,6 +106,7 @@ public class ChecklistItemService {
 
         ChecklistItems updatedItem = checklistItemRepository.findById(itemId)
                 .orElseThrow(() -> new EntityNotFoundException("ChecklistItem", itemId));
+        boardVersionRegistry.bumpForChecklist(updatedItem.getChecklistId());
         return convertToResponseDTO(updatedItem);
     }
 
@@ -110,6 +121,7 @@ public class ChecklistItemService {
                 .orElseThrow(() -> new EntityNotFoundException("ChecklistItem", itemId));
         item.setText(newText.trim());
         ChecklistItems updatedItem = checklistItemRepository.save(item);
+        boardVersionRegistry.bumpForChecklist(updatedItem.getChecklistId());
         return convertToResponseDTO(updatedItem);
     }
 
@@ -118,14 +130,15 @@ public class ChecklistItemService {
                 .orElseThrow(() -> new EntityNotFoundException("ChecklistItem", itemId));
         item.setPosition(newPosition);
         ChecklistItems updatedItem = checklistItemRepository.save(item);
+        boardVersionRegistry.bumpForChecklist(updatedItem.getChecklistId());
         return convertToResponseDTO(updatedItem);
     }
 
     public void deleteItem(Integer itemId) {
-        if (!checklistItemRepository.existsById(itemId)) {
-            throw new EntityNotFoundException("ChecklistItem", itemId);
-        }
-        checklistItemRepository.deleteById(itemId);
+        ChecklistItems item = checklistItemRepository.findById(itemId)
+                .orElseThrow(() -> new EntityNotFoundException("ChecklistItem", itemId));
+        boardVersionRegistry.bumpForChecklist(item.getChecklistId());
+        checklistItemRepository.delete(item);
     }
 
     private ChecklistItemResponseDTO convertToResponseDTO(ChecklistItems item) {
@@ -1,5 +1,6 @@
 package com.example.demo.service;
 
+import com.example.demo.cache.BoardVersionRegistry;
 import com.example.demo.dto.request.ChecklistRequestDTO;
 import com.example.demo.dto.response.ChecklistResponseDTO;
 import com.example.demo.dto.response.ChecklistDetailResponseDTO;
@@ -10,11 +11,19 @@ import com.example.demo.model.checklist.Checklist;
 import com.example.demo.model.checklist_items.ChecklistItems;
 import com.example.demo.repository.ChecklistRepository;
 import com.example.demo.repository.ChecklistItemRepository;
+import com.example.demo.security.BoardAncestryCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,12 +32,18 @@ public class ChecklistService {
 
     private final ChecklistRepository checklistRepository;
     private final ChecklistItemRepository checklistItemRepository;
+    private final BoardAncestryCache boardAncestryCache;
+    private final BoardVersionRegistry boardVersionRegistry;
 
     @Autowired
     public ChecklistService(ChecklistRepository checklistRepository,
-                            ChecklistItemRepository checklistItemRepository) {
+                            ChecklistItemRepository checklistItemRepository,
+                            BoardAncestryCache boardAncestryCache,
+                            BoardVersionRegistry boardVersionRegistry) {
         this.checklistRepository = checklistRepository;
         this.checklistItemRepository = checklistItemRepository;
+        this.boardAncestryCache = boardAncestryCache;
+        this.boardVersionRegistry = boardVersionRegistry;
     }
 
     /**
@@ -50,6 +65,7 @@ public class ChecklistService {
         checklist.setPosition(position);
 
         Checklist savedChecklist = checklistRepository.save(checklist);
+        boardVersionRegistry.bumpForCard(savedChecklist.getCardId());
         return convertToResponseDTO(savedChecklist);
     }
 
@@ -78,19 +94,7 @@ public class ChecklistService {
                 .orElseThrow(() -> new EntityNotFoundException("Checklist", checklistId));
 
         List<ChecklistItems> items = checklistItemRepository.findByChecklistIdOrderByPositionAsc(checklistId);
-
-        ChecklistDetailResponseDTO detailDTO = new ChecklistDetailResponseDTO();
-        detailDTO.setChecklistId(checklist.getChecklistId());
-        detailDTO.setTitle(checklist.getTitle());
-        detailDTO.setCardId(checklist.getCardId());
-        detailDTO.setPosition(checklist.getPosition());
-
-        List<ChecklistItemResponseDTO> itemDTOs = items.stream()
-                .map(this::convertItemToResponseDTO)
-                .collect(Collectors.toList());
-        detailDTO.setItems(itemDTOs);
-
-        return detailDTO;
+        return convertToDetailResponseDTO(checklist, items);
     }
 
     /**
@@ -100,9 +104,57 @@ public class ChecklistService {
      */
     @Transactional(readOnly = true)
     public List<ChecklistDetailResponseDTO> getChecklistsWithItemsByCardId(Integer cardId) {
-        List<Checklist> checklists = checklistRepository.findByCardIdOrderByPositionAsc(cardId);
-        return checklists.stream()
-                .map(this::convertToDetailResponseDTO)
+        return getChecklistsWithItemsByCardIds(List.of(cardId)).getOrDefault(cardId, List.of());
+    }
+
+    /**
+     * Verilen kartların checklist'lerini item'larıyla birlikte, kart sayısından bağımsız olarak
+     * en fazla iki sorguda getirir: checklist'ler kart ID'leriyle, item'lar checklist ID'leriyle IN sorgusu ile.
+     * @param cardIds Checklist'leri çekilecek kartların ID'leri.
+     * @return Kart ID'sine göre position sıralı checklist'ler. Checklist'i olmayan kartlar map'te yer almaz.
+     */
+    @Transactional(readOnly = true)
+    public Map<Integer, List<ChecklistDetailResponseDTO>> getChecklistsWithItemsByCardIds(Collection<Integer> cardIds) {
+        Map<Integer, List<ChecklistDetailResponseDTO>> checklistsByCard = new HashMap<>();
+        if (cardIds.isEmpty()) {
+            return checklistsByCard;
+        }
+        List<Checklist> checklists = checklistRepository.findByCardIdInOrderByCardIdAscPositionAsc(new LinkedHashSet<>(cardIds));
+        if (checklists.isEmpty()) {
+            return checklistsByCard;
+        }
+
+        List<Integer> checklistIds = checklists.stream()
+                .map(Checklist::getChecklistId)
+                .collect(Collectors.toList());
+        Map<Integer, List<ChecklistItems>> itemsByChecklist = new HashMap<>();
+        for (ChecklistItems item : checklistItemRepository.findByChecklistIdInOrderByChecklistIdAscPositionAsc(checklistIds)) {
+            itemsByChecklist.computeIfAbsent(item.getChecklistId(), id -> new ArrayList<>()).add(item);
+        }
+
+        for (Checklist checklist : checklists) {
+            List<ChecklistItems> items = itemsByChecklist.getOrDefault(checklist.getChecklistId(), List.of());
+            checklistsByCard.computeIfAbsent(checklist.getCardId(), id -> new ArrayList<>())
+                    .add(convertToDetailResponseDTO(checklist, items));
+        }
+        return checklistsByCard;
+    }
+
+    /**
+     * Verilen ID'lere ait checklist'leri (item'sız) tek sorguda getirir.
+     * @param checklistIds Getirilecek checklist ID'leri.
+     * @return Checklist DTO'ları, istenen ID sırasıyla. Bulunamayan ID'ler atlanır.
+     */
+    @Transactional(readOnly = true)
+    public List<ChecklistResponseDTO> getChecklistsByIds(List<Integer> checklistIds) {
+        Map<Integer, Checklist> checklistsById = checklistRepository.findAllById(new LinkedHashSet<>(checklistIds)).stream()
+                .collect(Collectors.toMap(Checklist::getChecklistId, Function.identity()));
+
+        return checklistIds.stream()
+                .distinct()
+                .map(checklistsById::get)
+                .filter(Objects::nonNull)
+                .map(this::convertToResponseDTO)
                 .collect(Collectors.toList());
     }
 
@@ -130,6 +182,10 @@ public class ChecklistService {
         Checklist checklist = checklistRepository.findById(checklistId)
                 .orElseThrow(() -> new EntityNotFoundException("Checklist", checklistId));
 
+        // Checklist başka bir karta taşınıyorsa eski kartın board'u da değişmiş olur
+        if (!checklist.getCardId().equals(requestDTO.getCardId())) {
+            boardVersionRegistry.bumpForCard(checklist.getCardId());
+        }
         checklist.setTitle(requestDTO.getTitle());
         checklist.setCardId(requestDTO.getCardId());
 
@@ -138,6 +194,9 @@ public class ChecklistService {
         }
 
         Checklist updatedChecklist = checklistRepository.save(checklist);
+        boardVersionRegistry.bumpForCard(updatedChecklist.getCardId());
+        // cardId değişmiş olabilir
+        boardAncestryCache.evictChecklist(checklistId);
         return convertToResponseDTO(updatedChecklist);
     }
 
@@ -153,6 +212,7 @@ public class ChecklistService {
                 .orElseThrow(() -> new EntityNotFoundException("Checklist", checklistId));
         checklist.setPosition(newPosition);
         Checklist updatedChecklist = checklistRepository.save(checklist);
+        boardVersionRegistry.bumpForCard(updatedChecklist.getCardId());
         return convertToResponseDTO(updatedChecklist);
     }
 
@@ -165,8 +225,10 @@ public class ChecklistService {
         if (!checklistRepository.existsById(checklistId)) {
             throw new EntityNotFoundException("Checklist", checklistId);
         }
+        boardVersionRegistry.bumpForChecklist(checklistId);
         checklistItemRepository.deleteByChecklistId(checklistId);
         checklistRepository.deleteById(checklistId);
+        boardAncestryCache.evictChecklist(checklistId);
     }
 
     /**
@@ -196,17 +258,17 @@ public class ChecklistService {
             throw new EntityNotFoundException("Checklist", checklistId);
         }
         checklistItemRepository.deleteByChecklistIdAndIsCompletedTrue(checklistId);
+        boardVersionRegistry.bumpForChecklist(checklistId);
     }
 
     /**
      * Checklist nesnesini item'ları ile birlikte DTO'ya dönüştürür.
-     * Bu, CardService'de kullanılmak üzere detaylı bir dönüşüm sağlar.
+     * Item'lar önceden yüklenmiş olmalıdır; bu metot sorgu çalıştırmaz.
      * @param checklist Dönüştürülecek checklist nesnesi.
+     * @param items Checklist'e ait, position sıralı item'lar.
      * @return Item'ları da içeren detaylı checklist DTO'su.
      */
-    private ChecklistDetailResponseDTO convertToDetailResponseDTO(Checklist checklist) {
-        List<ChecklistItems> items = checklistItemRepository.findByChecklistIdOrderByPositionAsc(checklist.getChecklistId());
-
+    static ChecklistDetailResponseDTO convertToDetailResponseDTO(Checklist checklist, List<ChecklistItems> items) {
         ChecklistDetailResponseDTO detailDTO = new ChecklistDetailResponseDTO();
         detailDTO.setChecklistId(checklist.getChecklistId());
         detailDTO.setTitle(checklist.getTitle());
@@ -214,7 +276,7 @@ public class ChecklistService {
         detailDTO.setPosition(checklist.getPosition());
 
         List<ChecklistItemResponseDTO> itemDTOs = items.stream()
-                .map(this::convertItemToResponseDTO)
+                .map(ChecklistService::convertItemToResponseDTO)
                 .collect(Collectors.toList());
         detailDTO.setItems(itemDTOs);
 
@@ -240,7 +302,7 @@ public class ChecklistService {
      * @param item Dönüştürülecek item nesnesi.
      * @return Checklist item DTO'su.
      */
-    private ChecklistItemResponseDTO convertItemToResponseDTO(ChecklistItems item) {
+    static ChecklistItemResponseDTO convertItemToResponseDTO(ChecklistItems item) {
         ChecklistItemResponseDTO dto = new ChecklistItemResponseDTO();
         dto.setChecklistItemsId(item.getChecklistItemsId());
         dto.setChecklistId(item.getChecklistId());
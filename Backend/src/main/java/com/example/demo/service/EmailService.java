@@ -1,5 +1,6 @@
 package com.example.demo.service;
 
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.SimpleMailMessage;
@@ -12,6 +13,7 @@ import org.springframework.stereotype.Service;
  * Gmail API yerine SMTP kullanır - daha basit ve sorunsuz.
  */
 @Service
+@Slf4j
 public class EmailService {
 
     @Autowired
@@ -29,10 +31,7 @@ public class EmailService {
      */
     public void sendEmail(String toEmail, String subject, String bodyText) throws Exception {
         try {
-            System.out.println("📧 Outlook SMTP ile e-posta gönderiliyor...");
-            System.out.println("   From: " + fromEmail + " (Outlook)");
-            System.out.println("   To: " + toEmail);
-            System.out.println("   Subject: " + subject);
+            log.info("📧 Outlook SMTP ile e-posta gönderiliyor. From: {}, To: {}, Subject: {}", fromEmail, toEmail, subject);
             
             // SimpleMailMessage oluştur
             SimpleMailMessage message = new SimpleMailMessage();
@@ -40,18 +39,17 @@ public class EmailService {
             message.setTo(toEmail);
             message.setSubject(subject);
             message.setText(bodyText);
-            
-            System.out.println("🚀 Outlook SMTP'ye gönderim talebi yapılıyor...");
-            
+
+            log.debug("🚀 Outlook SMTP'ye gönderim talebi yapılıyor...");
+
             // E-postayı gönder
             mailSender.send(message);
             
-            System.out.println("✅ Outlook SMTP ile e-posta başarıyla gönderildi: " + toEmail);
-            
+            log.info("✅ Outlook SMTP ile e-posta başarıyla gönderildi: {}", toEmail);
+
         } catch (Exception e) {
-            System.err.println("❌ Outlook SMTP e-posta gönderim hatası: " + e.getMessage());
-            System.err.println("❌ Hata türü: " + e.getClass().getSimpleName());
-            e.printStackTrace();
+            // Stack trace hatayı yakalayan katmanda (LoggingAspect) basılır
+            log.error("❌ Outlook SMTP e-posta gönderim hatası ({}): {}", e.getClass().getSimpleName(), e.getMessage());
             throw e;
         }
     }
@@ -62,19 +60,19 @@ public class EmailService {
     public boolean isAvailable() {
         try {
             if (mailSender == null) {
-                System.out.println("⚠️ JavaMailSender bulunamadı");
+                log.warn("⚠️ JavaMailSender bulunamadı");
                 return false;
             }
             
             if (fromEmail == null || fromEmail.trim().isEmpty()) {
-                System.out.println("⚠️ From email adresi bulunamadı");
+                log.warn("⚠️ From email adresi bulunamadı");
                 return false;
             }
             
-            System.out.println("✅ Outlook SMTP servisi hazır: " + fromEmail);
+            log.debug("✅ Outlook SMTP servisi hazır: {}", fromEmail);
             return true;
         } catch (Exception e) {
-            System.out.println("⚠️ Outlook SMTP servisi mevcut değil: " + e.getMessage());
+            log.warn("⚠️ Outlook SMTP servisi mevcut değil: {}", e.getMessage());
             return false;
         }
     }
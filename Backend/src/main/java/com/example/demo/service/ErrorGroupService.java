@@ -0,0 +1,60 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.response.ErrorGroupResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * error_groups tablosu üzerinden hata grubu sorguları (bkz. ErrorGroupRecorder).
+ */
+@Service
+@RequiredArgsConstructor
+public class ErrorGroupService {
+
+    /** Tek sorguda dönebilecek en fazla grup sayısı. */
+    public static final int MAX_LIMIT = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * since'ten sonra en az bir kez görülmüş grupları toplam tekrar sayısına göre azalan sırada döner.
+     * Liste yanıtında stack trace dönmez.
+     */
+    public List<ErrorGroupResponse> getTopGroups(OffsetDateTime since, int limit) {
+        return jdbcTemplate.query(
+                "SELECT fingerprint, exception_type, message, first_seen, last_seen, occurrence_count " +
+                "FROM error_groups WHERE last_seen >= ? ORDER BY occurrence_count DESC, last_seen DESC LIMIT ?",
+                (rs, rowNum) -> new ErrorGroupResponse(
+                        rs.getString("fingerprint"),
+                        rs.getString("exception_type"),
+                        rs.getString("message"),
+                        rs.getObject("first_seen", OffsetDateTime.class),
+                        rs.getObject("last_seen", OffsetDateTime.class),
+                        rs.getLong("occurrence_count"),
+                        null),
+                since, Math.max(1, Math.min(limit, MAX_LIMIT)));
+    }
+
+    /**
+     * Tek bir grubu tam stack trace ile döner.
+     */
+    public Optional<ErrorGroupResponse> getGroup(String fingerprint) {
+        return jdbcTemplate.query(
+                "SELECT fingerprint, exception_type, message, stack_trace, first_seen, last_seen, occurrence_count " +
+                "FROM error_groups WHERE fingerprint = ?",
+                (rs, rowNum) -> new ErrorGroupResponse(
+                        rs.getString("fingerprint"),
+                        rs.getString("exception_type"),
+                        rs.getString("message"),
+                        rs.getObject("first_seen", OffsetDateTime.class),
+                        rs.getObject("last_seen", OffsetDateTime.class),
+                        rs.getLong("occurrence_count"),
+                        rs.getString("stack_trace")),
+                fingerprint).stream().findFirst();
+    }
+}
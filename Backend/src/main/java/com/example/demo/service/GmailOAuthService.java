@@ -13,6 +13,7 @@ import com.google.api.client.util.store.FileDataStoreFactory;
 import com.google.api.services.gmail.Gmail;
 import com.google.api.services.gmail.GmailScopes;
 import com.google.api.services.gmail.model.Message;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -33,6 +34,7 @@ import java.util.Properties;
  * Kullanıcı authorization gerektirir - tarayıcıda Google'a giriş yapar.
  */
 @Service
+@Slf4j
 public class GmailOAuthService {
 
     private static final String APPLICATION_NAME = "Nodora Backend";
@@ -55,8 +57,7 @@ public class GmailOAuthService {
      */
     private Gmail getGmailService() throws IOException, GeneralSecurityException {
         if (gmailService == null) {
-            System.out.println("🔄 Gmail OAuth 2.0 servisi başlatılıyor...");
-            System.out.println("📁 Client ID: " + clientId.substring(0, 15) + "...");
+            log.info("🔄 Gmail OAuth 2.0 servisi başlatılıyor. Client ID: {}...", clientId.substring(0, 15));
 
             NetHttpTransport httpTransport = GoogleNetHttpTransport.newTrustedTransport();
 
@@ -74,14 +75,14 @@ public class GmailOAuthService {
             LocalServerReceiver receiver = new LocalServerReceiver.Builder().setPort(8888).build();
             Credential credential = new AuthorizationCodeInstalledApp(flow, receiver).authorize("user");
 
-            System.out.println("✅ OAuth 2.0 authorization tamamlandı!");
+            log.info("✅ OAuth 2.0 authorization tamamlandı!");
 
             // Gmail service oluştur
             gmailService = new Gmail.Builder(httpTransport, JSON_FACTORY, credential)
                     .setApplicationName(APPLICATION_NAME)
                     .build();
 
-            System.out.println("✅ Gmail OAuth servisi başarıyla oluşturuldu!");
+            log.info("✅ Gmail OAuth servisi başarıyla oluşturuldu!");
         }
         return gmailService;
     }
@@ -111,25 +112,20 @@ public class GmailOAuthService {
      */
     public void sendEmail(String toEmail, String subject, String bodyText, String fromEmail) throws Exception {
         try {
-            System.out.println("📧 Gmail OAuth 2.0 ile e-posta gönderiliyor...");
-            System.out.println("   From: " + fromEmail + " (OAuth User)");
-            System.out.println("   To: " + toEmail);
-            System.out.println("   Subject: " + subject);
+            log.info("📧 Gmail OAuth 2.0 ile e-posta gönderiliyor. From: {}, To: {}, Subject: {}", fromEmail, toEmail, subject);
 
             Gmail service = getGmailService();
             MimeMessage emailContent = createEmail(toEmail, fromEmail, subject, bodyText);
             Message message = createMessageWithEmail(emailContent);
 
-            System.out.println("🚀 Gmail API'ye gönderim talebi yapılıyor...");
+            log.debug("🚀 Gmail API'ye gönderim talebi yapılıyor...");
             Message result = service.users().messages().send("me", message).execute();
 
-            System.out.println("✅ Gmail API Response ID: " + result.getId());
-            System.out.println("✅ Gmail OAuth ile e-posta başarıyla gönderildi: " + toEmail);
+            log.info("✅ Gmail OAuth ile e-posta başarıyla gönderildi: {} (Gmail API Response ID: {})", toEmail, result.getId());
 
         } catch (Exception e) {
-            System.err.println("❌ Gmail OAuth e-posta gönderim hatası: " + e.getMessage());
-            System.err.println("❌ Hata türü: " + e.getClass().getSimpleName());
-            e.printStackTrace();
+            // Stack trace hatayı yakalayan katmanda (LoggingAspect) basılır
+            log.error("❌ Gmail OAuth e-posta gönderim hatası ({}): {}", e.getClass().getSimpleName(), e.getMessage());
             throw e;
         }
     }
@@ -171,19 +167,19 @@ public class GmailOAuthService {
     public boolean isAvailable() {
         try {
             if (clientId == null || clientId.trim().isEmpty()) {
-                System.out.println("⚠️ Gmail OAuth Client ID bulunamadı");
+                log.warn("⚠️ Gmail OAuth Client ID bulunamadı");
                 return false;
             }
 
             if (clientSecret == null || clientSecret.trim().isEmpty()) {
-                System.out.println("⚠️ Gmail OAuth Client Secret bulunamadı");
+                log.warn("⚠️ Gmail OAuth Client Secret bulunamadı");
                 return false;
             }
 
-            System.out.println("✅ Gmail OAuth konfigürasyonu mevcut");
+            log.debug("✅ Gmail OAuth konfigürasyonu mevcut");
             return true;
         } catch (Exception e) {
-            System.out.println("⚠️ Gmail OAuth mevcut değil: " + e.getMessage());
+            log.warn("⚠️ Gmail OAuth mevcut değil: {}", e.getMessage());
             return false;
         }
     }
@@ -61,9 +61,9 @@ public class GoogleAuthServiceImpl implements GoogleAuthService {
                 log.info("Yeni kullanıcı oluşturuldu: {}", email);
             }
 
-            // YENİ YAPI: JWT token'ı sadece email ile oluştur.
+            // JWT token'ı email (subject), memberId, admin bayrağı ve token epoch'u ile oluştur.
             // Rol, scope gibi bilgiler token içinde tutulmuyor.
-            String token = jwtUtil.generateToken(member.getEmail());
+            String token = jwtUtil.generateToken(member);
 
             log.info("Google OAuth başarılı: {}, Yeni kullanıcı: {}", email, isNewUser);
 
@@ -1,17 +1,16 @@
 package com.example.demo.service;
 
+import com.example.demo.cache.BoardVersionRegistry;
 import com.example.demo.dto.request.LabelsRequest;
 import com.example.demo.dto.response.LabelsResponse;
 import com.example.demo.exception.LabelNotFoundException;
 import com.example.demo.model.boards.Boards;
 import com.example.demo.model.labels.Labels;
-import com.example.demo.model.members.Member;
 import com.example.demo.repository.LabelsRepository;
 import com.example.demo.repository.BoardRepository;
-import com.example.demo.repository.MemberRepository;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.Authentication;
+import com.example.demo.security.NodoraPrincipal;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -21,17 +20,18 @@ public class LabelsServiceImpl implements LabelsService {
 
     private final LabelsRepository labelsRepository;
     private final BoardRepository boardsRepository;
-    private final MemberRepository memberRepository; // ❗ Yeni eklendi
+    private final BoardVersionRegistry boardVersionRegistry;
 
     public LabelsServiceImpl(LabelsRepository labelsRepository,
                              BoardRepository boardsRepository,
-                             MemberRepository memberRepository) {
+                             BoardVersionRegistry boardVersionRegistry) {
         this.labelsRepository = labelsRepository;
         this.boardsRepository = boardsRepository;
-        this.memberRepository = memberRepository;
+        this.boardVersionRegistry = boardVersionRegistry;
     }
 
     @Override
+    @Transactional
     public LabelsResponse createLabel(LabelsRequest request) {
         Boards board = boardsRepository.findById(request.getBoardId())
                 .orElseThrow(() -> new LabelNotFoundException("Board not found"));
@@ -45,6 +45,7 @@ public class LabelsServiceImpl implements LabelsService {
         label.setMemberId(getCurrentMemberId());
 
         Labels saved = labelsRepository.save(label);
+        boardVersionRegistry.bump(saved.getBoardId());
 
         return mapToResponse(saved);
     }
@@ -53,7 +54,7 @@ public class LabelsServiceImpl implements LabelsService {
     public List<LabelsResponse> getAllLabels() {
         return labelsRepository.findAll()
                 .stream()
-                .map(this::mapToResponse)
+                .map(LabelsServiceImpl::mapToResponse)
                 .collect(Collectors.toList());
     }
 
@@ -65,13 +66,15 @@ public class LabelsServiceImpl implements LabelsService {
     }
 
     @Override
+    @Transactional
     public void deleteLabel(Integer id) {
         Labels label = labelsRepository.findById(id)
                 .orElseThrow(() -> new LabelNotFoundException("Label not found"));
         labelsRepository.delete(label);
+        boardVersionRegistry.bump(label.getBoardId());
     }
 
-    private LabelsResponse mapToResponse(Labels label) {
+    static LabelsResponse mapToResponse(Labels label) {
         LabelsResponse response = new LabelsResponse();
         response.setLabelId(label.getLabelId());
         response.setBoardId(label.getBoardId());
@@ -84,10 +87,8 @@ public class LabelsServiceImpl implements LabelsService {
      * Güvenlik bağlamından (SecurityContextHolder) o anki kullanıcının ID'sini alır.
      */
     private Integer getCurrentMemberId() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        Member member = memberRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("Kullanıcı bulunamadı"));
-        return member.getMemberId();
+        return NodoraPrincipal.current()
+                .map(NodoraPrincipal::getMemberId)
+                .orElseThrow(() -> new RuntimeException("Kullanıcı oturum açmamış veya kimlik doğrulama bilgisi eksik!"));
     }
 }
\ No newline at end of file
@@ -1,15 +1,15 @@
 package com.example.demo.service;
 
+import com.example.demo.cache.BoardVersionRegistry;
 import com.example.demo.dto.request.ListsRequest;
 import com.example.demo.dto.response.ListsResponse;
 import com.example.demo.model.lists.Lists;
-import com.example.demo.model.members.Member;
 import com.example.demo.repository.ListsRepository;
-import com.example.demo.repository.MemberRepository;
+import com.example.demo.security.BoardAncestryCache;
+import com.example.demo.security.NodoraPrincipal;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -20,21 +20,23 @@ import java.util.stream.Collectors;
 public class ListsService {
 
     private final ListsRepository listsRepository;
-    private final MemberRepository memberRepository;
+    private final BoardAncestryCache boardAncestryCache;
+    private final BoardVersionRegistry boardVersionRegistry;
 
     // BoardId'ye göre listeleri getirir
     public List<ListsResponse> getListsByBoardId(Integer boardId) {
         List<Lists> lists = listsRepository.findByBoardIdOrderByPosition(boardId);
-        return lists.stream().map(this::toResponseDto).collect(Collectors.toList());
+        return lists.stream().map(ListsService::toResponseDto).collect(Collectors.toList());
     }
 
     // ID'ye göre bir listeyi getirir (response DTO)
     public ListsResponse getListById(Integer id) { // Metot adı düzeltildi
         Optional<Lists> optional = listsRepository.findById(id);
-        return optional.map(this::toResponseDto).orElse(null);
+        return optional.map(ListsService::toResponseDto).orElse(null);
     }
 
     // Yeni bir liste oluşturur
+    @Transactional
     public ListsResponse createList(ListsRequest listsRequest) { // Metot adı düzeltildi
         Lists lists = new Lists();
         lists.setTitle(listsRequest.getTitle());
@@ -43,10 +45,12 @@ public class ListsService {
         lists.setMemberId(getCurrentMemberId());
 
         Lists saved = listsRepository.save(lists);
+        boardVersionRegistry.bump(saved.getBoardId());
         return toResponseDto(saved);
     }
 
     // Var olan bir listeyi günceller
+    @Transactional
     public ListsResponse updateList(Integer id, ListsRequest listsRequest) { // Metot adı düzeltildi
         Optional<Lists> optional = listsRepository.findById(id);
         if (optional.isPresent()) {
@@ -58,6 +62,7 @@ public class ListsService {
             existing.setMemberId(getCurrentMemberId());
 
             Lists updated = listsRepository.save(existing);
+            boardVersionRegistry.bump(updated.getBoardId());
             return toResponseDto(updated);
         } else {
             return null;
@@ -65,9 +70,12 @@ public class ListsService {
     }
 
     // Belirli bir listeyi siler
+    @Transactional
     public boolean deleteList(Integer id) {
         if (listsRepository.existsById(id)) {
+            boardVersionRegistry.bumpForList(id);
             listsRepository.deleteById(id);
+            boardAncestryCache.evictList(id);
             return true;
         } else {
             return false;
@@ -75,7 +83,7 @@ public class ListsService {
     }
 
     // Entity'den Response DTO'ya dönüşüm
-    private ListsResponse toResponseDto(Lists entity) {
+    static ListsResponse toResponseDto(Lists entity) {
         ListsResponse dto = new ListsResponse();
         dto.setListId(entity.getListId()); // Alan adı düzeltildi
         dto.setTitle(entity.getTitle());
@@ -87,10 +95,8 @@ public class ListsService {
 
     // Yardımcı metot: Güvenlik bağlamından üye ID'sini alır.
     private Integer getCurrentMemberId() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        Member member = memberRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("Kullanıcı bulunamadı"));
-        return member.getMemberId();
+        return NodoraPrincipal.current()
+                .map(NodoraPrincipal::getMemberId)
+                .orElseThrow(() -> new RuntimeException("Kullanıcı oturum açmamış veya kimlik doğrulama bilgisi eksik!"));
     }
 }
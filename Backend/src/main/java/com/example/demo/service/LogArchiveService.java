@@ -0,0 +1,295 @@
+package com.example.demo.service;
+
+import com.example.demo.archive.LogSegment;
+import com.example.demo.archive.LogSegmentWriter;
+import com.example.demo.dto.request.LogSearchRequest;
+import com.example.demo.dto.response.LogResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Eski log partition'larını yerel diskte sıkıştırılmış, indeksli segment dosyalarına taşıyan ve
+ * bu segmentler üzerinde arama yapan servis.
+ *
+ * Her partition tek bir segment olur (ör. logs_p20250101.seg + logs_p20250101.idx). Segment
+ * yazıldıktan ve diske senkronlandıktan sonra partition LogPartitionManager tarafından silinir;
+ * böylece sıcak tablo yalnızca son archive.after-days günü tutar. Segmentler archive.retention-days
+ * günden eski olunca silinir. LogsService, sıcak tablodaki sonuçlar sayfayı doldurmadığında aramaya
+ * buradan devam eder.
+ */
+@Service
+@Slf4j
+public class LogArchiveService {
+
+    private static final String DATA_SUFFIX = ".seg";
+    private static final String INDEX_SUFFIX = ".idx";
+    private static final String TMP_SUFFIX = ".tmp";
+    private static final Pattern PARTITION_NAME = Pattern.compile("logs_[a-z0-9_]+");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Path directory;
+    private final int afterDays;
+    private final int retentionDays;
+    private final int blockRows;
+    private final int fetchSize;
+
+    // En yeni segment başta; yalnızca kopyala-değiştir ile güncellenir
+    private volatile List<LogSegment> segments = List.of();
+
+    public LogArchiveService(JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             ObjectMapper objectMapper,
+                             @Value("${nodora.logs.archive.enabled:false}") boolean enabled,
+                             @Value("${nodora.logs.archive.dir:log-archive}") String directory,
+                             @Value("${nodora.logs.archive.after-days:7}") int afterDays,
+                             @Value("${nodora.logs.archive.retention-days:365}") int retentionDays,
+                             @Value("${nodora.logs.archive.block-rows:1024}") int blockRows,
+                             @Value("${nodora.logs.export.fetch-size:1000}") int fetchSize) {
+        if (afterDays <= 0 || retentionDays < afterDays || blockRows <= 0 || fetchSize <= 0) {
+            throw new IllegalArgumentException("Log arşiv ayarları geçersiz: after-days pozitif, retention-days >= after-days olmalıdır.");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.directory = Paths.get(directory);
+        this.afterDays = afterDays;
+        this.retentionDays = retentionDays;
+        this.blockRows = blockRows;
+        this.fetchSize = fetchSize;
+    }
+
+    @PostConstruct
+    public void init() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        Files.createDirectories(directory);
+        List<LogSegment> loaded = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                if (fileName.endsWith(TMP_SUFFIX)) {
+                    Files.deleteIfExists(file); // yarıda kalmış arşivleme
+                } else if (fileName.endsWith(INDEX_SUFFIX)) {
+                    String name = fileName.substring(0, fileName.length() - INDEX_SUFFIX.length());
+                    loaded.add(new LogSegment(name, dataFile(name), file));
+                }
+            }
+        }
+        loaded.sort(Comparator.comparing(LogSegment::getMaxTimestamp).reversed());
+        segments = List.copyOf(loaded);
+        log.info("Log arşivi yüklendi. Dizin: {}, segment: {}", directory.toAbsolutePath(), loaded.size());
+    }
+
+    @PreDestroy
+    public void close() {
+        for (LogSegment segment : segments) {
+            closeQuietly(segment);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getAfterDays() {
+        return afterDays;
+    }
+
+    /**
+     * Bu andan eski kayıtlar arşive taşınmış olabilir; daha yeni kayıtların tamamı sıcak tablodadır.
+     * LogPartitionManager'ın arşivleme sınırıyla (after-days gün önceki UTC gün başlangıcı) aynıdır.
+     */
+    public OffsetDateTime getHotHorizon() {
+        return LocalDate.now(ZoneOffset.UTC).minusDays(afterDays).atStartOfDay().atOffset(ZoneOffset.UTC);
+    }
+
+    public boolean hasSegment(String partitionName) {
+        return segments.stream().anyMatch(s -> s.getName().equals(partitionName));
+    }
+
+    /**
+     * Partition'daki tüm kayıtları yeni bir segmente yazar. Segment zaten varsa tekrar yazılmaz.
+     *
+     * @return Segment diskte tamamlanmışsa true; partition ancak bu durumda silinmelidir
+     */
+    public synchronized boolean archivePartition(String partitionName) {
+        if (!enabled || !PARTITION_NAME.matcher(partitionName).matches()) {
+            return false;
+        }
+        if (hasSegment(partitionName)) {
+            return true;
+        }
+        Path dataTmp = directory.resolve(partitionName + DATA_SUFFIX + TMP_SUFFIX);
+        Path indexTmp = directory.resolve(partitionName + INDEX_SUFFIX + TMP_SUFFIX);
+        long start = System.nanoTime();
+        try {
+            Files.deleteIfExists(dataTmp);
+            Files.deleteIfExists(indexTmp);
+            long rows;
+            try (LogSegmentWriter writer = new LogSegmentWriter(dataTmp, indexTmp, objectMapper, blockRows)) {
+                readOnlyTransaction.executeWithoutResult(status -> streamPartition(partitionName, writer));
+                writer.finish();
+                rows = writer.getRowCount();
+            }
+            // İndeks en son taşınır; indeksi olan segment tamamlanmış kabul edilir
+            Files.move(dataTmp, dataFile(partitionName), StandardCopyOption.ATOMIC_MOVE);
+            Files.move(indexTmp, indexFile(partitionName), StandardCopyOption.ATOMIC_MOVE);
+
+            LogSegment segment = new LogSegment(partitionName, dataFile(partitionName), indexFile(partitionName));
+            List<LogSegment> updated = new ArrayList<>(segments);
+            updated.add(segment);
+            updated.sort(Comparator.comparing(LogSegment::getMaxTimestamp).reversed());
+            segments = List.copyOf(updated);
+            log.info("Log partition'ı arşivlendi: {}, satır: {}, boyut: {} bayt, süre: {}ms", partitionName, rows,
+                    Files.size(segment.getDataFile()), (System.nanoTime() - start) / 1_000_000);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.error("Log partition'ı arşivlenemedi: {}, hata: {}", partitionName, e.getMessage());
+            try {
+                Files.deleteIfExists(dataTmp);
+                Files.deleteIfExists(indexTmp);
+            } catch (IOException ignored) {
+                // bir sonraki başlangıçta temizlenir
+            }
+            return false;
+        }
+    }
+
+    private void streamPartition(String partitionName, LogSegmentWriter writer) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(
+                    "SELECT id, log_level, message, timestamp, source, exception, additional_data::text AS additional_data, " +
+                    "member_id, ip_address, request_path, error_fingerprint FROM " + partitionName + " ORDER BY timestamp, id",
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            return ps;
+        }, rs -> {
+            try {
+                writer.append(toResponse(rs));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private LogResponse toResponse(ResultSet rs) throws SQLException, IOException {
+        String additionalData = rs.getString("additional_data");
+        int memberId = rs.getInt("member_id");
+        Integer member = rs.wasNull() ? null : memberId;
+        LogResponse response = new LogResponse(
+                rs.getLong("id"),
+                additionalData != null ? objectMapper.readValue(additionalData, new TypeReference<Map<String, Object>>() {}) : null,
+                rs.getString("exception"),
+                rs.getString("ip_address"),
+                rs.getString("log_level"),
+                member,
+                rs.getString("message"),
+                rs.getString("request_path"),
+                rs.getString("source"),
+                rs.getObject("timestamp", OffsetDateTime.class));
+        response.setErrorFingerprint(rs.getString("error_fingerprint"));
+        return response;
+    }
+
+    /**
+     * Arşivlenmiş kayıtlar arasında, en yeni segmentten başlayarak (timestamp, id) azalan sırada arar.
+     */
+    public List<LogResponse> search(LogSearchRequest filter, OffsetDateTime beforeTimestamp, Long beforeId, int limit) {
+        List<LogResponse> result = new ArrayList<>();
+        if (!enabled) {
+            return result;
+        }
+        for (LogSegment segment : segments) {
+            if (result.size() >= limit) {
+                break;
+            }
+            if (segment.getRowCount() == 0 || (filter.getFrom() != null && segment.getMaxTimestamp().isBefore(filter.getFrom()))) {
+                continue;
+            }
+            try {
+                result.addAll(segment.searchDescending(filter, beforeTimestamp, beforeId, limit - result.size(), objectMapper));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Arşiv segmenti okunamadı: " + segment.getName(), e);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * retention-days günden eski segmentleri siler.
+     */
+    public synchronized void deleteExpired() {
+        if (!enabled) {
+            return;
+        }
+        OffsetDateTime cutoff = OffsetDateTime.now(ZoneOffset.UTC).minusDays(retentionDays);
+        List<LogSegment> kept = new ArrayList<>();
+        List<LogSegment> expired = new ArrayList<>();
+        for (LogSegment segment : segments) {
+            (segment.getMaxTimestamp().isBefore(cutoff) ? expired : kept).add(segment);
+        }
+        if (expired.isEmpty()) {
+            return;
+        }
+        segments = List.copyOf(kept);
+        for (LogSegment segment : expired) {
+            closeQuietly(segment);
+            try {
+                Files.deleteIfExists(segment.getIndexFile());
+                Files.deleteIfExists(segment.getDataFile());
+                log.info("Saklama süresi dolan log arşiv segmenti silindi: {}", segment.getName());
+            } catch (IOException e) {
+                log.error("Log arşiv segmenti silinemedi: {}, hata: {}", segment.getName(), e.getMessage());
+            }
+        }
+    }
+
+    private Path dataFile(String name) {
+        return directory.resolve(name + DATA_SUFFIX);
+    }
+
+    private Path indexFile(String name) {
+        return directory.resolve(name + INDEX_SUFFIX);
+    }
+
+    private static void closeQuietly(LogSegment segment) {
+        try {
+            segment.close();
+        } catch (IOException e) {
+            log.warn("Log arşiv segmenti kapatılamadı: {}", segment.getName());
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.request.LogRequest;
+import com.example.demo.dto.response.LogBatchItemResult;
+import com.example.demo.dto.response.LogBatchResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Tek bir HTTP isteğiyle gelen çok sayıda log kaydını (JSON dizisi veya NDJSON) veritabanına yazan servis.
+ *
+ * Gövde tamamen belleğe alınmadan kayıt kayıt okunur ve doğrulanır; geçerli kayıtlar batch-size'lık
+ * parçalar halinde JDBC batch insert ile yazılır. Tüm parçalar tek bir transaction içinde yazıldığı
+ * için gövde bozuksa ya da kayıt sınırı aşılırsa hiçbir kayıt kaydedilmez. Doğrulamadan geçemeyen
+ * kayıtlar ise yalnızca reddedilir ve sonuçta nedenleriyle raporlanır.
+ *
+ * Kayıtlar istemcinin gönderdiği memberId ve errorFingerprint değerleriyle yazılmaz: memberId isteği
+ * yapan üyeden alınır, errorFingerprint ise boş bırakılır; böylece başka bir üye adına ya da mevcut
+ * bir hata grubuna bağlı sahte denetim kaydı oluşturulamaz.
+ */
+@Service
+@Slf4j
+public class LogBatchIngestService {
+
+    private static final Set<String> LOG_LEVELS = Set.of("TRACE", "DEBUG", "INFO", "WARN", "ERROR");
+    private static final int MAX_TEXT_LENGTH = 64 * 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader logReader;
+    private final int batchSize;
+    private final int maxItems;
+
+    public LogBatchIngestService(JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 ObjectMapper objectMapper,
+                                 @Value("${nodora.logs.batch.batch-size:500}") int batchSize,
+                                 @Value("${nodora.logs.batch.max-items:10000}") int maxItems) {
+        if (batchSize <= 0 || maxItems <= 0) {
+            throw new IllegalArgumentException("Toplu log alımı ayarları pozitif olmalıdır.");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.logReader = objectMapper.readerFor(LogRequest.class);
+        this.batchSize = batchSize;
+        this.maxItems = maxItems;
+    }
+
+    /**
+     * Gövdedeki kayıtları okur, doğrular ve tek transaction içinde yazar.
+     *
+     * @param body JSON dizisi ([{...}, {...}]) veya satır başına bir nesne (NDJSON)
+     * @param memberId Kayıtlara yazılacak üye ID'si (isteği yapan üye; anonimse null)
+     * @throws IllegalArgumentException gövde ayrıştırılamazsa veya max-items aşılırsa (hiçbir kayıt yazılmaz)
+     */
+    public LogBatchResponse ingest(InputStream body, Integer memberId) {
+        OffsetDateTime receivedAt = OffsetDateTime.now(ZoneOffset.UTC);
+        List<LogBatchItemResult> results = new ArrayList<>();
+        int[] accepted = {0};
+
+        transactionTemplate.executeWithoutResult(status -> {
+            List<LogRequest> chunk = new ArrayList<>(batchSize);
+            int index = 0;
+            // Kök seviyede dizi gelirse MappingIterator elemanları tek tek döner; aksi halde NDJSON gibi okunur
+            try (MappingIterator<LogRequest> items = logReader.readValues(body)) {
+                while (items.hasNextValue()) {
+                    if (index >= maxItems) {
+                        throw new IllegalArgumentException("Tek istekte en fazla " + maxItems + " log kaydı gönderilebilir.");
+                    }
+                    LogRequest item = items.nextValue();
+                    String error = validate(item);
+                    if (error != null) {
+                        results.add(new LogBatchItemResult(index, false, error));
+                    } else {
+                        item.setLogLevel(item.getLogLevel().toUpperCase(Locale.ROOT));
+                        item.setMemberId(memberId);
+                        item.setErrorFingerprint(null);
+                        chunk.add(item);
+                        results.add(new LogBatchItemResult(index, true, null));
+                        if (chunk.size() >= batchSize) {
+                            accepted[0] += insert(chunk, receivedAt);
+                            chunk.clear();
+                        }
+                    }
+                    index++;
+                }
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Log kaydı " + index + " ayrıştırılamadı: " + e.getOriginalMessage(), e);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (!chunk.isEmpty()) {
+                accepted[0] += insert(chunk, receivedAt);
+            }
+        });
+
+        int rejected = results.size() - accepted[0];
+        log.info("Toplu log alımı tamamlandı. Alınan: {}, kaydedilen: {}, reddedilen: {}", results.size(), accepted[0], rejected);
+        return new LogBatchResponse(results.size(), accepted[0], rejected, results);
+    }
+
+    private int insert(List<LogRequest> chunk, OffsetDateTime timestamp) {
+        jdbcTemplate.batchUpdate(AuditLogWriter.INSERT_SQL, chunk, chunk.size(),
+                (ps, item) -> AuditLogWriter.bindInsert(ps, item, timestamp, toJson(item)));
+        return chunk.size();
+    }
+
+    private static String validate(LogRequest item) {
+        if (item == null) {
+            return "Kayıt boş olamaz.";
+        }
+        if (item.getLogLevel() == null || !LOG_LEVELS.contains(item.getLogLevel().toUpperCase(Locale.ROOT))) {
+            return "logLevel şunlardan biri olmalıdır: " + LOG_LEVELS;
+        }
+        if (item.getSource() == null || item.getSource().isBlank()) {
+            return "source zorunludur.";
+        }
+        if (item.getSource().length() > 255) {
+            return "source en fazla 255 karakter olabilir.";
+        }
+        if (item.getRequestPath() != null && item.getRequestPath().length() > 255) {
+            return "requestPath en fazla 255 karakter olabilir.";
+        }
+        if (item.getIpAddress() != null && item.getIpAddress().length() > 50) {
+            return "ipAddress en fazla 50 karakter olabilir.";
+        }
+        if ((item.getMessage() != null && item.getMessage().length() > MAX_TEXT_LENGTH)
+                || (item.getException() != null && item.getException().length() > MAX_TEXT_LENGTH)) {
+            return "message ve exception en fazla " + MAX_TEXT_LENGTH + " karakter olabilir.";
+        }
+        return null;
+    }
+
+    private String toJson(LogRequest item) {
+        if (item.getAdditionalData() == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(item.getAdditionalData());
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.request.LogSearchRequest;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Logları NDJSON veya CSV olarak doğrudan çıkış akışına yazan dışa aktarım servisi.
+ *
+ * Satırlar salt okunur bir transaction içinde, ileri yönlü (forward-only) bir JDBC cursor'ı ile
+ * sabit fetch-size'lık parçalar halinde okunur ve okundukça yazılır. PostgreSQL sürücüsü cursor'ı
+ * yalnızca autocommit kapalıyken kullandığı için sorgu TransactionTemplate içinde çalıştırılır.
+ * Böylece bellek kullanımı dışa aktarılan satır sayısından bağımsız kalır.
+ */
+@Service
+@Slf4j
+public class LogExportService {
+
+    public enum Format { NDJSON, CSV }
+
+    private static final String SELECT_SQL =
+            "SELECT id, log_level, message, timestamp, source, exception, additional_data::text AS additional_data, " +
+            "member_id, ip_address, request_path, error_fingerprint FROM logs";
+
+    private static final String[] CSV_HEADER = {
+            "id", "logLevel", "message", "timestamp", "source", "exception",
+            "additionalData", "memberId", "ipAddress", "requestPath", "errorFingerprint"};
+
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    public LogExportService(JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager,
+                            ObjectMapper objectMapper,
+                            @Value("${nodora.logs.export.fetch-size:1000}") int fetchSize) {
+        if (fetchSize <= 0) {
+            throw new IllegalArgumentException("Export fetch-size pozitif olmalıdır: " + fetchSize);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Filtreye uyan logları zaman sırasıyla verilen akışa yazar.
+     *
+     * @param filter Birlikte uygulanacak filtreler
+     * @param format Çıktı biçimi
+     * @param gzip   true ise çıktı gzip ile sıkıştırılır
+     * @param out    Yazılacak akış (kapatılmaz)
+     * @return Yazılan satır sayısı
+     */
+    public long export(LogSearchRequest filter, Format format, boolean gzip, OutputStream out) throws IOException {
+        List<Object> params = new ArrayList<>();
+        String sql = buildQuery(filter, params);
+
+        GZIPOutputStream gzipStream = gzip ? new GZIPOutputStream(nonClosing(out), 64 * 1024) : null;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(
+                gzip ? gzipStream : nonClosing(out), StandardCharsets.UTF_8), 64 * 1024);
+        RowWriter rowWriter = format == Format.CSV ? new CsvRowWriter(writer) : new NdjsonRowWriter(writer);
+
+        long start = System.nanoTime();
+        long rows;
+        try {
+            rowWriter.begin();
+            rows = readOnlyTransaction.execute(status -> jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(fetchSize);
+                for (int i = 0; i < params.size(); i++) {
+                    ps.setObject(i + 1, params.get(i));
+                }
+                return ps;
+            }, rs -> {
+                long count = 0;
+                while (rs.next()) {
+                    try {
+                        rowWriter.write(rs);
+                    } catch (IOException e) {
+                        // İstemci bağlantıyı kapattıysa cursor'ı hemen bırak
+                        throw new UncheckedIOException(e);
+                    }
+                    count++;
+                }
+                return count;
+            }));
+            rowWriter.end();
+            writer.flush();
+            if (gzipStream != null) {
+                gzipStream.finish();
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        log.info("Log dışa aktarımı tamamlandı. Biçim: {}, gzip: {}, satır: {}, süre: {}ms",
+                format, gzip, rows, (System.nanoTime() - start) / 1_000_000);
+        return rows;
+    }
+
+    private static String buildQuery(LogSearchRequest filter, List<Object> params) {
+        List<String> conditions = new ArrayList<>();
+        if (filter.getSource() != null) {
+            conditions.add("source = ?");
+            params.add(filter.getSource());
+        }
+        if (filter.getLogLevel() != null) {
+            conditions.add("log_level = ?");
+            params.add(filter.getLogLevel());
+        }
+        if (filter.getMemberId() != null) {
+            conditions.add("member_id = ?");
+            params.add(filter.getMemberId());
+        }
+        if (filter.getRequestPathPrefix() != null && !filter.getRequestPathPrefix().isEmpty()) {
+            conditions.add("request_path LIKE ? ESCAPE '\\'");
+            params.add(escapeLike(filter.getRequestPathPrefix()) + "%");
+        }
+        if (filter.getFrom() != null) {
+            conditions.add("timestamp >= ?");
+            params.add(filter.getFrom());
+        }
+        if (filter.getTo() != null) {
+            conditions.add("timestamp < ?");
+            params.add(filter.getTo());
+        }
+        StringBuilder sql = new StringBuilder(SELECT_SQL);
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+        return sql.append(" ORDER BY timestamp, id").toString();
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    /**
+     * Servlet çıkış akışının yazıcılar kapatılırken kapanmasını engeller; akışın sahibi container'dır.
+     */
+    private static OutputStream nonClosing(OutputStream out) {
+        return new FilterOutputStream(out) {
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+            }
+
+            @Override
+            public void close() throws IOException {
+                flush();
+            }
+        };
+    }
+
+    // ================================
+    // ROW WRITERS
+    // ================================
+
+    private interface RowWriter {
+        default void begin() throws IOException {
+        }
+
+        void write(ResultSet rs) throws SQLException, IOException;
+
+        default void end() throws IOException {
+        }
+    }
+
+    private final class NdjsonRowWriter implements RowWriter {
+        private final Writer writer;
+        private final JsonGenerator generator;
+
+        private NdjsonRowWriter(Writer writer) throws IOException {
+            this.writer = writer;
+            this.generator = objectMapper.getFactory().createGenerator(writer)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            generator.writeStartObject();
+            generator.writeNumberField("id", rs.getLong("id"));
+            writeString("logLevel", rs.getString("log_level"));
+            writeString("message", rs.getString("message"));
+            OffsetDateTime timestamp = rs.getObject("timestamp", OffsetDateTime.class);
+            writeString("timestamp", timestamp != null ? timestamp.toString() : null);
+            writeString("source", rs.getString("source"));
+            writeString("exception", rs.getString("exception"));
+            String additionalData = rs.getString("additional_data");
+            generator.writeFieldName("additionalData");
+            if (additionalData != null) {
+                // jsonb metni zaten geçerli JSON; tekrar ayrıştırmadan olduğu gibi yazılır
+                generator.writeRawValue(additionalData);
+            } else {
+                generator.writeNull();
+            }
+            int memberId = rs.getInt("member_id");
+            generator.writeFieldName("memberId");
+            if (rs.wasNull()) {
+                generator.writeNull();
+            } else {
+                generator.writeNumber(memberId);
+            }
+            writeString("ipAddress", rs.getString("ip_address"));
+            writeString("requestPath", rs.getString("request_path"));
+            writeString("errorFingerprint", rs.getString("error_fingerprint"));
+            generator.writeEndObject();
+            generator.flush();
+            writer.write('\n');
+        }
+
+        private void writeString(String field, String value) throws IOException {
+            if (value != null) {
+                generator.writeStringField(field, value);
+            } else {
+                generator.writeNullField(field);
+            }
+        }
+
+        @Override
+        public void end() throws IOException {
+            generator.close();
+        }
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+        private final Writer writer;
+
+        private CsvRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void begin() throws IOException {
+            writer.write(String.join(",", CSV_HEADER));
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            writer.write(Long.toString(rs.getLong("id")));
+            writeField(rs.getString("log_level"));
+            writeField(rs.getString("message"));
+            OffsetDateTime timestamp = rs.getObject("timestamp", OffsetDateTime.class);
+            writeField(timestamp != null ? timestamp.toString() : null);
+            writeField(rs.getString("source"));
+            writeField(rs.getString("exception"));
+            writeField(rs.getString("additional_data"));
+            int memberId = rs.getInt("member_id");
+            writeField(rs.wasNull() ? null : Integer.toString(memberId));
+            writeField(rs.getString("ip_address"));
+            writeField(rs.getString("request_path"));
+            writeField(rs.getString("error_fingerprint"));
+            writer.write("\r\n");
+        }
+
+        // RFC 4180: virgül, tırnak veya satır sonu içeren alanlar tırnak içine alınır.
+        // message, source, requestPath gibi alanlar kullanıcıdan gelir; =, +, -, @, tab veya CR ile
+        // başlayan değer elektronik tabloda formül olarak çalışmasın diye başına ' eklenir.
+        private void writeField(String value) throws IOException {
+            writer.write(',');
+            if (value == null || value.isEmpty()) {
+                return;
+            }
+            if (FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+                value = "'" + value;
+            }
+            boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+            if (!quote) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+}
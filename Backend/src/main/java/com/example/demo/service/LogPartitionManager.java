@@ -0,0 +1,274 @@
+package com.example.demo.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * logs tablosunu gün bazında RANGE partition'lı olarak yöneten bileşen.
+ *
+ * - Başlangıçta logs tablosu yoksa partition'lı olarak oluşturulur. Eski (partition'sız) bir logs
+ *   tablosu varsa logs_legacy adıyla yeni tabloya tek bir partition olarak eklenir; satırlar
+ *   kopyalanmaz. Tablonun şeması yalnızca burada yönetilir; Hibernate'in DDL üretimi logs tablosunu
+ *   atlar (bkz. LogsSchemaConfig).
+ * - Her gün (ve başlangıçta) bugünden itibaren premake-days gün için partition'lar oluşturulur.
+ * - Bitişi retention-days günden eski olan partition'lar DROP TABLE ile silinir; satır bazında
+ *   DELETE yapılmaz.
+ * - Log arşivi açıksa (bkz. LogArchiveService) retention yerine archive.after-days kullanılır:
+ *   partition önce segment dosyasına yazılır, yalnızca arşivleme başarılı olursa silinir.
+ *
+ * Partition anahtarı timestamp kolonudur; bu yüzden birincil anahtar (id, timestamp) olur ve
+ * zaman aralığı verilen sorgularda PostgreSQL yalnızca ilgili partition'ları tarar. Log araması
+ * için bileşik indeksler ve tam metin araması için search_vector kolonu ile GIN indeksi ana
+ * tabloda tanımlanır ve tüm partition'lara otomatik uygulanır.
+ */
+@Component
+@Order(3)
+@Slf4j
+public class LogPartitionManager implements ApplicationRunner {
+
+    private static final String TABLE = "logs";
+    private static final String LEGACY_TABLE = "logs_legacy";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    // Keyset sayfalama (timestamp, id) ile her filtre kolonunun birleşimi; requestPath öneki için pattern_ops
+    private static final List<String> SEARCH_INDEXES = List.of(
+            "CREATE INDEX IF NOT EXISTS idx_logs_timestamp_id ON logs (timestamp DESC, id DESC)",
+            "CREATE INDEX IF NOT EXISTS idx_logs_source_timestamp_id ON logs (source, timestamp DESC, id DESC)",
+            "CREATE INDEX IF NOT EXISTS idx_logs_level_timestamp_id ON logs (log_level, timestamp DESC, id DESC)",
+            "CREATE INDEX IF NOT EXISTS idx_logs_member_timestamp_id ON logs (member_id, timestamp DESC, id DESC)",
+            "CREATE INDEX IF NOT EXISTS idx_logs_request_path_prefix ON logs (request_path varchar_pattern_ops)");
+
+    private static final List<String> SEARCH_INDEX_NAMES = SEARCH_INDEXES.stream()
+            .map(ddl -> ddl.split(" ")[5])
+            .toList();
+
+    // message + exception için tam metin vektörü; noktalama boşluğa çevrilir ki
+    // "java.lang.NullPointerException" gibi ifadeler tek bir token olarak kalmasın
+    private static final String SEARCH_VECTOR_DDL =
+            "ALTER TABLE logs ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (" +
+            "to_tsvector('simple', regexp_replace(coalesce(message, '') || ' ' || coalesce(exception, ''), " +
+            "'[^[:alnum:]_]+', ' ', 'g'))) STORED";
+
+    private static final String PARTITION_BOUNDS_SQL =
+            "SELECT c.relname AS name, " +
+            "(regexp_match(pg_get_expr(c.relpartbound, c.oid), 'FROM \\(''([^'']+)''\\)'))[1]::timestamptz AS range_start, " +
+            "(regexp_match(pg_get_expr(c.relpartbound, c.oid), 'TO \\(''([^'']+)''\\)'))[1]::timestamptz AS range_end " +
+            "FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+            "WHERE i.inhparent = 'logs'::regclass";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final LogArchiveService logArchiveService;
+    private final boolean enabled;
+    private final int retentionDays;
+    private final int premakeDays;
+
+    public LogPartitionManager(JdbcTemplate jdbcTemplate,
+                               TransactionTemplate transactionTemplate,
+                               LogArchiveService logArchiveService,
+                               @Value("${nodora.logs.partitioning.enabled:true}") boolean enabled,
+                               @Value("${nodora.logs.retention-days:30}") int retentionDays,
+                               @Value("${nodora.logs.partitioning.premake-days:3}") int premakeDays) {
+        if (retentionDays <= 0 || premakeDays < 0) {
+            throw new IllegalArgumentException("Log retention-days pozitif, premake-days negatif olmayan bir değer olmalıdır.");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.logArchiveService = logArchiveService;
+        this.enabled = enabled;
+        this.retentionDays = retentionDays;
+        this.premakeDays = premakeDays;
+    }
+
+    /**
+     * Tabloyu web sunucusu istek kabul etmeden önce hazırlar; audit log yazımı ilk istekten itibaren çalışır.
+     * Bugünün ve sonraki premake-days günün partition'ları da burada oluşturulur: boş bir veritabanında
+     * yalnızca üst tablo olsaydı ilk kayıtlar "no partition of relation logs found for row" ile reddedilirdi.
+     * Arşivleme ve silme, açılışı geciktirmemek için ApplicationRunner aşamasına bırakılır.
+     */
+    @PostConstruct
+    public void initSchema() {
+        if (!enabled) {
+            return;
+        }
+        ensurePartitionedTable();
+        jdbcTemplate.execute("ALTER TABLE logs ADD COLUMN IF NOT EXISTS error_fingerprint VARCHAR(16)");
+        jdbcTemplate.execute(SEARCH_VECTOR_DDL);
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_logs_search_vector ON logs USING GIN (search_vector)");
+        SEARCH_INDEXES.forEach(jdbcTemplate::execute);
+        createUpcomingPartitions(LocalDate.now(ZoneOffset.UTC), findPartitions());
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        maintainPartitions();
+    }
+
+    /**
+     * Her gün gece yarısından (UTC) hemen sonra partition'ları oluşturur/siler.
+     */
+    @Scheduled(cron = "${nodora.logs.partitioning.cron:0 5 0 * * *}", zone = "UTC")
+    public void maintainPartitions() {
+        if (!enabled) {
+            return;
+        }
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        List<PartitionRange> partitions = findPartitions();
+        createUpcomingPartitions(today, partitions);
+
+        if (logArchiveService.isEnabled()) {
+            archivePartitions(partitions, startOf(today.minusDays(logArchiveService.getAfterDays())));
+            return;
+        }
+
+        OffsetDateTime cutoff = startOf(today.minusDays(retentionDays));
+        for (PartitionRange partition : partitions) {
+            if (partition.end() != null && !partition.end().isAfter(cutoff)) {
+                dropPartition(partition.name());
+            }
+        }
+    }
+
+    private void createUpcomingPartitions(LocalDate today, List<PartitionRange> partitions) {
+        for (int i = 0; i <= premakeDays; i++) {
+            LocalDate day = today.plusDays(i);
+            OffsetDateTime start = startOf(day);
+            if (partitions.stream().noneMatch(p -> p.covers(start))) {
+                createPartition(day);
+            }
+        }
+    }
+
+    private void archivePartitions(List<PartitionRange> partitions, OffsetDateTime cutoff) {
+        for (PartitionRange partition : partitions) {
+            if (partition.end() != null && !partition.end().isAfter(cutoff)) {
+                if (logArchiveService.archivePartition(partition.name())) {
+                    dropPartition(partition.name());
+                } else {
+                    log.warn("Log partition'ı arşivlenemediği için silinmedi: {}", partition.name());
+                }
+            }
+        }
+        logArchiveService.deleteExpired();
+    }
+
+    private void ensurePartitionedTable() {
+        String relkind = jdbcTemplate.query(
+                "SELECT c.relkind::text FROM pg_class c WHERE c.oid = to_regclass(?)",
+                rs -> rs.next() ? rs.getString(1) : null, TABLE);
+        if ("p".equals(relkind)) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            if (relkind == null) {
+                jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS logs_id_seq");
+                createParentTable("logs_id_seq");
+                log.info("logs tablosu gün bazında partition'lı olarak oluşturuldu.");
+            } else {
+                migrateLegacyTable();
+            }
+        });
+    }
+
+    /**
+     * Partition'sız mevcut tabloyu yeniden adlandırıp partition'lı tabloya tek parça olarak ekler.
+     * Eski tablo, yarına kadar olan aralığı kapsar ve retention süresi dolunca bütün olarak silinir.
+     */
+    private void migrateLegacyTable() {
+        String identity = jdbcTemplate.queryForObject(
+                "SELECT a.attidentity::text FROM pg_attribute a WHERE a.attrelid = 'logs'::regclass AND a.attname = 'id'",
+                String.class);
+        String sequence = jdbcTemplate.queryForObject("SELECT pg_get_serial_sequence('logs', 'id')", String.class);
+        if (identity != null && !identity.isBlank()) {
+            // Identity sekansının sahipliği değiştirilemez; identity kaldırılır (sekansı da silinir) ve
+            // kaldığı yerden devam eden bağımsız bir sekans oluşturulur
+            jdbcTemplate.execute("ALTER TABLE logs ALTER COLUMN id DROP IDENTITY IF EXISTS");
+            sequence = null;
+        }
+        if (sequence == null) {
+            sequence = "logs_id_seq";
+            jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS logs_id_seq");
+            jdbcTemplate.execute("SELECT setval('logs_id_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM logs), false)");
+        } else {
+            // serial sekansı eski kolona bağlıysa, eski partition silinirken sekans da silinirdi
+            jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " OWNED BY NONE");
+        }
+
+        jdbcTemplate.execute("ALTER TABLE logs RENAME TO " + LEGACY_TABLE);
+        // Eski tablodaki aynı adlı indeksler ana tablodaki CREATE INDEX IF NOT EXISTS'i atlatırdı
+        for (String index : SEARCH_INDEX_NAMES) {
+            jdbcTemplate.execute("ALTER INDEX IF EXISTS " + index + " RENAME TO " + index.replace("idx_logs_", "idx_logs_legacy_"));
+        }
+        jdbcTemplate.execute("UPDATE " + LEGACY_TABLE + " SET timestamp = now() WHERE timestamp IS NULL");
+        jdbcTemplate.execute("ALTER TABLE " + LEGACY_TABLE + " ALTER COLUMN timestamp SET NOT NULL");
+        createParentTable(sequence);
+
+        OffsetDateTime legacyEnd = startOf(LocalDate.now(ZoneOffset.UTC).plusDays(1));
+        jdbcTemplate.execute("ALTER TABLE logs ATTACH PARTITION " + LEGACY_TABLE +
+                " FOR VALUES FROM (MINVALUE) TO ('" + legacyEnd + "')");
+        log.info("Mevcut logs tablosu {} adıyla partition olarak eklendi (bitiş: {}).", LEGACY_TABLE, legacyEnd);
+    }
+
+    private void createParentTable(String sequence) {
+        jdbcTemplate.execute("CREATE TABLE logs (" +
+                "id BIGINT NOT NULL DEFAULT nextval('" + sequence + "'), " +
+                "log_level VARCHAR(20) NOT NULL, " +
+                "message TEXT, " +
+                "timestamp TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(), " +
+                "source VARCHAR(255) NOT NULL, " +
+                "exception TEXT, " +
+                "additional_data JSONB, " +
+                "member_id INTEGER, " +
+                "ip_address VARCHAR(50), " +
+                "request_path VARCHAR(255), " +
+                "PRIMARY KEY (id, timestamp)" +
+                ") PARTITION BY RANGE (timestamp)");
+    }
+
+    private void createPartition(LocalDate day) {
+        String name = TABLE + "_p" + day.format(PARTITION_SUFFIX);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + name + " PARTITION OF logs " +
+                "FOR VALUES FROM ('" + startOf(day) + "') TO ('" + startOf(day.plusDays(1)) + "')");
+        log.info("Log partition'ı oluşturuldu: {}", name);
+    }
+
+    private void dropPartition(String name) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + name);
+        log.info("Saklama süresi dolan log partition'ı silindi: {}", name);
+    }
+
+    private List<PartitionRange> findPartitions() {
+        return jdbcTemplate.query(PARTITION_BOUNDS_SQL, (rs, rowNum) -> new PartitionRange(
+                rs.getString("name"),
+                rs.getObject("range_start", OffsetDateTime.class),
+                rs.getObject("range_end", OffsetDateTime.class)));
+    }
+
+    private static OffsetDateTime startOf(LocalDate day) {
+        return day.atStartOfDay().atOffset(ZoneOffset.UTC);
+    }
+
+    /**
+     * Bir partition'ın kapsadığı [start, end) aralığı; MINVALUE/MAXVALUE için ilgili uç null'dır.
+     */
+    private record PartitionRange(String name, OffsetDateTime start, OffsetDateTime end) {
+
+        boolean covers(OffsetDateTime instant) {
+            return (start == null || !instant.isBefore(start)) && (end == null || instant.isBefore(end));
+        }
+    }
+}
@@ -1,16 +1,27 @@
 package com.example.demo.service;
 
 import com.example.demo.dto.request.LogRequest;
+import com.example.demo.dto.request.LogSearchRequest;
+import com.example.demo.dto.response.LogSearchHit;
+import com.example.demo.dto.response.LogSearchResponse;
+import com.example.demo.dto.response.LogTextSearchResponse;
 import com.example.demo.dto.response.LogResponse;
 import com.example.demo.model.logs.Logs; // Logs entity'si import edildi
 import com.example.demo.repository.LogsRepository; // LogsRepository import edildi
+import com.example.demo.repository.LogsRepositoryCustom;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime; // OffsetDateTime kullan\u0131ld\u0131
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.Map; // additionalData i\u00e7in Map import edildi
 import java.util.stream.Collectors;
@@ -20,11 +31,24 @@ public class LogsService {
 
     private static final Logger logger = LoggerFactory.getLogger(LogsService.class);
 
+    /** Tek sayfada dönebilecek en fazla log sayısı. */
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    /** Tam metin aramasında tek sayfada dönebilecek en fazla sonuç ve en derin offset. */
+    public static final int MAX_TEXT_SEARCH_PAGE_SIZE = 200;
+    private static final int MAX_TEXT_SEARCH_OFFSET = 10_000;
+
     private final LogsRepository logsRepository;
+    private final LogArchiveService logArchiveService;
+    private final TransactionTemplate readOnlyTransaction;
 
     @Autowired
-    public LogsService(LogsRepository logsRepository) {
+    public LogsService(LogsRepository logsRepository, LogArchiveService logArchiveService,
+                       PlatformTransactionManager transactionManager) {
         this.logsRepository = logsRepository;
+        this.logArchiveService = logArchiveService;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
     /**
@@ -45,6 +69,7 @@ public class LogsService {
         log.setMessage(logRequest.getMessage());
         log.setRequestPath(logRequest.getRequestPath());
         log.setSource(logRequest.getSource());
+        log.setErrorFingerprint(logRequest.getErrorFingerprint());
         // log.setTimestamp(OffsetDateTime.now()); // BU SATIR KALDIRILDI - Timestamp atamas\u0131 Logs entity'sindeki @PrePersist taraf\u0131ndan yap\u0131lacak
 
         logger.debug("DEBUG: LogsService - createLog öncesi logEntity memberId: {}", log.getMemberId());
@@ -60,35 +85,115 @@ public class LogsService {
 
 
         // Kaydedilen Entity nesnesini Response DTO'suna dönüştürme
-        return new LogResponse(
-                savedLog.getId(),
-                savedLog.getAdditionalData(),
-                savedLog.getException(),
-                savedLog.getIpAddress(),
-                savedLog.getLogLevel(),
-                savedLog.getMemberId(),
-                savedLog.getMessage(),
-                savedLog.getRequestPath(),
-                savedLog.getSource(),
-                savedLog.getTimestamp()
-        );
+        return toResponse(savedLog);
     }
 
-    public List<LogResponse> getAllLogs() {
-        List<Logs> logs = logsRepository.findAll();
-        return logs.stream()
-                .map(log -> new LogResponse(
-                        log.getId(),
-                        log.getAdditionalData(),
-                        log.getException(),
-                        log.getIpAddress(),
-                        log.getLogLevel(),
-                        log.getMemberId(),
-                        log.getMessage(),
-                        log.getRequestPath(),
-                        log.getSource(),
-                        log.getTimestamp()))
+    /**
+     * Verilen tüm filtreleri birlikte uygulayarak logları yeniden eskiye sıralı, sayfa sayfa getirir.
+     * Sayfalama (timestamp, id) üzerinden keyset ile yapılır; tablo hiçbir zaman tamamen belleğe alınmaz.
+     * Başlangıç zamanı (from) arşivleme sınırından eskiyse ve sıcak tablo sayfayı dolduramazsa arama
+     * arşivlenmiş segmentlerde aynı sırayla devam eder; arşivdeki kayıtların tamamı tablodakilerden eski
+     * olduğu için cursor her iki kaynakta da geçerlidir. from verilmeyen aramalar arşive bakmaz: bloom
+     * indeksi yalnızca memberId'yi kapsadığı için diğer filtreler tüm segmentlerin açılmasını gerektirir.
+     * Veritabanı transaction'ı yalnızca sıcak tablo sorgusu süresince açık kalır.
+     *
+     * @param filter Birlikte uygulanacak filtreler
+     * @param cursor Önceki yanıttaki nextCursor (ilk sayfa için null)
+     * @param limit  Sayfa boyutu (1..MAX_PAGE_SIZE)
+     * @return Sayfadaki loglar ve varsa sonraki sayfanın cursor'ı
+     * @throws IllegalArgumentException cursor çözümlenemezse
+     */
+    public LogSearchResponse searchLogs(LogSearchRequest filter, String cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        OffsetDateTime beforeTimestamp = null;
+        Long beforeId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = decodeCursor(cursor);
+            beforeTimestamp = OffsetDateTime.parse(parts[0]);
+            beforeId = Long.parseLong(parts[1]);
+        }
+
+        // Bir fazlası okunur; böylece sonraki sayfanın varlığı ek sorgu yapılmadan anlaşılır
+        OffsetDateTime hotBeforeTimestamp = beforeTimestamp;
+        Long hotBeforeId = beforeId;
+        List<LogResponse> rows = readOnlyTransaction.execute(status ->
+                logsRepository.search(filter, hotBeforeTimestamp, hotBeforeId, pageSize + 1).stream()
+                        .map(LogsService::toResponse)
+                        .collect(Collectors.toList()));
+        if (rows.size() <= pageSize && reachesArchive(filter)) {
+            LogResponse lastHot = rows.isEmpty() ? null : rows.get(rows.size() - 1);
+            rows.addAll(logArchiveService.search(filter,
+                    lastHot != null ? lastHot.getTimestamp() : beforeTimestamp,
+                    lastHot != null ? lastHot.getId() : beforeId,
+                    pageSize + 1 - rows.size()));
+        }
+        boolean hasMore = rows.size() > pageSize;
+        List<LogResponse> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            LogResponse last = page.get(page.size() - 1);
+            nextCursor = encodeCursor(last.getTimestamp(), last.getId());
+        }
+        return new LogSearchResponse(new ArrayList<>(page), nextCursor);
+    }
+
+    private boolean reachesArchive(LogSearchRequest filter) {
+        return logArchiveService.isEnabled()
+                && filter.getFrom() != null
+                && filter.getFrom().isBefore(logArchiveService.getHotHorizon());
+    }
+
+    /**
+     * message ve exception alanlarında tam metin araması yapar (ör. "NullPointerException updateCard").
+     * Sonuçlar ilgiye göre sıralanır; zaman aralığı verilmesi yalnızca ilgili partition'ların
+     * taranmasını sağladığı için önerilir. Arşivlenmiş segmentlerde tam metin araması yapılmaz.
+     *
+     * @param query  websearch sözdiziminde arama ifadesi ("tam ifade", or, -hariç)
+     * @param filter Ek filtreler (requestPathPrefix dikkate alınmaz)
+     * @param page   0'dan başlayan sayfa numarası
+     * @param size   Sayfa boyutu (1..MAX_TEXT_SEARCH_PAGE_SIZE)
+     * @throws IllegalArgumentException sorgu boşsa veya istenen sayfa çok derindeyse
+     */
+    @Transactional(readOnly = true)
+    public LogTextSearchResponse searchText(String query, LogSearchRequest filter, int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Arama ifadesi (q) boş olamaz.");
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_TEXT_SEARCH_PAGE_SIZE));
+        int pageNumber = Math.max(0, page);
+        long offset = (long) pageNumber * pageSize;
+        if (offset > MAX_TEXT_SEARCH_OFFSET) {
+            throw new IllegalArgumentException("Çok derin sayfa istendi; aramayı zaman aralığıyla daraltın.");
+        }
+
+        List<LogsRepositoryCustom.RankedLog> rows = logsRepository.fullTextSearch(query, filter, (int) offset, pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        List<LogSearchHit> hits = rows.stream()
+                .limit(pageSize)
+                .map(row -> new LogSearchHit(toResponse(row.log()), row.rank()))
                 .collect(Collectors.toList());
+        return new LogTextSearchResponse(hits, pageNumber, pageSize, hasMore);
+    }
+
+    private static String encodeCursor(OffsetDateTime timestamp, Long id) {
+        String raw = timestamp.toString() + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Geçersiz cursor: " + cursor);
+            }
+            OffsetDateTime.parse(parts[0]);
+            Long.parseLong(parts[1]);
+            return parts;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Geçersiz cursor: " + cursor, e);
+        }
     }
 
     /**
@@ -100,17 +205,7 @@ public class LogsService {
     public List<LogResponse> getLogsBySource(String source) {
         List<Logs> logs = logsRepository.findBySource(source);
         return logs.stream()
-                .map(log -> new LogResponse(
-                        log.getId(),
-                        log.getAdditionalData(),
-                        log.getException(),
-                        log.getIpAddress(),
-                        log.getLogLevel(),
-                        log.getMemberId(),
-                        log.getMessage(),
-                        log.getRequestPath(),
-                        log.getSource(),
-                        log.getTimestamp()))
+                .map(LogsService::toResponse)
                 .collect(Collectors.toList());
     }
 
@@ -123,17 +218,7 @@ public class LogsService {
     public List<LogResponse> getLogsByLogLevel(String logLevel) {
         List<Logs> logs = logsRepository.findByLogLevel(logLevel);
         return logs.stream()
-                .map(log -> new LogResponse(
-                        log.getId(),
-                        log.getAdditionalData(),
-                        log.getException(),
-                        log.getIpAddress(),
-                        log.getLogLevel(),
-                        log.getMemberId(),
-                        log.getMessage(),
-                        log.getRequestPath(),
-                        log.getSource(),
-                        log.getTimestamp()))
+                .map(LogsService::toResponse)
                 .collect(Collectors.toList());
     }
 
@@ -146,17 +231,7 @@ public class LogsService {
     public List<LogResponse> getLogsByMemberId(Integer memberId) {
         List<Logs> logs = logsRepository.findByMemberId(memberId);
         return logs.stream()
-                .map(log -> new LogResponse(
-                        log.getId(),
-                        log.getAdditionalData(),
-                        log.getException(),
-                        log.getIpAddress(),
-                        log.getLogLevel(),
-                        log.getMemberId(),
-                        log.getMessage(),
-                        log.getRequestPath(),
-                        log.getSource(),
-                        log.getTimestamp()))
+                .map(LogsService::toResponse)
                 .collect(Collectors.toList());
     }
 
@@ -170,17 +245,23 @@ public class LogsService {
     public List<LogResponse> getLogsByMemberIdAndLogLevel(Integer memberId, String logLevel) {
         List<Logs> logs = logsRepository.findByMemberIdAndLogLevel(memberId, logLevel);
         return logs.stream()
-                .map(log -> new LogResponse(
-                        log.getId(),
-                        log.getAdditionalData(),
-                        log.getException(),
-                        log.getIpAddress(),
-                        log.getLogLevel(),
-                        log.getMemberId(),
-                        log.getMessage(),
-                        log.getRequestPath(),
-                        log.getSource(),
-                        log.getTimestamp()))
+                .map(LogsService::toResponse)
                 .collect(Collectors.toList());
     }
+
+    private static LogResponse toResponse(Logs log) {
+        LogResponse response = new LogResponse(
+                log.getId(),
+                log.getAdditionalData(),
+                log.getException(),
+                log.getIpAddress(),
+                log.getLogLevel(),
+                log.getMemberId(),
+                log.getMessage(),
+                log.getRequestPath(),
+                log.getSource(),
+                log.getTimestamp());
+        response.setErrorFingerprint(log.getErrorFingerprint());
+        return response;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,80 @@
+package com.example.demo.service;
+
+import com.example.demo.model.member_board_access.MemberBoardAccess;
+import com.example.demo.model.roles.Roles;
+import com.example.demo.repository.MemberBoardAccessRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * member_board_access tablosunun bakımını yapan servis.
+ *
+ * Metotlar çağıran servisin transaction'ına katılır (MANDATORY); böylece erişim satırı ile
+ * BoardMember/WorkspaceMember değişikliği birlikte commit veya rollback edilir.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MemberBoardAccessService {
+
+    private final MemberBoardAccessRepository memberBoardAccessRepository;
+
+    /**
+     * Üyenin board üzerindeki rolünü yazar; satır varsa rol güncellenir.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void grant(Integer memberId, Integer boardId, Integer workspaceId, Roles role) {
+        memberBoardAccessRepository.save(
+                new MemberBoardAccess(memberId, boardId, workspaceId, role.getRoleName(), role.getScope()));
+        log.debug("Board erişimi yazıldı. memberId: {}, boardId: {}, rol: {}", memberId, boardId, role.getRoleName());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void revoke(Integer memberId, Integer boardId) {
+        memberBoardAccessRepository.deleteByMemberIdAndBoardId(memberId, boardId);
+        log.debug("Board erişimi silindi. memberId: {}, boardId: {}", memberId, boardId);
+    }
+
+    /**
+     * Board silindiğinde tüm üyelerin erişim satırlarını siler.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void revokeBoard(Integer boardId) {
+        int deleted = memberBoardAccessRepository.deleteByBoardId(boardId);
+        log.debug("Board'a ait {} erişim satırı silindi. boardId: {}", deleted, boardId);
+    }
+
+    /**
+     * Workspace silindiğinde workspace'teki tüm board erişimlerini siler.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void revokeWorkspace(Integer workspaceId) {
+        int deleted = memberBoardAccessRepository.deleteByWorkspaceId(workspaceId);
+        log.debug("Workspace'e ait {} erişim satırı silindi. workspaceId: {}", deleted, workspaceId);
+    }
+
+    /**
+     * Üye workspace'ten çıkarıldığında o workspace'teki board erişimlerini siler.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void revokeWorkspaceMember(Integer memberId, Integer workspaceId) {
+        int deleted = memberBoardAccessRepository.deleteByMemberIdAndWorkspaceId(memberId, workspaceId);
+        log.debug("Üyenin workspace'teki {} board erişimi silindi. memberId: {}, workspaceId: {}", deleted, memberId, workspaceId);
+    }
+
+    /**
+     * Tabloyu board_members ile eşitler (tek seferlik backfill). Tablo hiçbir an boşaltılmaz:
+     * yalnızca karşılığı olmayan satırlar silinir ve eksik satırlar eklenir; böylece çalışan diğer
+     * node'larda geçici yetki reddi oluşmaz. Board'un workspace'inde üyeliği olmayanlar alınmaz.
+     */
+    @Transactional
+    public int rebuild() {
+        int deleted = memberBoardAccessRepository.deleteWithoutBoardMembership();
+        int inserted = memberBoardAccessRepository.insertMissingFromBoardMembers();
+        log.info("member_board_access tablosu board_members ile eşitlendi. Silinen: {}, eklenen: {}", deleted, inserted);
+        return inserted;
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.response.EndpointTrafficResponse;
+import com.example.demo.dto.response.TrafficPointResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * request_rollup tablosu üzerinden trafik ve hata oranı sorguları. Tablo dakika kovalarında
+ * tutulduğu için sorgular logs tablosuna dokunmaz; taranan satır sayısı zaman aralığındaki
+ * dakika × uç nokta sayısıyla sınırlıdır (bkz. RequestRollupRecorder).
+ */
+@Service
+@RequiredArgsConstructor
+public class RequestRollupService {
+
+    /** Tek bir grafikte dönebilecek en fazla nokta sayısı. */
+    public static final int MAX_POINTS = 2000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * [from, to) aralığını stepMinutes dakikalık dilimlere bölerek toplam istek, hata ve gecikme değerlerini döner.
+     *
+     * @param source      (Opsiyonel) Controller adı
+     * @param requestPath (Opsiyonel) Route kalıbı (ör. /api/cards/{cardId})
+     * @throws IllegalArgumentException aralık geçersizse veya nokta sayısı MAX_POINTS'i aşıyorsa
+     */
+    public List<TrafficPointResponse> getTraffic(OffsetDateTime from, OffsetDateTime to, int stepMinutes,
+                                                 String source, String requestPath) {
+        validateRange(from, to);
+        if (stepMinutes <= 0) {
+            throw new IllegalArgumentException("stepMinutes pozitif olmalıdır: " + stepMinutes);
+        }
+        long minutes = Duration.between(from, to).toMinutes();
+        if (minutes / stepMinutes > MAX_POINTS) {
+            throw new IllegalArgumentException("İstenen aralık çok fazla nokta üretiyor; stepMinutes büyütülmelidir.");
+        }
+
+        long stepSeconds = stepMinutes * 60L;
+        StringBuilder sql = new StringBuilder(
+                "SELECT to_timestamp((extract(epoch FROM bucket)::bigint / ?) * ?) AS slot, " +
+                "SUM(request_count) AS requests, SUM(error_count) AS errors, " +
+                "SUM(latency_sum_micros) AS latency_sum, MAX(latency_max_micros) AS latency_max " +
+                "FROM request_rollup WHERE bucket >= ? AND bucket < ?");
+        List<Object> params = new ArrayList<>(List.of(stepSeconds, stepSeconds, from, to));
+        if (source != null) {
+            sql.append(" AND source = ?");
+            params.add(source);
+        }
+        if (requestPath != null) {
+            sql.append(" AND request_path = ?");
+            params.add(requestPath);
+        }
+        sql.append(" GROUP BY slot ORDER BY slot");
+
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> {
+            long requests = rs.getLong("requests");
+            long errors = rs.getLong("errors");
+            return new TrafficPointResponse(
+                    rs.getObject("slot", OffsetDateTime.class),
+                    requests,
+                    errors,
+                    ratio(errors, requests),
+                    requests == 0 ? 0.0 : rs.getLong("latency_sum") / 1000.0 / requests,
+                    rs.getLong("latency_max") / 1000.0);
+        }, params.toArray());
+    }
+
+    /**
+     * [from, to) aralığında uç nokta bazında toplamları döner.
+     *
+     * @param orderBy "errors" (varsayılan), "errorRate", "requests" veya "latency"
+     */
+    public List<EndpointTrafficResponse> getEndpointTraffic(OffsetDateTime from, OffsetDateTime to, String orderBy, int limit) {
+        validateRange(from, to);
+        String orderColumn = switch (orderBy == null ? "errors" : orderBy) {
+            case "errors" -> "errors DESC";
+            case "errorRate" -> "errors::float8 / NULLIF(requests, 0) DESC NULLS LAST";
+            case "requests" -> "requests DESC";
+            case "latency" -> "latency_sum DESC";
+            default -> throw new IllegalArgumentException("Geçersiz sıralama: " + orderBy);
+        };
+        String sql = "SELECT request_path, source, SUM(request_count) AS requests, SUM(error_count) AS errors, " +
+                "SUM(latency_sum_micros) AS latency_sum, MAX(latency_max_micros) AS latency_max " +
+                "FROM request_rollup WHERE bucket >= ? AND bucket < ? " +
+                "GROUP BY request_path, source ORDER BY " + orderColumn + ", request_path LIMIT ?";
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> {
+            long requests = rs.getLong("requests");
+            long errors = rs.getLong("errors");
+            return new EndpointTrafficResponse(
+                    rs.getString("request_path"),
+                    rs.getString("source"),
+                    requests,
+                    errors,
+                    ratio(errors, requests),
+                    requests == 0 ? 0.0 : rs.getLong("latency_sum") / 1000.0 / requests,
+                    rs.getLong("latency_max") / 1000.0);
+        }, from, to, Math.max(1, Math.min(limit, 500)));
+    }
+
+    private static void validateRange(OffsetDateTime from, OffsetDateTime to) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("Geçerli bir zaman aralığı (from < to) verilmelidir.");
+        }
+    }
+
+    private static double ratio(long part, long total) {
+        return total == 0 ? 0.0 : (double) part / total;
+    }
+}
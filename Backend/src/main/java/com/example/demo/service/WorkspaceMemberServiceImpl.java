@@ -6,12 +6,17 @@ import com.example.demo.model.members.Member;
 import com.example.demo.model.roles.Roles;
 import com.example.demo.model.workspace_members.WorkspaceMember;
 import com.example.demo.model.workspaces.Workspaces;
+import com.example.demo.repository.BoardMemberRepository;
+import com.example.demo.repository.BoardRepository;
 import com.example.demo.repository.MemberRepository;
 import com.example.demo.repository.RoleRepository;
 import com.example.demo.repository.WorkspaceMemberRepository;
 import com.example.demo.repository.WorkspaceRepository;
+import com.example.demo.security.EffectiveRoleCache;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -19,22 +24,35 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
+@Slf4j
 public class WorkspaceMemberServiceImpl implements WorkspaceMemberService {
 
     private final WorkspaceMemberRepository workspaceMemberRepository;
     private final WorkspaceRepository workspaceRepository;
     private final MemberRepository memberRepository;
     private final RoleRepository roleRepository;
+    private final EffectiveRoleCache effectiveRoleCache;
+    private final MemberBoardAccessService memberBoardAccessService;
+    private final BoardRepository boardRepository;
+    private final BoardMemberRepository boardMemberRepository;
 
     @Autowired
     public WorkspaceMemberServiceImpl(WorkspaceMemberRepository workspaceMemberRepository,
                                       WorkspaceRepository workspaceRepository,
                                       MemberRepository memberRepository,
-                                      RoleRepository roleRepository) {
+                                      RoleRepository roleRepository,
+                                      EffectiveRoleCache effectiveRoleCache,
+                                      MemberBoardAccessService memberBoardAccessService,
+                                      BoardRepository boardRepository,
+                                      BoardMemberRepository boardMemberRepository) {
         this.workspaceMemberRepository = workspaceMemberRepository;
         this.workspaceRepository = workspaceRepository;
         this.memberRepository = memberRepository;
         this.roleRepository = roleRepository;
+        this.effectiveRoleCache = effectiveRoleCache;
+        this.memberBoardAccessService = memberBoardAccessService;
+        this.boardRepository = boardRepository;
+        this.boardMemberRepository = boardMemberRepository;
     }
 
     @Override
@@ -61,6 +79,7 @@ public class WorkspaceMemberServiceImpl implements WorkspaceMemberService {
         memberEntity.setCreatedAt(LocalDateTime.now());
 
         WorkspaceMember saved = workspaceMemberRepository.save(memberEntity);
+        evictRole(saved);
 
         return toResponse(saved);
     }
@@ -83,12 +102,27 @@ public class WorkspaceMemberServiceImpl implements WorkspaceMemberService {
 
         member.setRole(role);
         WorkspaceMember updated = workspaceMemberRepository.save(member);
+        evictRole(updated);
 
         return toResponse(updated);
     }
 
     @Override
+    @Transactional
     public void removeMember(Integer workspaceMemberId) {
+        // Önbellekteki rolü ve board erişimlerini silebilmek için üyelik kaydının member/workspace bilgisi gerekiyor
+        workspaceMemberRepository.findById(workspaceMemberId).ifPresent(member -> {
+            evictRole(member);
+            if (member.getWorkspace() != null && member.getMember() != null) {
+                Integer memberId = member.getMember().getMemberId();
+                Integer workspaceId = member.getWorkspace().getWorkspaceId();
+                // Board üyelikleri de silinmeli; aksi halde erişim tablosu backfill'inde erişim geri gelir
+                boardMemberRepository.deleteByWorkspaceMemberId(member.getId());
+                memberBoardAccessService.revokeWorkspaceMember(memberId, workspaceId);
+                // Yetki kontrolü önce board rol önbelleğine baktığı için workspace'teki board rolleri de silinmeli
+                effectiveRoleCache.evictMemberBoards(memberId, boardRepository.findBoardIdsByWorkspaceId(workspaceId));
+            }
+        });
         workspaceMemberRepository.deleteById(workspaceMemberId);
     }
 
@@ -100,6 +134,12 @@ public class WorkspaceMemberServiceImpl implements WorkspaceMemberService {
                 .collect(Collectors.toList());
     }
 
+    private void evictRole(WorkspaceMember member) {
+        if (member.getWorkspace() != null && member.getMember() != null) {
+            effectiveRoleCache.evictWorkspaceRole(member.getMember().getMemberId(), member.getWorkspace().getWorkspaceId());
+        }
+    }
+
     private WorkspaceMemberResponse toResponse(WorkspaceMember member) {
         WorkspaceMemberResponse response = new WorkspaceMemberResponse();
         response.setWorkspaceMemberId(member.getId());
@@ -111,7 +151,7 @@ public class WorkspaceMemberServiceImpl implements WorkspaceMemberService {
         response.setRoleId(member.getRole().getRoleId());
         response.setRoleName(member.getRole().getRoleName());
         response.setCreatedAt(member.getCreatedAt());
-        System.out.println("Oluşturulan WorkspaceMemberResponse: " + response);
+        log.trace("Oluşturulan WorkspaceMemberResponse: {}", response); // toString yalnızca TRACE açıksa çalışır
 
         return response;
     }
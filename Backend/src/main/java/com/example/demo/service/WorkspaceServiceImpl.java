@@ -6,15 +6,16 @@ import com.example.demo.model.members.Member;
 import com.example.demo.model.roles.Roles;
 import com.example.demo.model.workspace_members.WorkspaceMember;
 import com.example.demo.model.workspaces.Workspaces;
+import com.example.demo.repository.BoardRepository;
 import com.example.demo.repository.MemberRepository;
 import com.example.demo.repository.RoleRepository;
 import com.example.demo.repository.WorkspaceMemberRepository;
 import com.example.demo.repository.WorkspaceRepository;
+import com.example.demo.security.EffectiveRoleCache;
+import com.example.demo.security.NodoraPrincipal;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -22,19 +23,23 @@ import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class WorkspaceServiceImpl implements WorkspaceService {
 
     private final WorkspaceRepository workspaceRepository;
     private final RoleRepository roleRepository;
     private final MemberRepository memberRepository;
     private final WorkspaceMemberRepository workspaceMemberRepository;
+    private final EffectiveRoleCache effectiveRoleCache;
+    private final MemberBoardAccessService memberBoardAccessService;
+    private final BoardRepository boardRepository;
 
     @Override
     @Transactional
     public WorkspaceResponse createWorkspace(WorkspaceRequest request) {
         Integer currentMemberId = getCurrentMemberId();
-        Member currentMember = memberRepository.findById(currentMemberId)
-                .orElseThrow(() -> new RuntimeException("Kullanıcı bulunamadı"));
+        // Kullanıcı principal ile doğrulandığı için yalnızca referans yeterli (ek SELECT yapılmaz)
+        Member currentMember = memberRepository.getReferenceById(currentMemberId);
 
         Workspaces newWorkspace = new Workspaces();
         newWorkspace.setWorkspaceName(request.getWorkspaceName());
@@ -49,11 +54,9 @@ public class WorkspaceServiceImpl implements WorkspaceService {
         memberEntity.setMember(currentMember);
         memberEntity.setRole(ownerRole);
         workspaceMemberRepository.save(memberEntity);
+        effectiveRoleCache.evictWorkspaceRole(currentMemberId, savedWorkspace.getWorkspaceId());
 
-        // <<< HATA AYIKLAMA İÇİN EKLENEN SATIRLAR >>>
-        System.out.println("BACKEND DEBUG: OWNER Role ID is " + ownerRole.getRoleId());
-        System.out.println("BACKEND DEBUG: OWNER Role Name is " + ownerRole.getRoleName());
-        // <<< HATA AYIKLAMA İÇİN EKLENEN SATIRLAR >>>
+        log.debug("OWNER rolü atandı. Role ID: {}, Role Name: {}", ownerRole.getRoleId(), ownerRole.getRoleName());
 
         WorkspaceResponse response = new WorkspaceResponse();
         response.setWorkspaceId(savedWorkspace.getWorkspaceId());
@@ -70,8 +73,14 @@ public class WorkspaceServiceImpl implements WorkspaceService {
         Workspaces workspace = workspaceRepository.findById(workspaceId)
                 .orElseThrow(() -> new RuntimeException("Workspace bulunamadı"));
 
+        // Board ID'leri workspace silinmeden önce alınmalı; rol önbelleği board bazında temizlenir
+        List<Integer> boardIds = boardRepository.findBoardIdsByWorkspaceId(workspaceId);
+
         // Workspace'e ait tüm WorkspaceMember ilişkilerini sil
         workspaceMemberRepository.deleteByWorkspace_WorkspaceId(workspaceId);
+        memberBoardAccessService.revokeWorkspace(workspaceId);
+        effectiveRoleCache.evictWorkspace(workspaceId);
+        effectiveRoleCache.evictBoards(boardIds);
 
         // Workspace'i sil
         workspaceRepository.delete(workspace);
@@ -102,13 +111,8 @@ public class WorkspaceServiceImpl implements WorkspaceService {
     }
 
     private Integer getCurrentMemberId() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated() || !(authentication.getPrincipal() instanceof UserDetails)) {
-            throw new RuntimeException("Kullanıcı oturum açmamış veya kimlik doğrulama bilgisi eksik!");
-        }
-        String email = authentication.getName();
-        Member member = memberRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("Kullanıcı bulunamadı"));
-        return member.getMemberId();
+        return NodoraPrincipal.current()
+                .map(NodoraPrincipal::getMemberId)
+                .orElseThrow(() -> new RuntimeException("Kullanıcı oturum açmamış veya kimlik doğrulama bilgisi eksik!"));
     }
 }
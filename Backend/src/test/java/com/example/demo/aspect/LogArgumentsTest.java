@@ -0,0 +1,39 @@
+package com.example.demo.aspect;
+
+import com.example.demo.dto.request.LoginRequest;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Loglanan argümanlarda hassas alanların değerinin, içinde ayırıcı karakterler olsa bile
+ * tamamen maskelendiğini doğrular.
+ */
+class LogArgumentsTest {
+
+    @Test
+    void passwordContainingCommaIsFullyMasked() {
+        LoginRequest request = new LoginRequest();
+        request.setEmail("member@nodora.test");
+        request.setPassword("gizli,kuyruk)]}");
+
+        String logged = LogArguments.of(new Object[]{request}).toString();
+
+        assertThat(logged).isEqualTo("[LoginRequest(email=member@nodora.test, password=***)]");
+        assertThat(logged).doesNotContain("kuyruk");
+    }
+
+    @Test
+    void maskingStopsAtNextField() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("accessToken", "a,b=c");
+        body.put("memberId", 7);
+
+        String logged = LogArguments.of(new Object[]{body, "password=x"}).toString();
+
+        assertThat(logged).isEqualTo("[{accessToken=***, memberId=7}, password=***]");
+    }
+}
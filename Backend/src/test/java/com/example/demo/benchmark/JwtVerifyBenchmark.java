@@ -0,0 +1,91 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.model.members.Member;
+import com.example.demo.security.JwtUtil;
+import com.example.demo.security.TokenEpochRegistry;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter'ın istek başına token doğrulama maliyeti.
+ *
+ * oldFilterPath eski filtrenin çağrı sırasını (validateToken + extractAllClaims, önbelleksiz)
+ * tekrarlar. Ayrıştırma sayıları JwtUtilTest'te doğrulanır.
+ *
+ * Çalıştırma: ./mvnw test-compile ardından bu sınıfın main metodu (test classpath'i ile).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerifyBenchmark {
+
+    private JwtUtil uncached;
+    private JwtUtil cached;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        uncached = jwtUtil(false);
+        cached = jwtUtil(true);
+
+        Member member = new Member();
+        member.setMemberId(7);
+        member.setEmail("member@nodora.test");
+        // İki örnek aynı anahtarı kullandığı için token ikisinde de geçerlidir
+        token = cached.generateToken(member);
+        cached.verify(token);
+    }
+
+    /** Eski filtre: token iki kez ayrıştırılır. */
+    @Benchmark
+    public Claims oldFilterPath() {
+        return uncached.validateToken(token) ? uncached.extractAllClaims(token) : null;
+    }
+
+    /** Tek ayrıştırma, önbellek kapalı (jwt.claims-cache.enabled=false). */
+    @Benchmark
+    public Optional<Claims> verifyUncached() {
+        return uncached.verify(token);
+    }
+
+    /** Daha önce doğrulanmış token: SHA-256 özeti ve önbellek okuması. */
+    @Benchmark
+    public Optional<Claims> verifyCached() {
+        return cached.verify(token);
+    }
+
+    private static JwtUtil jwtUtil(boolean claimsCacheEnabled) {
+        JwtUtil jwtUtil = new JwtUtil(new TokenEpochRegistry());
+        ReflectionTestUtils.setField(jwtUtil, "secret", "nodora-benchmark-secret-nodora-benchmark-secret-0123");
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 3_600_000L);
+        ReflectionTestUtils.setField(jwtUtil, "claimsCacheEnabled", claimsCacheEnabled);
+        ReflectionTestUtils.setField(jwtUtil, "claimsCacheMaxSize", 10_000);
+        ReflectionTestUtils.invokeMethod(jwtUtil, "init");
+        return jwtUtil;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtVerifyBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.repository.BoardAccessView;
+import com.example.demo.repository.MemberBoardAccessRepository;
+import com.example.demo.repository.WorkspaceMemberRepository;
+import com.example.demo.security.BoardAncestryCache;
+import com.example.demo.security.CustomPermissionEvaluator;
+import com.example.demo.security.EffectiveRoleCache;
+import com.example.demo.security.NodoraPrincipal;
+import com.example.demo.security.PermissionAction;
+import com.example.demo.security.PermissionMetrics;
+import com.example.demo.security.RequiresPermission;
+import com.example.demo.security.RequiresPermissionInterceptor;
+import com.example.demo.security.ResourceType;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.expression.Expression;
+import org.springframework.security.access.expression.ExpressionUtils;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.util.SimpleMethodInvocation;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Aynı yetki kontrolünün @PreAuthorize (SpEL) ve @RequiresPermission (tipli) yollarındaki maliyeti.
+ *
+ * preAuthorizeSpel, eski anotasyonun çalışma anındaki işini yapar: her çağrıda metot argümanlarıyla
+ * bir evaluation context kurar ve önceden ayrıştırılmış ifadeyi değerlendirir; evaluator'a string izin
+ * anahtarı gider. requiresPermission, interceptor'ın kendisini çalıştırır. Her iki yolda da evaluator
+ * önbellekleri doludur, böylece fark yalnızca ifade/anotasyon işleme maliyetidir.
+ *
+ * Çalıştırma: ./mvnw test-compile ardından bu sınıfın main metodu (test classpath'i ile).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PermissionCheckBenchmark {
+
+    private static final int MEMBER_ID = 7;
+    private static final int CARD_ID = 101;
+
+    private Authentication authentication;
+    private DefaultMethodSecurityExpressionHandler expressionHandler;
+    private Expression preAuthorize;
+    private Method updateCard;
+    private SampleController controller;
+    private RequiresPermissionInterceptor interceptor;
+    private ProceedingJoinPoint joinPoint;
+
+    @Setup
+    public void setUp() throws Throwable {
+        MemberBoardAccessRepository accessRepository = mock(MemberBoardAccessRepository.class, withSettings().stubOnly());
+        when(accessRepository.findAccessByCardId(anyInt(), anyInt())).thenReturn(Optional.of(new AccessRow()));
+        CustomPermissionEvaluator evaluator = new CustomPermissionEvaluator(
+                mock(WorkspaceMemberRepository.class, withSettings().stubOnly()), accessRepository,
+                new BoardAncestryCache(1000), new EffectiveRoleCache(1000, 300), new PermissionMetrics());
+
+        NodoraPrincipal principal = new NodoraPrincipal(MEMBER_ID, "member@nodora.test", false, null);
+        authentication = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        controller = new SampleController();
+        updateCard = SampleController.class.getMethod("updateCard", Integer.class);
+
+        expressionHandler = new DefaultMethodSecurityExpressionHandler();
+        expressionHandler.setPermissionEvaluator(evaluator);
+        preAuthorize = expressionHandler.getExpressionParser().parseExpression("hasPermission(#id, 'update_card')");
+
+        interceptor = new RequiresPermissionInterceptor(evaluator);
+        MethodSignature signature = mock(MethodSignature.class, withSettings().stubOnly());
+        when(signature.getMethod()).thenReturn(updateCard);
+        joinPoint = mock(ProceedingJoinPoint.class, withSettings().stubOnly());
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(joinPoint.getArgs()).thenReturn(new Object[]{CARD_ID});
+        when(joinPoint.proceed()).thenReturn(Boolean.TRUE);
+
+        // Evaluator önbelleklerini ve interceptor'ın metot tablosunu doldur
+        interceptor.checkPermission(joinPoint);
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public boolean preAuthorizeSpel() {
+        return ExpressionUtils.evaluateAsBoolean(preAuthorize, expressionHandler.createEvaluationContext(
+                () -> authentication, new SimpleMethodInvocation(controller, updateCard, CARD_ID)));
+    }
+
+    @Benchmark
+    public Object requiresPermission() throws Throwable {
+        return interceptor.checkPermission(joinPoint);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PermissionCheckBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    public static class SampleController {
+
+        @RequiresPermission(resource = ResourceType.CARD, action = PermissionAction.UPDATE, id = "id")
+        public boolean updateCard(Integer id) {
+            return true;
+        }
+    }
+
+    private static final class AccessRow implements BoardAccessView {
+
+        @Override
+        public Integer getBoardId() {
+            return 3;
+        }
+
+        @Override
+        public Integer getListId() {
+            return 11;
+        }
+
+        @Override
+        public Integer getCardId() {
+            return CARD_ID;
+        }
+
+        @Override
+        public String getRoleName() {
+            return "MEMBER";
+        }
+
+        @Override
+        public String getScope() {
+            return "BOARD";
+        }
+    }
+}
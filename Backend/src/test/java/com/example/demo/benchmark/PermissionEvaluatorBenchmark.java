@@ -0,0 +1,261 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.model.cards.Card;
+import com.example.demo.model.checklist.Checklist;
+import com.example.demo.model.lists.Lists;
+import com.example.demo.model.member_board_access.MemberBoardAccess;
+import com.example.demo.model.members.Member;
+import com.example.demo.model.roles.Roles;
+import com.example.demo.repository.BoardAccessView;
+import com.example.demo.repository.BoardMemberRepository;
+import com.example.demo.repository.CardRepository;
+import com.example.demo.repository.ChecklistAccessView;
+import com.example.demo.repository.ChecklistRepository;
+import com.example.demo.repository.ListsRepository;
+import com.example.demo.repository.MemberBoardAccessRepository;
+import com.example.demo.repository.MemberRepository;
+import com.example.demo.repository.RoleRepository;
+import com.example.demo.repository.WorkspaceMemberRepository;
+import com.example.demo.security.BoardAncestryCache;
+import com.example.demo.security.CustomPermissionEvaluator;
+import com.example.demo.security.EffectiveRoleCache;
+import com.example.demo.security.LegacyPermissionChain;
+import com.example.demo.security.NodoraPrincipal;
+import com.example.demo.security.Permission;
+import com.example.demo.security.PermissionMetrics;
+import org.mockito.MockSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * CustomPermissionEvaluator'ın yetki kontrolü başına maliyeti, eski findById zinciriyle
+ * ({@link LegacyPermissionChain}, legacy* ölçümleri) karşılaştırmalı.
+ *
+ * Repository'ler bellek içi stub'dır; ölçülen süre veritabanı gecikmesini içermez, yalnızca
+ * önbellek ve değerlendirme yükünü gösterir. Asıl fark sorgu (round-trip) sayısındadır: main,
+ * ölçümden önce her senaryo için iki yolun sorgu sayısını yan yana yazdırır; aynı sayılar
+ * CustomPermissionEvaluatorTest'te doğrulanır.
+ *
+ * Çalıştırma: ./mvnw test-compile ardından bu sınıfın main metodu (test classpath'i ile).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PermissionEvaluatorBenchmark {
+
+    private static final int MEMBER_ID = 7;
+    private static final int BOARD_ID = 3;
+    private static final int LIST_ID = 11;
+    private static final int CHECKLIST_ID = 1001;
+
+    private static final String EMAIL = "member@nodora.test";
+    private static final String[] ROLES = {"MEMBER", "LEAD", "OWNER"};
+
+    private CustomPermissionEvaluator evaluator;
+    private LegacyPermissionChain legacy;
+    private Authentication authentication;
+    private List<Integer> cardIds;
+    private int nextChecklistId;
+    private List<Object> newRepositories;
+    private List<Object> legacyRepositories;
+
+    @Setup
+    public void setUp() {
+        // stubOnly: mock'lar çağrıları kaydetmez, uzun ölçümlerde bellek büyümez
+        init(true);
+        // Sıcak ölçümler için önbellekleri doldur
+        evaluator.hasPermission(authentication, CHECKLIST_ID, Permission.READ_CHECKLIST);
+        evaluator.hasPermission(authentication, cardIds, Permission.READ_CARD);
+    }
+
+    private void init(boolean stubOnly) {
+        WorkspaceMemberRepository workspaceMemberRepository = mock(WorkspaceMemberRepository.class, settings(stubOnly));
+        MemberBoardAccessRepository accessRepository = mock(MemberBoardAccessRepository.class, settings(stubOnly));
+        when(accessRepository.findById(any()))
+                .thenReturn(Optional.of(new MemberBoardAccess(MEMBER_ID, BOARD_ID, 1, "MEMBER", "BOARD")));
+        when(accessRepository.findAccessByChecklistId(anyInt(), anyInt()))
+                .thenAnswer(invocation -> Optional.of(new AccessRow(invocation.getArgument(0), 0)));
+        when(accessRepository.findAccessByCardIds(anyCollection(), anyInt()))
+                .thenAnswer(invocation -> {
+                    Collection<Integer> ids = invocation.getArgument(0);
+                    List<BoardAccessView> rows = new ArrayList<>(ids.size());
+                    ids.forEach(id -> rows.add(new AccessRow(null, id)));
+                    return rows;
+                });
+
+        // Soğuk ölçümde her çağrı yeni bir checklist ID'si kullandığı için ancestry önbelleği taşmamalı
+        evaluator = new CustomPermissionEvaluator(workspaceMemberRepository, accessRepository,
+                new BoardAncestryCache(1_000_000), new EffectiveRoleCache(10_000, 300), new PermissionMetrics());
+        NodoraPrincipal principal = new NodoraPrincipal(MEMBER_ID, "member@nodora.test", false, null);
+        authentication = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+        cardIds = IntStream.range(0, 200).map(i -> 100 + i).boxed().toList();
+        nextChecklistId = CHECKLIST_ID + 1;
+        newRepositories = List.of(workspaceMemberRepository, accessRepository);
+
+        Member member = new Member();
+        member.setMemberId(MEMBER_ID);
+        member.setEmail(EMAIL);
+        Checklist checklist = new Checklist();
+        checklist.setCardId(100);
+        Card card = new Card();
+        card.setListId(LIST_ID);
+        MemberRepository memberRepository = mock(MemberRepository.class, settings(stubOnly));
+        ChecklistRepository checklistRepository = mock(ChecklistRepository.class, settings(stubOnly));
+        CardRepository cardRepository = mock(CardRepository.class, settings(stubOnly));
+        ListsRepository listsRepository = mock(ListsRepository.class, settings(stubOnly));
+        BoardMemberRepository boardMemberRepository = mock(BoardMemberRepository.class, settings(stubOnly));
+        RoleRepository roleRepository = mock(RoleRepository.class, settings(stubOnly));
+        when(memberRepository.findByEmail(EMAIL)).thenReturn(Optional.of(member));
+        when(checklistRepository.findById(any())).thenReturn(Optional.of(checklist));
+        when(cardRepository.findById(any())).thenReturn(Optional.of(card));
+        when(listsRepository.findById(any())).thenReturn(Optional.of(new Lists(LIST_ID, "Liste", 0, BOARD_ID)));
+        when(boardMemberRepository.findRoleByBoardAndMember(BOARD_ID, MEMBER_ID)).thenReturn(Optional.of(4));
+        when(roleRepository.findById(4)).thenReturn(Optional.of(new Roles("MEMBER", "BOARD")));
+        legacy = new LegacyPermissionChain(memberRepository, checklistRepository, cardRepository, listsRepository,
+                boardMemberRepository, roleRepository);
+        legacyRepositories = List.of(memberRepository, checklistRepository, cardRepository, listsRepository,
+                boardMemberRepository, roleRepository);
+    }
+
+    private static MockSettings settings(boolean stubOnly) {
+        return stubOnly ? withSettings().stubOnly() : withSettings();
+    }
+
+    /** Önbellekte olmayan checklist: tek join sorgusu. */
+    @Benchmark
+    public boolean checklistCold() {
+        return evaluator.hasPermission(authentication, nextChecklistId++, Permission.READ_CHECKLIST);
+    }
+
+    /** Ancestry ve rol önbellekte: sorgu yok. */
+    @Benchmark
+    public boolean checklistWarm() {
+        return evaluator.hasPermission(authentication, CHECKLIST_ID, Permission.READ_CHECKLIST);
+    }
+
+    @Benchmark
+    public boolean boardWarm() {
+        return evaluator.hasPermission(authentication, BOARD_ID, Permission.READ_BOARD);
+    }
+
+    /** 200 kartlık toplu kontrol, tüm kartlar önbellekte. */
+    @Benchmark
+    public boolean cardBatchWarm() {
+        return evaluator.hasPermission(authentication, cardIds, Permission.READ_CARD);
+    }
+
+    /** Eski yol: üye → checklist → kart → liste → board_members → roles (6 sorgu). */
+    @Benchmark
+    public boolean legacyChecklist() {
+        return legacy.hasChecklistPermission(EMAIL, CHECKLIST_ID, ROLES);
+    }
+
+    /** Eski yol: üye → board_members → roles (3 sorgu). */
+    @Benchmark
+    public boolean legacyBoard() {
+        return legacy.hasBoardPermission(EMAIL, BOARD_ID, ROLES);
+    }
+
+    /** Eski yol: 200 kartın her biri için ayrı zincir (kart başına 5 sorgu). */
+    @Benchmark
+    public boolean legacyCardBatch() {
+        return legacy.hasCardPermissions(EMAIL, cardIds, ROLES);
+    }
+
+    /**
+     * Her senaryoyu soğuk önbellekle bir kez, ardından 99 kez daha çalıştırıp iki yolun toplam
+     * sorgu sayısını yan yana yazdırır.
+     */
+    static void printRoundTrips() {
+        PermissionEvaluatorBenchmark b = new PermissionEvaluatorBenchmark();
+        System.out.printf("%-28s %10s %10s%n", "Senaryo (100 kontrol)", "eski", "yeni");
+        b.printRoundTrips("checklist", () -> b.legacyChecklist(), () -> b.checklistWarm());
+        b.printRoundTrips("board", () -> b.legacyBoard(), () -> b.boardWarm());
+        b.printRoundTrips("200 kartlık toplu kontrol", () -> b.legacyCardBatch(), () -> b.cardBatchWarm());
+    }
+
+    private void printRoundTrips(String scenario, BooleanSupplier legacyPath, BooleanSupplier newPath) {
+        init(false);
+        for (int i = 0; i < 100; i++) {
+            legacyPath.getAsBoolean();
+            newPath.getAsBoolean();
+        }
+        System.out.printf("%-28s %10d %10d%n", scenario, invocations(legacyRepositories), invocations(newRepositories));
+    }
+
+    private static int invocations(List<Object> mocks) {
+        return mocks.stream().mapToInt(mock -> mockingDetails(mock).getInvocations().size()).sum();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        printRoundTrips();
+        new Runner(new OptionsBuilder()
+                .include(PermissionEvaluatorBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    private record AccessRow(Integer checklistId, Integer cardId) implements ChecklistAccessView {
+
+        @Override
+        public Integer getChecklistId() {
+            return checklistId;
+        }
+
+        @Override
+        public Integer getBoardId() {
+            return BOARD_ID;
+        }
+
+        @Override
+        public Integer getListId() {
+            return LIST_ID;
+        }
+
+        @Override
+        public Integer getCardId() {
+            return cardId;
+        }
+
+        @Override
+        public String getRoleName() {
+            return "MEMBER";
+        }
+
+        @Override
+        public String getScope() {
+            return "BOARD";
+        }
+    }
+}
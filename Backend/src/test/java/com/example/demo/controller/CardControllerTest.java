@@ -0,0 +1,69 @@
+package com.example.demo.controller;
+
+import com.example.demo.cache.BoardVersionRegistry;
+import com.example.demo.exception.GlobalExceptionHandler;
+import com.example.demo.metrics.ErrorGroupRecorder;
+import com.example.demo.security.CustomPermissionEvaluator;
+import com.example.demo.security.RequiresPermissionInterceptor;
+import com.example.demo.service.CardService;
+import com.example.demo.service.LogsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Toplu kart isteğindeki ID sınırının yetki kontrolünden önce uygulandığını doğrular: sınırı aşan
+ * istek evaluator'a (dolayısıyla veritabanına) hiç ulaşmadan 400 döner.
+ */
+@ExtendWith(MockitoExtension.class)
+class CardControllerTest {
+
+    @Mock
+    private CardService cardService;
+    @Mock
+    private BoardVersionRegistry boardVersionRegistry;
+    @Mock
+    private CustomPermissionEvaluator permissionEvaluator;
+    @Mock
+    private LogsService logsService;
+    @Mock
+    private ErrorGroupRecorder errorGroupRecorder;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        // Uygulamadaki gibi controller, @RequiresPermission aspect'iyle proxy'lenir
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new CardController(cardService, boardVersionRegistry));
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new RequiresPermissionInterceptor(permissionEvaluator));
+        mockMvc = MockMvcBuilders.standaloneSetup((Object) proxyFactory.getProxy())
+                .setControllerAdvice(new GlobalExceptionHandler(logsService, errorGroupRecorder))
+                .build();
+    }
+
+    @Test
+    void tooManyIdsAreRejectedBeforeAuthorization() throws Exception {
+        String ids = IntStream.rangeClosed(1, 201).mapToObj(String::valueOf).collect(Collectors.joining(","));
+
+        mockMvc.perform(get("/api/cards").param("ids", ids))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("En fazla 200 kart ID'si gönderilebilir"));
+
+        verifyNoInteractions(permissionEvaluator, cardService);
+    }
+}
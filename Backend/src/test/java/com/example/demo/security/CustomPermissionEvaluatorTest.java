@@ -0,0 +1,287 @@
+package com.example.demo.security;
+
+import com.example.demo.model.cards.Card;
+import com.example.demo.model.checklist.Checklist;
+import com.example.demo.model.lists.Lists;
+import com.example.demo.model.member_board_access.MemberBoardAccess;
+import com.example.demo.model.member_board_access.MemberBoardAccessId;
+import com.example.demo.model.members.Member;
+import com.example.demo.model.roles.Roles;
+import com.example.demo.repository.BoardAccessView;
+import com.example.demo.repository.BoardMemberRepository;
+import com.example.demo.repository.CardRepository;
+import com.example.demo.repository.ChecklistAccessView;
+import com.example.demo.repository.ChecklistRepository;
+import com.example.demo.repository.ListsRepository;
+import com.example.demo.repository.MemberBoardAccessRepository;
+import com.example.demo.repository.MemberRepository;
+import com.example.demo.repository.RoleRepository;
+import com.example.demo.repository.WorkspaceMemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.when;
+
+/**
+ * Yetki kontrolünün kapsam başına en fazla bir repository çağrısı yaptığını doğrular.
+ *
+ * Eski yol ({@link LegacyPermissionChain}) checklist hedefi için zinciri adım adım çözüyordu
+ * (üye → checklist → kart → liste → board_members → roles; altı sorgu). Yeni yolda soğuk önbellekle
+ * tek join sorgusu, önbellek doluyken hiç sorgu çalışmaz. Karşılaştırmalı testler iki yolu aynı
+ * veriyle çalıştırıp sorgu sayılarını yan yana doğrular. Her repository çağrısı bir SQL ifadesine
+ * karşılık gelir.
+ */
+@ExtendWith(MockitoExtension.class)
+class CustomPermissionEvaluatorTest {
+
+    private static final Integer MEMBER_ID = 7;
+    private static final Integer BOARD_ID = 3;
+    private static final Integer LIST_ID = 11;
+    private static final Integer CARD_ID = 101;
+    private static final Integer CHECKLIST_ID = 1001;
+    private static final Integer ROLE_ID = 4;
+    private static final String EMAIL = "member@nodora.test";
+
+    @Mock
+    private WorkspaceMemberRepository workspaceMemberRepository;
+    @Mock
+    private MemberBoardAccessRepository memberBoardAccessRepository;
+
+    // Eski zincirin repository'leri
+    @Mock
+    private MemberRepository memberRepository;
+    @Mock
+    private ChecklistRepository checklistRepository;
+    @Mock
+    private CardRepository cardRepository;
+    @Mock
+    private ListsRepository listsRepository;
+    @Mock
+    private BoardMemberRepository boardMemberRepository;
+    @Mock
+    private RoleRepository roleRepository;
+
+    private CustomPermissionEvaluator evaluator;
+    private Authentication authentication;
+
+    @BeforeEach
+    void setUp() {
+        evaluator = new CustomPermissionEvaluator(workspaceMemberRepository, memberBoardAccessRepository,
+                new BoardAncestryCache(1000), new EffectiveRoleCache(1000, 300), new PermissionMetrics());
+        NodoraPrincipal principal = new NodoraPrincipal(MEMBER_ID, EMAIL, false, null);
+        authentication = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+
+    @Test
+    void checklistCheckRunsSingleQueryWhenCold() {
+        when(memberBoardAccessRepository.findAccessByChecklistId(CHECKLIST_ID, MEMBER_ID))
+                .thenReturn(Optional.of(access(CHECKLIST_ID, CARD_ID)));
+
+        assertThat(evaluator.hasPermission(authentication, CHECKLIST_ID, Permission.READ_CHECKLIST)).isTrue();
+
+        assertThat(queryCount()).isEqualTo(1);
+    }
+
+    @Test
+    void repeatedChecksRunNoQueriesOnceCached() {
+        when(memberBoardAccessRepository.findAccessByChecklistId(CHECKLIST_ID, MEMBER_ID))
+                .thenReturn(Optional.of(access(CHECKLIST_ID, CARD_ID)));
+        evaluator.hasPermission(authentication, CHECKLIST_ID, Permission.READ_CHECKLIST);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(evaluator.hasPermission(authentication, CHECKLIST_ID, Permission.READ_CHECKLIST)).isTrue();
+            // Checklist ile aynı board'daki liste ve board için de önbellek yeterlidir
+            assertThat(evaluator.hasPermission(authentication, LIST_ID, Permission.READ_LIST)).isTrue();
+            assertThat(evaluator.hasPermission(authentication, BOARD_ID, Permission.READ_BOARD)).isTrue();
+        }
+
+        assertThat(queryCount()).isEqualTo(1);
+    }
+
+    @Test
+    void boardCheckReadsRoleByPrimaryKey() {
+        when(memberBoardAccessRepository.findById(new MemberBoardAccessId(MEMBER_ID, BOARD_ID)))
+                .thenReturn(Optional.of(new MemberBoardAccess(MEMBER_ID, BOARD_ID, 1, "MEMBER", "BOARD")));
+
+        assertThat(evaluator.hasPermission(authentication, BOARD_ID, Permission.READ_BOARD)).isTrue();
+        assertThat(evaluator.hasPermission(authentication, BOARD_ID, Permission.UPDATE_BOARD)).isTrue();
+
+        assertThat(queryCount()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 200})
+    void batchCheckRunsSingleQueryForAnyNumberOfCards(int cardCount) {
+        List<Integer> cardIds = IntStream.range(0, cardCount).map(i -> CARD_ID + i).boxed().toList();
+        when(memberBoardAccessRepository.findAccessByCardIds(anyCollection(), eq(MEMBER_ID)))
+                .thenAnswer(invocation -> {
+                    Collection<Integer> ids = invocation.getArgument(0);
+                    List<BoardAccessView> rows = new ArrayList<>();
+                    ids.forEach(id -> rows.add(access(null, id)));
+                    return rows;
+                });
+
+        assertThat(evaluator.hasPermission(authentication, cardIds, Permission.READ_CARD)).isTrue();
+
+        assertThat(queryCount()).isEqualTo(1);
+    }
+
+    @Test
+    void missingTargetIsDeniedAfterSingleQuery() {
+        when(memberBoardAccessRepository.findAccessByCardId(CARD_ID, MEMBER_ID)).thenReturn(Optional.empty());
+
+        assertThat(evaluator.hasPermission(authentication, CARD_ID, Permission.READ_CARD)).isFalse();
+
+        assertThat(queryCount()).isEqualTo(1);
+    }
+
+    @Test
+    void createWorkspaceIsDeniedWhenTargetIdIsGiven() {
+        assertThat(evaluator.hasPermission(authentication, null, Permission.CREATE_WORKSPACE)).isTrue();
+        assertThat(evaluator.hasPermission(authentication, 5, Permission.CREATE_WORKSPACE)).isFalse();
+        assertThat(evaluator.hasPermission(authentication, 5, "create_workspace")).isFalse();
+
+        assertThat(queryCount()).isZero();
+    }
+
+    @Test
+    void checklistCheckRoundTripsBeforeAndAfter() {
+        LegacyPermissionChain legacy = legacyChain();
+        when(memberBoardAccessRepository.findAccessByChecklistId(CHECKLIST_ID, MEMBER_ID))
+                .thenReturn(Optional.of(access(CHECKLIST_ID, CARD_ID)));
+
+        assertThat(legacy.hasChecklistPermission(EMAIL, CHECKLIST_ID, "MEMBER", "LEAD", "OWNER")).isTrue();
+        assertThat(evaluator.hasPermission(authentication, CHECKLIST_ID, Permission.READ_CHECKLIST)).isTrue();
+
+        assertThat(legacyQueryCount()).isEqualTo(6);
+        assertThat(queryCount()).isEqualTo(1);
+    }
+
+    @Test
+    void repeatedChecksRoundTripsBeforeAndAfter() {
+        LegacyPermissionChain legacy = legacyChain();
+        when(memberBoardAccessRepository.findAccessByChecklistId(CHECKLIST_ID, MEMBER_ID))
+                .thenReturn(Optional.of(access(CHECKLIST_ID, CARD_ID)));
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(legacy.hasChecklistPermission(EMAIL, CHECKLIST_ID, "MEMBER", "LEAD", "OWNER")).isTrue();
+            assertThat(legacy.hasBoardPermission(EMAIL, BOARD_ID, "MEMBER", "LEAD", "OWNER")).isTrue();
+            assertThat(evaluator.hasPermission(authentication, CHECKLIST_ID, Permission.READ_CHECKLIST)).isTrue();
+            assertThat(evaluator.hasPermission(authentication, BOARD_ID, Permission.READ_BOARD)).isTrue();
+        }
+
+        assertThat(legacyQueryCount()).isEqualTo(100 * (6 + 3));
+        assertThat(queryCount()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 200})
+    void batchCheckRoundTripsBeforeAndAfter(int cardCount) {
+        LegacyPermissionChain legacy = legacyChain();
+        List<Integer> cardIds = IntStream.range(0, cardCount).map(i -> CARD_ID + i).boxed().toList();
+        when(memberBoardAccessRepository.findAccessByCardIds(anyCollection(), eq(MEMBER_ID)))
+                .thenAnswer(invocation -> {
+                    Collection<Integer> ids = invocation.getArgument(0);
+                    List<BoardAccessView> rows = new ArrayList<>();
+                    ids.forEach(id -> rows.add(access(null, id)));
+                    return rows;
+                });
+
+        assertThat(legacy.hasCardPermissions(EMAIL, cardIds, "MEMBER", "LEAD", "OWNER")).isTrue();
+        assertThat(evaluator.hasPermission(authentication, cardIds, Permission.READ_CARD)).isTrue();
+
+        assertThat(legacyQueryCount()).isEqualTo(5 * cardCount);
+        assertThat(queryCount()).isEqualTo(1);
+    }
+
+    /** Eski zinciri aynı üye/board/liste/kart/checklist verisiyle kurar. */
+    private LegacyPermissionChain legacyChain() {
+        Member member = new Member();
+        member.setMemberId(MEMBER_ID);
+        member.setEmail(EMAIL);
+        Checklist checklist = new Checklist();
+        checklist.setChecklistId(CHECKLIST_ID);
+        checklist.setCardId(CARD_ID);
+        Card card = new Card();
+        card.setListId(LIST_ID);
+        // Her testte zincirin tamamı kullanılmaz
+        lenient().when(memberRepository.findByEmail(EMAIL)).thenReturn(Optional.of(member));
+        lenient().when(checklistRepository.findById(CHECKLIST_ID)).thenReturn(Optional.of(checklist));
+        lenient().when(cardRepository.findById(anyInt())).thenReturn(Optional.of(card));
+        lenient().when(listsRepository.findById(LIST_ID)).thenReturn(Optional.of(new Lists(LIST_ID, "Liste", 0, BOARD_ID)));
+        lenient().when(boardMemberRepository.findRoleByBoardAndMember(BOARD_ID, MEMBER_ID)).thenReturn(Optional.of(ROLE_ID));
+        lenient().when(roleRepository.findById(ROLE_ID)).thenReturn(Optional.of(new Roles("MEMBER", "BOARD")));
+        return new LegacyPermissionChain(memberRepository, checklistRepository, cardRepository, listsRepository,
+                boardMemberRepository, roleRepository);
+    }
+
+    private int legacyQueryCount() {
+        return Stream.of(memberRepository, checklistRepository, cardRepository, listsRepository,
+                        boardMemberRepository, roleRepository)
+                .mapToInt(repository -> mockingDetails(repository).getInvocations().size())
+                .sum();
+    }
+
+    private AccessRow access(Integer checklistId, Integer cardId) {
+        return new AccessRow(checklistId, BOARD_ID, LIST_ID, cardId, "MEMBER", "BOARD");
+    }
+
+    private int queryCount() {
+        return mockingDetails(memberBoardAccessRepository).getInvocations().size()
+                + mockingDetails(workspaceMemberRepository).getInvocations().size();
+    }
+
+    private record AccessRow(Integer checklistId, Integer boardId, Integer listId, Integer cardId,
+                             String roleName, String scope) implements ChecklistAccessView {
+
+        @Override
+        public Integer getChecklistId() {
+            return checklistId;
+        }
+
+        @Override
+        public Integer getBoardId() {
+            return boardId;
+        }
+
+        @Override
+        public Integer getListId() {
+            return listId;
+        }
+
+        @Override
+        public Integer getCardId() {
+            return cardId;
+        }
+
+        @Override
+        public String getRoleName() {
+            return roleName;
+        }
+
+        @Override
+        public String getScope() {
+            return scope;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.demo.security;
+
+import com.example.demo.model.members.Member;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Her istekte token'ın kaç kez ayrıştırıldığını (imza doğrulaması) sayar.
+ *
+ * Eski filtre validateToken ardından extractAllClaims çağırıyordu; her istek token'ı iki kez
+ * ayrıştırıyordu. Yeni yolda verify tek ayrıştırma yapar, doğrulanmış token tekrar geldiğinde
+ * claim'ler önbellekten döner. Ayrıca memberId claim'i taşımayan eski tokenların şifre sıfırlamada
+ * email üzerinden iptal edildiğini doğrular.
+ */
+class JwtUtilTest {
+
+    private static final String SECRET = "nodora-test-secret-nodora-test-secret-0123456789";
+    private static final int REQUESTS = 10;
+
+    @Test
+    void oldFilterPathParsesTwicePerRequest() {
+        JwtUtil jwtUtil = jwtUtil(false);
+        JwtParser parser = spyParser(jwtUtil);
+        String token = jwtUtil.generateToken(member());
+
+        for (int i = 0; i < REQUESTS; i++) {
+            assertThat(jwtUtil.validateToken(token)).isTrue();
+            assertThat(jwtUtil.extractAllClaims(token).getSubject()).isEqualTo("member@nodora.test");
+        }
+
+        verify(parser, times(2 * REQUESTS)).parseClaimsJws(anyString());
+    }
+
+    @Test
+    void verifyParsesOncePerRequestWithoutCache() {
+        JwtUtil jwtUtil = jwtUtil(false);
+        JwtParser parser = spyParser(jwtUtil);
+        String token = jwtUtil.generateToken(member());
+
+        for (int i = 0; i < REQUESTS; i++) {
+            assertThat(jwtUtil.verify(token)).isPresent();
+        }
+
+        verify(parser, times(REQUESTS)).parseClaimsJws(anyString());
+    }
+
+    @Test
+    void verifyParsesOncePerTokenWithCache() {
+        JwtUtil jwtUtil = jwtUtil(true);
+        JwtParser parser = spyParser(jwtUtil);
+        String token = jwtUtil.generateToken(member());
+
+        for (int i = 0; i < REQUESTS; i++) {
+            assertThat(jwtUtil.verify(token)).isPresent();
+        }
+
+        verify(parser, times(1)).parseClaimsJws(anyString());
+        assertThat(jwtUtil.claimsCacheStats().getHits()).isEqualTo(REQUESTS - 1);
+    }
+
+    @Test
+    void invalidTokenIsNeverCached() {
+        JwtUtil jwtUtil = jwtUtil(true);
+        JwtParser parser = spyParser(jwtUtil);
+        String token = jwtUtil.generateToken(member());
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        for (int i = 0; i < REQUESTS; i++) {
+            assertThat(jwtUtil.verify(tampered)).isEmpty();
+        }
+
+        verify(parser, times(REQUESTS)).parseClaimsJws(anyString());
+        assertThat(jwtUtil.claimsCacheStats().getSize()).isZero();
+    }
+
+    @Test
+    void legacyTokenWithoutMemberIdIsRevokedByEmail() {
+        TokenEpochRegistry registry = new TokenEpochRegistry();
+        JwtUtil jwtUtil = jwtUtil(false, registry);
+        // Epoch claim'i eklenmeden önce üretilmiş token: yalnızca subject, iat ve exp taşır
+        long issuedAt = System.currentTimeMillis() - 60_000;
+        String legacy = Jwts.builder()
+                .setSubject("Member@nodora.test")
+                .setIssuedAt(new Date(issuedAt))
+                .setExpiration(new Date(issuedAt + 3_600_000L))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()), SignatureAlgorithm.HS256)
+                .compact();
+        Claims claims = jwtUtil.verify(legacy).orElseThrow();
+        Claims other = jwtUtil.verify(jwtUtil.generateToken(member())).orElseThrow();
+        assertThat(jwtUtil.isEpochCurrent(claims)).isTrue();
+
+        registry.revoke(8, "other@nodora.test");
+        assertThat(jwtUtil.isEpochCurrent(claims)).isTrue();
+
+        registry.revoke(7, "member@nodora.test");
+        assertThat(jwtUtil.isEpochCurrent(claims)).isFalse();
+        assertThat(jwtUtil.isEpochCurrent(other)).isFalse();
+    }
+
+    static JwtUtil jwtUtil(boolean claimsCacheEnabled) {
+        return jwtUtil(claimsCacheEnabled, new TokenEpochRegistry());
+    }
+
+    static JwtUtil jwtUtil(boolean claimsCacheEnabled, TokenEpochRegistry registry) {
+        JwtUtil jwtUtil = new JwtUtil(registry);
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 3_600_000L);
+        ReflectionTestUtils.setField(jwtUtil, "claimsCacheEnabled", claimsCacheEnabled);
+        ReflectionTestUtils.setField(jwtUtil, "claimsCacheMaxSize", 100);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+
+    static Member member() {
+        Member member = new Member();
+        member.setMemberId(7);
+        member.setEmail("member@nodora.test");
+        return member;
+    }
+
+    private static JwtParser spyParser(JwtUtil jwtUtil) {
+        JwtParser parser = spy((JwtParser) ReflectionTestUtils.getField(jwtUtil, "parser"));
+        ReflectionTestUtils.setField(jwtUtil, "parser", parser);
+        return parser;
+    }
+}
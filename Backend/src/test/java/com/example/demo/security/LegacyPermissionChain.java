@@ -0,0 +1,102 @@
+package com.example.demo.security;
+
+import com.example.demo.model.cards.Card;
+import com.example.demo.model.checklist.Checklist;
+import com.example.demo.model.lists.Lists;
+import com.example.demo.model.members.Member;
+import com.example.demo.model.roles.Roles;
+import com.example.demo.repository.BoardMemberRepository;
+import com.example.demo.repository.CardRepository;
+import com.example.demo.repository.ChecklistRepository;
+import com.example.demo.repository.ListsRepository;
+import com.example.demo.repository.MemberRepository;
+import com.example.demo.repository.RoleRepository;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * CustomPermissionEvaluator'ın member_board_access öncesi yetki zinciri; karşılaştırma için test
+ * tarafında birebir tutulur. Her kontrol üyeyi email ile yükler, ardından hedeften board'a
+ * findById ile adım adım çıkar ve rolü board_members → roles üzerinden okur. Önbellek yoktur.
+ *
+ * Kontrol başına repository çağrısı: board 3, liste 4, kart 5, checklist 6.
+ */
+public class LegacyPermissionChain {
+
+    private static final String BOARD_SCOPE = "BOARD";
+
+    private final MemberRepository memberRepository;
+    private final ChecklistRepository checklistRepository;
+    private final CardRepository cardRepository;
+    private final ListsRepository listsRepository;
+    private final BoardMemberRepository boardMemberRepository;
+    private final RoleRepository roleRepository;
+
+    public LegacyPermissionChain(MemberRepository memberRepository, ChecklistRepository checklistRepository,
+                                 CardRepository cardRepository, ListsRepository listsRepository,
+                                 BoardMemberRepository boardMemberRepository, RoleRepository roleRepository) {
+        this.memberRepository = memberRepository;
+        this.checklistRepository = checklistRepository;
+        this.cardRepository = cardRepository;
+        this.listsRepository = listsRepository;
+        this.boardMemberRepository = boardMemberRepository;
+        this.roleRepository = roleRepository;
+    }
+
+    public boolean hasBoardPermission(String email, Integer boardId, String... roleNames) {
+        return memberRepository.findByEmail(email)
+                .map(member -> hasRoleByBoardId(member.getMemberId(), boardId, roleNames))
+                .orElse(false);
+    }
+
+    public boolean hasChecklistPermission(String email, Integer checklistId, String... roleNames) {
+        Optional<Member> member = memberRepository.findByEmail(email);
+        if (member.isEmpty()) {
+            return false;
+        }
+        return checklistRepository.findById(checklistId)
+                .map(Checklist::getCardId)
+                .map(cardId -> hasCardPermission(member.get().getMemberId(), cardId, roleNames))
+                .orElse(false);
+    }
+
+    /** Eski toplu kart kontrolü: her kart için ayrı bir hasPermission çağrısı. */
+    public boolean hasCardPermissions(String email, Collection<Integer> cardIds, String... roleNames) {
+        for (Integer cardId : cardIds) {
+            Optional<Member> member = memberRepository.findByEmail(email);
+            if (member.isEmpty() || !hasCardPermission(member.get().getMemberId(), cardId, roleNames)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean hasCardPermission(Integer memberId, Integer cardId, String... roleNames) {
+        return cardRepository.findById(cardId)
+                .map(Card::getListId)
+                .map(listId -> hasListPermission(memberId, listId, roleNames))
+                .orElse(false);
+    }
+
+    private boolean hasListPermission(Integer memberId, Integer listId, String... roleNames) {
+        return listsRepository.findById(listId)
+                .map(Lists::getBoardId)
+                .map(boardId -> hasRoleByBoardId(memberId, boardId, roleNames))
+                .orElse(false);
+    }
+
+    private boolean hasRoleByBoardId(Integer memberId, Integer boardId, String... roleNames) {
+        Optional<Roles> role = boardMemberRepository.findRoleByBoardAndMember(boardId, memberId)
+                .flatMap(roleRepository::findById);
+        if (role.isEmpty() || !BOARD_SCOPE.equalsIgnoreCase(role.get().getScope())) {
+            return false;
+        }
+        for (String name : roleNames) {
+            if (name.equalsIgnoreCase(role.get().getRoleName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
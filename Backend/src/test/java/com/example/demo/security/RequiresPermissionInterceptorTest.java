@@ -0,0 +1,133 @@
+package com.example.demo.security;
+
+import com.example.demo.dto.request.CardRequest;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * @RequiresPermission interceptor'ının izin ve hedef ID çözümlemesini metot başına bir kez
+ * yaptığını ve her çağrıda evaluator'ı SpEL ya da string izin anahtarı olmadan, doğrudan tipli
+ * {@link Permission} ile tek kez çağırdığını doğrular.
+ */
+@ExtendWith(MockitoExtension.class)
+class RequiresPermissionInterceptorTest {
+
+    private static final int CALLS = 100;
+
+    @Mock
+    private CustomPermissionEvaluator permissionEvaluator;
+
+    private RequiresPermissionInterceptor interceptor;
+    private Authentication authentication;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new RequiresPermissionInterceptor(permissionEvaluator);
+        NodoraPrincipal principal = new NodoraPrincipal(7, "member@nodora.test", false, null);
+        authentication = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void requirementIsCompiledOncePerMethod() throws Throwable {
+        when(permissionEvaluator.hasPermission(eq(authentication), any(), any(Permission.class))).thenReturn(true);
+        CardRequest request = new CardRequest();
+        request.setListId(11);
+
+        for (int i = 0; i < CALLS; i++) {
+            interceptor.checkPermission(joinPoint("updateCard", new Object[]{101, "body"}));
+            interceptor.checkPermission(joinPoint("createCard", new Object[]{request}));
+        }
+
+        Map<?, ?> compiled = (Map<?, ?>) ReflectionTestUtils.getField(interceptor, "compiled");
+        assertThat(compiled).hasSize(2);
+        verify(permissionEvaluator, times(CALLS)).hasPermission(authentication, 101, Permission.UPDATE_CARD);
+        verify(permissionEvaluator, times(CALLS)).hasPermission(authentication, 11, Permission.CREATE_CARD);
+    }
+
+    @Test
+    void deniedCallIsNotProceeded() throws Throwable {
+        when(permissionEvaluator.hasPermission(authentication, 101, Permission.UPDATE_CARD)).thenReturn(false);
+        ProceedingJoinPoint joinPoint = joinPoint("updateCard", new Object[]{101, "body"});
+
+        assertThatThrownBy(() -> interceptor.checkPermission(joinPoint)).isInstanceOf(AccessDeniedException.class);
+
+        verify(joinPoint, never()).proceed();
+    }
+
+    @Test
+    void unknownIdParameterFailsFast() {
+        ProceedingJoinPoint joinPoint = joinPoint("misconfigured", new Object[]{101});
+
+        assertThatThrownBy(() -> interceptor.checkPermission(joinPoint)).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static ProceedingJoinPoint joinPoint(String methodName, Object[] args) {
+        Method method = findMethod(methodName);
+        MethodSignature signature = mock(MethodSignature.class);
+        when(signature.getMethod()).thenReturn(method);
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        // Derleme hatasında argümanlar hiç okunmaz
+        lenient().when(joinPoint.getArgs()).thenReturn(args);
+        return joinPoint;
+    }
+
+    private static Method findMethod(String name) {
+        for (Method method : SampleController.class.getDeclaredMethods()) {
+            if (method.getName().equals(name)) {
+                return method;
+            }
+        }
+        throw new IllegalArgumentException(name);
+    }
+
+    @SuppressWarnings("unused")
+    static class SampleController {
+
+        @RequiresPermission(resource = ResourceType.CARD, action = PermissionAction.UPDATE, id = "id")
+        public String updateCard(Integer id, String body) {
+            return body;
+        }
+
+        @RequiresPermission(resource = ResourceType.CARD, action = PermissionAction.CREATE, id = "request.listId")
+        public String createCard(CardRequest request) {
+            return "created";
+        }
+
+        @RequiresPermission(resource = ResourceType.CARD, action = PermissionAction.READ, id = "cardId")
+        public String misconfigured(Integer id) {
+            return "never";
+        }
+    }
+}
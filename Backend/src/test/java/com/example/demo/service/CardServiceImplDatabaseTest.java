@@ -0,0 +1,149 @@
+package com.example.demo.service;
+
+import com.example.demo.cache.BoardVersionRegistry;
+import com.example.demo.dto.response.CardResponse;
+import com.example.demo.model.cards.Card;
+import com.example.demo.model.checklist.Checklist;
+import com.example.demo.model.checklist_items.ChecklistItems;
+import com.example.demo.model.lists.Lists;
+import com.example.demo.repository.CardRepository;
+import com.example.demo.repository.ChecklistItemRepository;
+import com.example.demo.repository.ChecklistRepository;
+import com.example.demo.repository.ListsRepository;
+import com.example.demo.security.BoardAncestryCache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * getCardsByListId'nin gerçek bir PostgreSQL üzerinde çalıştırdığı SQL ifadelerini Hibernate
+ * istatistikleriyle sayar. CardServiceImplTest repository çağrılarını sayar; bu test ise lazy
+ * yüklemeler dahil repository katmanının altında çalışan tüm ifadeleri yakalar.
+ *
+ * Docker yoksa test atlanır.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class CardServiceImplDatabaseTest {
+
+    private static final int CHECKLISTS_PER_CARD = 3;
+    private static final int ITEMS_PER_CHECKLIST = 4;
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private ListsRepository listsRepository;
+    @Autowired
+    private CardRepository cardRepository;
+    @Autowired
+    private ChecklistRepository checklistRepository;
+    @Autowired
+    private ChecklistItemRepository checklistItemRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private CardServiceImpl cardService;
+
+    @BeforeEach
+    void setUp() {
+        BoardAncestryCache boardAncestryCache = mock(BoardAncestryCache.class);
+        BoardVersionRegistry boardVersionRegistry = mock(BoardVersionRegistry.class);
+        ChecklistService checklistService = new ChecklistService(checklistRepository, checklistItemRepository, boardAncestryCache, boardVersionRegistry);
+        cardService = new CardServiceImpl(cardRepository, listsRepository, checklistService, boardAncestryCache, boardVersionRegistry);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 50})
+    void getCardsByListIdRunsConstantNumberOfStatements(int cardCount) {
+        Integer listId = seedList(cardCount);
+        Statistics statistics = freshStatistics();
+
+        List<CardResponse> cards = cardService.getCardsByListId(listId);
+
+        assertThat(cards).hasSize(cardCount);
+        assertThat(cards).allSatisfy(card -> {
+            assertThat(card.getChecklists()).hasSize(CHECKLISTS_PER_CARD);
+            assertThat(card.getChecklists()).allSatisfy(checklist ->
+                    assertThat(checklist.getItems()).hasSize(ITEMS_PER_CHECKLIST));
+        });
+        // liste kontrolü + kartlar + checklist'ler + item'lar
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+    }
+
+    @Test
+    void getCardsByListIdSkipsChecklistStatementsForEmptyList() {
+        Integer listId = seedList(0);
+        Statistics statistics = freshStatistics();
+
+        assertThat(cardService.getCardsByListId(listId)).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    private Integer seedList(int cardCount) {
+        Lists list = new Lists();
+        list.setTitle("Liste");
+        list.setPosition(0);
+        list.setBoardId(1);
+        list.setMemberId(1);
+        Integer listId = entityManager.persistAndGetId(list, Integer.class);
+
+        for (int c = 0; c < cardCount; c++) {
+            Card card = new Card();
+            card.setTitle("Kart " + c);
+            card.setListId(listId);
+            card.setPosition(c);
+            card.setMemberId(1);
+            Integer cardId = entityManager.persistAndGetId(card, Integer.class);
+            for (int k = 0; k < CHECKLISTS_PER_CARD; k++) {
+                Checklist checklist = new Checklist();
+                checklist.setTitle("Checklist " + k);
+                checklist.setCardId(cardId);
+                checklist.setPosition(k);
+                Integer checklistId = entityManager.persistAndGetId(checklist, Integer.class);
+                for (int i = 0; i < ITEMS_PER_CHECKLIST; i++) {
+                    ChecklistItems item = new ChecklistItems();
+                    item.setChecklistId(checklistId);
+                    item.setText("Madde " + i);
+                    item.setIsCompleted(false);
+                    item.setPosition(i);
+                    entityManager.persist(item);
+                }
+            }
+        }
+        // Ölçüm persistence context'ten değil veritabanından okumalı
+        entityManager.flush();
+        entityManager.clear();
+        return listId;
+    }
+
+    private Statistics freshStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.demo.service;
+
+import com.example.demo.cache.BoardVersionRegistry;
+import com.example.demo.dto.response.CardResponse;
+import com.example.demo.model.cards.Card;
+import com.example.demo.model.checklist.Checklist;
+import com.example.demo.model.checklist_items.ChecklistItems;
+import com.example.demo.model.lists.Lists;
+import com.example.demo.repository.CardRepository;
+import com.example.demo.repository.ChecklistItemRepository;
+import com.example.demo.repository.ChecklistRepository;
+import com.example.demo.repository.ListsRepository;
+import com.example.demo.security.BoardAncestryCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * getCardsByListId'nin kart ve checklist sayısından bağımsız olarak sabit sayıda sorgu çalıştırdığını doğrular.
+ * Her repository çağrısı bir SQL ifadesine karşılık geldiği için mock'lardaki çağrı sayısı sorgu sayısı olarak sayılır.
+ * Repository katmanının altındaki ifadeler (lazy yüklemeler vb.) CardServiceImplDatabaseTest'te gerçek veritabanında sayılır.
+ */
+@ExtendWith(MockitoExtension.class)
+class CardServiceImplTest {
+
+    private static final Integer LIST_ID = 1;
+    private static final int CHECKLISTS_PER_CARD = 3;
+    private static final int ITEMS_PER_CHECKLIST = 4;
+
+    @Mock
+    private CardRepository cardRepository;
+    @Mock
+    private ListsRepository listsRepository;
+    @Mock
+    private ChecklistRepository checklistRepository;
+    @Mock
+    private ChecklistItemRepository checklistItemRepository;
+    @Mock
+    private BoardAncestryCache boardAncestryCache;
+    @Mock
+    private BoardVersionRegistry boardVersionRegistry;
+
+    private CardServiceImpl cardService;
+
+    @BeforeEach
+    void setUp() {
+        ChecklistService checklistService = new ChecklistService(checklistRepository, checklistItemRepository, boardAncestryCache, boardVersionRegistry);
+        cardService = new CardServiceImpl(cardRepository, listsRepository, checklistService, boardAncestryCache, boardVersionRegistry);
+        when(listsRepository.findById(LIST_ID)).thenReturn(Optional.of(new Lists()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 200})
+    void getCardsByListIdRunsConstantNumberOfQueries(int cardCount) {
+        stubList(cardCount);
+
+        List<CardResponse> cards = cardService.getCardsByListId(LIST_ID);
+
+        assertThat(cards).hasSize(cardCount);
+        assertThat(cards).allSatisfy(card -> {
+            assertThat(card.getChecklists()).hasSize(CHECKLISTS_PER_CARD);
+            assertThat(card.getChecklists()).allSatisfy(checklist -> {
+                assertThat(checklist.getCardId()).isEqualTo(card.getCardId());
+                assertThat(checklist.getItems()).hasSize(ITEMS_PER_CHECKLIST);
+            });
+        });
+        // liste kontrolü + kartlar + checklist'ler + item'lar
+        assertThat(queryCount()).isEqualTo(4);
+        verify(checklistRepository, never()).findByCardIdOrderByPositionAsc(any());
+        verify(checklistItemRepository, never()).findByChecklistIdOrderByPositionAsc(any());
+    }
+
+    @Test
+    void getCardsByListIdSkipsChecklistQueriesForEmptyList() {
+        when(cardRepository.findByListIdOrderByPosition(LIST_ID)).thenReturn(List.of());
+
+        assertThat(cardService.getCardsByListId(LIST_ID)).isEmpty();
+        assertThat(queryCount()).isEqualTo(2);
+    }
+
+    private void stubList(int cardCount) {
+        List<Card> cards = new ArrayList<>();
+        List<Checklist> checklists = new ArrayList<>();
+        List<ChecklistItems> items = new ArrayList<>();
+        for (int c = 0; c < cardCount; c++) {
+            Card card = new Card();
+            card.setCardId(c + 1);
+            card.setListId(LIST_ID);
+            card.setPosition(c);
+            cards.add(card);
+            for (int k = 0; k < CHECKLISTS_PER_CARD; k++) {
+                Checklist checklist = new Checklist();
+                checklist.setChecklistId(checklists.size() + 1);
+                checklist.setCardId(card.getCardId());
+                checklist.setPosition(k);
+                checklists.add(checklist);
+                for (int i = 0; i < ITEMS_PER_CHECKLIST; i++) {
+                    ChecklistItems item = new ChecklistItems();
+                    item.setChecklistItemsId(items.size() + 1);
+                    item.setChecklistId(checklist.getChecklistId());
+                    item.setPosition(i);
+                    items.add(item);
+                }
+            }
+        }
+        when(cardRepository.findByListIdOrderByPosition(LIST_ID)).thenReturn(cards);
+        when(checklistRepository.findByCardIdInOrderByCardIdAscPositionAsc(anyCollection())).thenAnswer(invocation -> {
+            Collection<Integer> cardIds = invocation.getArgument(0);
+            return checklists.stream().filter(ch -> cardIds.contains(ch.getCardId())).toList();
+        });
+        when(checklistItemRepository.findByChecklistIdInOrderByChecklistIdAscPositionAsc(anyCollection())).thenAnswer(invocation -> {
+            Collection<Integer> checklistIds = invocation.getArgument(0);
+            return items.stream().filter(ci -> checklistIds.contains(ci.getChecklistId())).toList();
+        });
+    }
+
+    private int queryCount() {
+        return mockingDetails(cardRepository).getInvocations().size()
+                + mockingDetails(listsRepository).getInvocations().size()
+                + mockingDetails(checklistRepository).getInvocations().size()
+                + mockingDetails(checklistItemRepository).getInvocations().size();
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.request.LogSearchRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * CSV dışa aktarımında kullanıcıdan gelen alanların elektronik tabloda formül olarak
+ * çalışmayacak şekilde yazıldığını doğrular.
+ */
+class LogExportServiceTest {
+
+    @Test
+    void csvCellsStartingWithFormulaCharactersAreNeutralised() throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.next()).thenReturn(true, false);
+        when(rs.getLong("id")).thenReturn(1L);
+        when(rs.getString(anyString())).thenReturn(null);
+        when(rs.getString("log_level")).thenReturn("INFO");
+        when(rs.getString("message")).thenReturn("=HYPERLINK(\"http://evil\",\"tıkla\")");
+        when(rs.getString("source")).thenReturn("+cmd");
+        when(rs.getString("exception")).thenReturn("-1+2");
+        when(rs.getString("request_path")).thenReturn("@SUM(A1)");
+        when(rs.getString("ip_address")).thenReturn("10.0.0.1");
+        when(rs.getObject("timestamp", OffsetDateTime.class))
+                .thenReturn(OffsetDateTime.of(2024, 1, 2, 3, 4, 5, 0, ZoneOffset.UTC));
+        when(rs.wasNull()).thenReturn(true);
+
+        String csv = exportCsv(rs);
+
+        assertThat(csv.split("\r\n")[1]).isEqualTo(
+                "1,INFO,\"'=HYPERLINK(\"\"http://evil\"\",\"\"tıkla\"\")\",2024-01-02T03:04:05Z,'+cmd,'-1+2,,,10.0.0.1,'@SUM(A1),");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String exportCsv(ResultSet rs) throws Exception {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(ResultSetExtractor.class)))
+                .thenAnswer(invocation -> invocation.<ResultSetExtractor<Long>>getArgument(1).extractData(rs));
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        LogExportService service = new LogExportService(jdbcTemplate, transactionManager, new ObjectMapper(), 100);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.export(new LogSearchRequest(), LogExportService.Format.CSV, false, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -5,13 +5,18 @@ import { toast } from 'react-toastify';
 import { ThemeContext } from '../App';
 import '../components/css/Admin.css';
 import '../components/css/Table.css';
-import { getLogs } from '../services/api';
+import { searchLogs } from '../services/api';
 
 const AdminLogs = () => {
     const { t } = useTranslation();
     const { theme } = useContext(ThemeContext);
     const [logs, setLogs] = useState([]);
     const [isLoading, setIsLoading] = useState(true);
+    // Cursor for the next page; null when the last page has been loaded
+    const [nextCursor, setNextCursor] = useState(null);
+    const [isLoadingMore, setIsLoadingMore] = useState(false);
+    // Filters the loaded pages were fetched with; the cursor is only valid for these
+    const [activeFilters, setActiveFilters] = useState({});
     // State to manage filters
     const [filters, setFilters] = useState({
         source: '',
@@ -67,21 +72,18 @@ const AdminLogs = () => {
                 }
             }
             
-            // Construct URL search params from the finalFilters object
-            const queryString = new URLSearchParams(finalFilters).toString();
-            const apiUrl = `http://localhost:8080/logs?${queryString}`;
-            
-            // Log the final filters and the constructed URL to the console
+            // Log the final filters to the console
             console.log("Backend'e gönderilen son filtreler:", finalFilters);
-            console.log("Oluşturulan API URL'si:", apiUrl);
             
-            // Call to your backend API. Assumes `getLogs` handles the full URL.
-            const fetchedLogs = await getLogs(finalFilters);
+            // First page of the keyset-paginated search
+            const page = await searchLogs(finalFilters);
             
             // Log the data received from the backend
-            console.log("Backend'den alınan loglar:", fetchedLogs);
+            console.log("Backend'den alınan loglar:", page.items);
             
-            setLogs(fetchedLogs);
+            setLogs(page.items);
+            setNextCursor(page.nextCursor);
+            setActiveFilters(finalFilters);
             toast.success(t('logs_loaded_successfully'));
         } catch (error) {
             console.error('An error occurred while fetching logs:', error);
@@ -107,6 +109,24 @@ const AdminLogs = () => {
         }
     };
 
+    // Appends the next page, using the same filters as the pages already shown
+    const loadMoreLogs = async () => {
+        if (!nextCursor) {
+            return;
+        }
+        setIsLoadingMore(true);
+        try {
+            const page = await searchLogs(activeFilters, nextCursor);
+            setLogs(prevLogs => [...prevLogs, ...page.items]);
+            setNextCursor(page.nextCursor);
+        } catch (error) {
+            // searchLogs already shows the error toast
+            console.error('An error occurred while loading more logs:', error);
+        } finally {
+            setIsLoadingMore(false);
+        }
+    };
+
     const handleFilterChange = (e) => {
         const { name, value } = e.target;
         setFilters(prevFilters => ({
@@ -263,6 +283,17 @@ const AdminLogs = () => {
                             ))}
                         </tbody>
                     </table>
+                    {nextCursor && (
+                        <div style={{ textAlign: 'center', padding: '16px' }}>
+                            <Button
+                                variant="outlined"
+                                onClick={loadMoreLogs}
+                                disabled={isLoadingMore}
+                            >
+                                {isLoadingMore ? <CircularProgress size={20} /> : t('logs.load_more')}
+                            </Button>
+                        </div>
+                    )}
                 </Paper>
             ) : (
                 <p style={{ color: theme === 'dark' ? '#ffffff' : '#000000', textAlign: 'center', marginTop: '20px' }}>
@@ -18,8 +18,7 @@ import {
     createList,
     deleteCard,
     deleteList,
-    getCardsByListId,
-    getListsByBoard
+    getBoardSnapshot
 } from '../services/api';
 
 export default function BoardPage() {
@@ -51,30 +50,22 @@ export default function BoardPage() {
         setLoading(true);
         setError(null);
         try {
-            // Adım 1: Listeleri API'den çek
-            const listsData = await getListsByBoard(boardId);
-            console.log("API'den gelen listeler:", listsData);
+            // Board'un listelerini ve tüm kartlarını tek istekte çek
+            const snapshot = await getBoardSnapshot(boardId);
 
-            // Adım 2: Her bir liste için kartları çekme işlemini Promise ile yönet
-            const listsWithCardsPromises = listsData.map(async (list) => {
-                try {
-                    const cards = await getCardsByListId(list.listId);
-                    console.log(`List ID: ${list.listId} için gelen kartlar:`, cards);
-                    return {
-                        ...list,
-                        cards: cards || [] // Kart verisini listeye ekliyoruz
-                    };
-                } catch (cardError) {
-                    console.error(`List ID ${list.listId} için kartlar çekilirken hata oluştu:`, cardError);
-                    return {
-                        ...list,
-                        cards: [] // Hata durumunda boş bir kart dizisi dön
-                    };
+            // Kartları listId'ye göre grupla; sunucu kartları position sırasıyla döner
+            const cardsByList = {};
+            snapshot.cards.forEach((card) => {
+                if (!cardsByList[card.listId]) {
+                    cardsByList[card.listId] = [];
                 }
+                cardsByList[card.listId].push(card);
             });
 
-            // Adım 3: Tüm kart çekme işlemleri bitince Promise.all ile bekle
-            const listsWithCards = await Promise.all(listsWithCardsPromises);
+            const listsWithCards = snapshot.lists.map((list) => ({
+                ...list,
+                cards: cardsByList[list.listId] || []
+            }));
             setLists(listsWithCards);
             console.log("Listeler ve kartlar başarıyla alındı.", listsWithCards);
 
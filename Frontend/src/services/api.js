@@ -125,7 +125,7 @@ export const getWorkspacesByMember = (memberId) =>
   apiClient.get(`/api/workspaces/member/${memberId}`).then((res) => res.data);
 
 // --- Logs ---
-export const getLogs = async (filters = {}) => {
+export const searchLogs = async (filters = {}, cursor = null, limit = 100) => {
   try {
     const params = new URLSearchParams();
 
@@ -138,8 +138,21 @@ export const getLogs = async (filters = {}) => {
     if (filters.memberId) {
       params.append('memberId', filters.memberId);
     }
+    if (filters.requestPathPrefix) {
+      params.append('requestPathPrefix', filters.requestPathPrefix);
+    }
+    if (filters.from) {
+      params.append('from', filters.from);
+    }
+    if (filters.to) {
+      params.append('to', filters.to);
+    }
+    if (cursor) {
+      params.append('cursor', cursor);
+    }
+    params.append('limit', limit);
 
-    const response = await apiClient.get('/api/v1/logs', { params });
+    const response = await apiClient.get('/api/v1/logs/search', { params });
     return response.data;
   } catch (error) {
     if (error.response && error.response.status === 403) {
@@ -240,6 +253,9 @@ export const promoteBoardLeader = (boardId, memberId, requesterId) =>
     })
     .then((res) => res.data);
 
+export const getBoardSnapshot = (boardId) =>
+  apiClient.get(`/api/boards/${boardId}/snapshot`).then((res) => res.data);
+
 // --- Board Members ---
 export const addBoardMember = (boardId, workspaceId, memberId, requesterId) =>
   apiClient